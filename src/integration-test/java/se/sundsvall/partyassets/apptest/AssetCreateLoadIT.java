@@ -0,0 +1,76 @@
+package se.sundsvall.partyassets.apptest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.api.model.Status.ACTIVE;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.dept44.test.AbstractAppTest;
+import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
+import se.sundsvall.partyassets.Application;
+import se.sundsvall.partyassets.api.model.AssetCreateRequest;
+import se.sundsvall.partyassets.service.AssetService;
+
+/**
+ * Creates assets concurrently against a small connection pool while the party service answers slowly. Since the party
+ * lookup runs before the insert transaction is opened, the creates are not serialized by the pool size.
+ */
+@WireMockAppTestSuite(files = "classpath:/assetCreateLoadIT/", classes = Application.class)
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=" + AssetCreateLoadIT.POOL_SIZE)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql"
+})
+class AssetCreateLoadIT extends AbstractAppTest {
+
+	static final int POOL_SIZE = 2;
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int CONCURRENT_REQUESTS = 20;
+	private static final Duration PARTY_DELAY = Duration.ofMillis(300);
+
+	@Autowired
+	private AssetService assetService;
+
+	@Test
+	void test01_createAssetsConcurrently() throws InterruptedException, ExecutionException {
+		// Loads the wiremock mappings for the test
+		setupCall();
+
+		try (final var executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS)) {
+			final var start = System.nanoTime();
+			final var futures = IntStream.range(0, CONCURRENT_REQUESTS)
+				.mapToObj(index -> executor.submit(() -> assetService.createAsset(MUNICIPALITY_ID, createRequest(index), null)))
+				.toList();
+
+			for (final Future<String> future : futures) {
+				assertThat(future.get()).isNotBlank();
+			}
+			final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+			// Holding a connection during the party lookup would serialize the creates through the pool
+			final var serializedThroughPool = PARTY_DELAY.multipliedBy(CONCURRENT_REQUESTS / POOL_SIZE);
+
+			assertThat(elapsed).isLessThan(serializedThroughPool);
+		}
+	}
+
+	private static AssetCreateRequest createRequest(final int index) {
+		return AssetCreateRequest.create()
+			.withAssetId("LOAD-%010d".formatted(index))
+			.withPartyId(UUID.randomUUID().toString())
+			.withType("PERMIT")
+			.withDescription("Bygglov")
+			.withIssued(LocalDate.of(2023, 1, 1))
+			.withValidTo(LocalDate.now().plusYears(1))
+			.withStatus(ACTIVE);
+	}
+}
@@ -0,0 +1,93 @@
+package se.sundsvall.partyassets.apptest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
+import se.sundsvall.partyassets.Application;
+
+/**
+ * Compares table/index size for random UUIDs (version 4) stored as text, as asset ids were
+ * stored before, with time-ordered UUIDs (version 7) stored as 16 bytes, as they are stored now. Each table mirrors
+ * the asset id layout: the id as primary key plus a secondary index, which in InnoDB contains the primary key as well.
+ */
+@WireMockAppTestSuite(files = "classpath:/assetsIT/", classes = Application.class)
+class AssetIdStorageBenchmarkIT {
+
+	private static final int NUMBER_OF_ROWS = 100_000;
+	private static final int BATCH_SIZE = 1_000;
+	private static final String TEXT_TABLE = "benchmark_text_id";
+	private static final String BINARY_TABLE = "benchmark_binary_id";
+
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setup() {
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table " + TEXT_TABLE + " (id varchar(255) not null, party_id varchar(255) not null, primary key (id), index idx_party_id (party_id)) engine=InnoDB");
+		jdbcTemplate.execute("create table " + BINARY_TABLE + " (id binary(16) not null, party_id varchar(255) not null, primary key (id), index idx_party_id (party_id)) engine=InnoDB");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("drop table if exists " + TEXT_TABLE);
+		jdbcTemplate.execute("drop table if exists " + BINARY_TABLE);
+	}
+
+	@Test
+	void binaryTimeOrderedIdsAreMoreCompact() {
+		insert(TEXT_TABLE, () -> UUID.randomUUID().toString());
+		insert(BINARY_TABLE, AssetIdStorageBenchmarkIT::timeOrderedUuid);
+
+		final var text = size(TEXT_TABLE);
+		final var binary = size(BINARY_TABLE);
+
+		assertThat(binary.data() + binary.index()).isLessThan(text.data() + text.index());
+	}
+
+	private void insert(final String table, final Supplier<Object> idSupplier) {
+		for (var batch = 0; batch < NUMBER_OF_ROWS / BATCH_SIZE; batch++) {
+			final var rows = new ArrayList<Object[]>(BATCH_SIZE);
+			for (var row = 0; row < BATCH_SIZE; row++) {
+				rows.add(new Object[] {
+					idSupplier.get(), UUID.randomUUID().toString()
+				});
+			}
+			jdbcTemplate.batchUpdate("insert into " + table + " (id, party_id) values (?, ?)", rows);
+		}
+	}
+
+	private TableSize size(final String table) {
+		jdbcTemplate.execute("analyze table " + table);
+		final List<TableSize> sizes = jdbcTemplate.query("select data_length, index_length from information_schema.tables where table_schema = database() and table_name = ?",
+			(resultSet, rowNum) -> new TableSize(resultSet.getLong("data_length"), resultSet.getLong("index_length")), table);
+		return sizes.getFirst();
+	}
+
+	/**
+	 * UUID version 7: 48 bit unix timestamp in milliseconds followed by version, variant and random bits.
+	 */
+	private static byte[] timeOrderedUuid() {
+		final var random = ThreadLocalRandom.current();
+		final var mostSignificantBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+		final var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return ByteBuffer.allocate(16).putLong(mostSignificantBits).putLong(leastSignificantBits).array();
+	}
+
+	private record TableSize(long data, long index) {
+	}
+}
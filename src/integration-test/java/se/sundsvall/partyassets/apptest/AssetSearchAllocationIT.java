@@ -0,0 +1,130 @@
+package se.sundsvall.partyassets.apptest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+import com.sun.management.ThreadMXBean;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
+import se.sundsvall.partyassets.Application;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.PartyType;
+import se.sundsvall.partyassets.service.mapper.AssetMapper;
+
+/**
+ * Compares heap allocated per search result when the same asset query is run with and without the read-only and MANUAL
+ * flush mode hints used by the search in {@link AssetRepository}. Allocation is measured per thread, so the result does
+ * not depend on when the garbage collector runs.
+ */
+@WireMockAppTestSuite(files = "classpath:/assetsIT/", classes = Application.class)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql"
+})
+class AssetSearchAllocationIT {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String PARTY_ID = "0d64c132-3aea-11ec-8d3d-0242ac130003";
+	private static final String QUERY = "select a from AssetEntity a where a.municipalityId = :municipalityId and a.partyId = :partyId";
+	private static final int NUMBER_OF_ASSETS = 500;
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 10;
+
+	@Autowired
+	private AssetRepository assetRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void setup() {
+		assetRepository.saveAll(IntStream.range(0, NUMBER_OF_ASSETS)
+			.mapToObj(AssetSearchAllocationIT::createAsset)
+			.toList());
+	}
+
+	@Test
+	void readOnlySearchAllocatesLessPerResult() {
+		final var transactionTemplate = new TransactionTemplate(transactionManager);
+
+		final var readOnlyBytesPerResult = allocatedBytesPerResult(() -> transactionTemplate.execute(status -> search(true)));
+		final var readWriteBytesPerResult = allocatedBytesPerResult(() -> transactionTemplate.execute(status -> search(false)));
+
+		assertThat(readOnlyBytesPerResult).isLessThan(readWriteBytesPerResult);
+	}
+
+	@Test
+	void readOnlySearchLoadsEntitiesReadOnly() {
+		final var transactionTemplate = new TransactionTemplate(transactionManager);
+
+		transactionTemplate.executeWithoutResult(status -> {
+			final var session = entityManager.unwrap(Session.class);
+			assertThat(query(true).getResultList()).allMatch(session::isReadOnly);
+			session.clear();
+			assertThat(query(false).getResultList()).noneMatch(session::isReadOnly);
+		});
+	}
+
+	private int search(final boolean readOnly) {
+		return query(readOnly).getResultList()
+			.stream()
+			.map(AssetMapper::toAsset)
+			.toList()
+			.size();
+	}
+
+	private TypedQuery<AssetEntity> query(final boolean readOnly) {
+		final var query = entityManager.createQuery(QUERY, AssetEntity.class)
+			.setParameter("municipalityId", MUNICIPALITY_ID)
+			.setParameter("partyId", PARTY_ID);
+		if (readOnly) {
+			query.setHint(HINT_READ_ONLY, true).setHint(HINT_FLUSH_MODE, "MANUAL");
+		}
+		return query;
+	}
+
+	private static long allocatedBytesPerResult(final Supplier<Integer> search) {
+		final var threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		IntStream.range(0, WARMUP_ROUNDS).forEach(round -> assertThat(search.get()).isEqualTo(NUMBER_OF_ASSETS));
+
+		final var before = threadMXBean.getCurrentThreadAllocatedBytes();
+		IntStream.range(0, MEASURED_ROUNDS).forEach(round -> search.get());
+		final var allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+		return allocated / ((long) MEASURED_ROUNDS * NUMBER_OF_ASSETS);
+	}
+
+	private static AssetEntity createAsset(final int index) {
+		return AssetEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withAssetId("BENCH-%010d".formatted(index))
+			.withOrigin("CASEDATA")
+			.withPartyId(PARTY_ID)
+			.withPartyType(PartyType.PRIVATE)
+			.withType("PERMIT")
+			.withStatus(Status.ACTIVE)
+			.withDescription("Parkeringstillstånd")
+			.withIssued(LocalDate.of(2024, 1, 1))
+			.withValidTo(LocalDate.of(2099, 12, 31))
+			.withAdditionalParameters(Map.of("first_key", "value-" + index, "second_key", "value-" + index));
+	}
+}
@@ -17,10 +17,12 @@ import static org.springframework.http.MediaType.ALL_VALUE;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.partyassets.Application;
+import se.sundsvall.partyassets.scheduler.RelationOutboxWorker;
 
 /**
  * Assets integration tests.
@@ -39,6 +41,9 @@ class AssetsIT extends AbstractAppTest {
 	private static final String RESPONSE_FILE = "response.json";
 	private static final String PATH = "/" + MUNICIPALITY_ID + "/assets";
 
+	@Autowired
+	private RelationOutboxWorker relationOutboxWorker;
+
 	@Test
 	void test01_createAssetPrivateParty() {
 		final var location = setupCall()
@@ -335,6 +340,9 @@ class AssetsIT extends AbstractAppTest {
 
 		assertThat(location).isNotNull();
 
+		// Relations are created from the outbox by a scheduled job, publish them right away
+		relationOutboxWorker.publishRelations();
+
 		setupCall()
 			.withHttpMethod(GET)
 			.withServicePath(location.getPath())
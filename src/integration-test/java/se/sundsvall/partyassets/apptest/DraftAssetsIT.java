@@ -2,10 +2,12 @@ package se.sundsvall.partyassets.apptest;
 
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.dept44.test.AbstractAppTest;
 import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
 import se.sundsvall.partyassets.Application;
+import se.sundsvall.partyassets.scheduler.RelationOutboxWorker;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -37,6 +39,9 @@ class DraftAssetsIT extends AbstractAppTest {
 	private static final String RESPONSE_FILE = "response.json";
 	private static final String PATH = "/" + MUNICIPALITY_ID + "/asset-drafts";
 
+	@Autowired
+	private RelationOutboxWorker relationOutboxWorker;
+
 	@Test
 	void test01_createDraftAssetPrivateParty() {
 		final var location = setupCall()
@@ -206,6 +211,9 @@ class DraftAssetsIT extends AbstractAppTest {
 
 		assertThat(location).isNotNull();
 
+		// Relations are created from the outbox by a scheduled job, publish them right away
+		relationOutboxWorker.publishRelations();
+
 		setupCall()
 			.withHttpMethod(GET)
 			.withServicePath(location.getPath())
@@ -0,0 +1,64 @@
+package se.sundsvall.partyassets.apptest;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.springframework.util.ClassUtils.isPresent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.DriverManager;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import se.sundsvall.partyassets.Application;
+
+/**
+ * Reports the time from start until the application is ready to accept traffic, with and without AOT. The time is
+ * logged rather than asserted, as it depends on the hardware the build runs on, and it is published as the
+ * {@value #READY_TIME_METRIC} metric so that startup regressions can be followed where the application runs. The
+ * database container is started before, and kept running during, the measurement so that only the application itself
+ * is measured.
+ * <p>
+ * The AOT measurement needs the classes generated by process-aot and only runs in the aot profile
+ * ({@code mvn -P aot verify}).
+ */
+class StartupTimeIT {
+
+	private static final Logger LOG = LoggerFactory.getLogger(StartupTimeIT.class);
+
+	private static final String DATABASE_URL = "jdbc:tc:mariadb:10.6:///ittest";
+	private static final String AOT_INITIALIZER = Application.class.getName() + "__ApplicationContextInitializer";
+	private static final String READY_TIME_METRIC = "application.ready.time";
+
+	@Test
+	void reportsStartupTime() throws Exception {
+		measureStartupTime("jvm");
+	}
+
+	@Test
+	void reportsStartupTimeWithAot() throws Exception {
+		assumeTrue(isPresent(AOT_INITIALIZER, null), "Application is not AOT processed");
+
+		System.setProperty("spring.aot.enabled", "true");
+		try {
+			measureStartupTime("aot");
+		} finally {
+			System.clearProperty("spring.aot.enabled");
+		}
+	}
+
+	private static void measureStartupTime(final String mode) throws Exception {
+		try (var _ = DriverManager.getConnection(DATABASE_URL);
+			var context = new SpringApplicationBuilder(Application.class)
+				.profiles("it")
+				.properties("server.port=0", "wiremock.server.port=0")
+				.run()) {
+
+			final var readyTime = context.getBean(MeterRegistry.class).find(READY_TIME_METRIC).timeGauge();
+
+			assertThat(readyTime).isNotNull();
+			LOG.info("Application ready in {} ms ({})", (long) readyTime.value(MILLISECONDS), mode);
+		}
+	}
+}
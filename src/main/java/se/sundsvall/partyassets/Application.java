@@ -1,12 +1,15 @@
 package se.sundsvall.partyassets;
 
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import se.sundsvall.dept44.ServiceApplication;
+import se.sundsvall.partyassets.configuration.PartyAssetsRuntimeHints;
 
 import static org.springframework.boot.SpringApplication.run;
 
 @EnableFeignClients
 @ServiceApplication
+@ImportRuntimeHints(PartyAssetsRuntimeHints.class)
 public class Application {
 	public static void main(final String... args) {
 		run(Application.class, args);
@@ -8,7 +8,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -26,11 +29,24 @@ import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.partyassets.api.model.Asset;
+import se.sundsvall.partyassets.api.model.AssetBulkDeleteRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkDeleteResult;
+import se.sundsvall.partyassets.api.model.AssetBulkStatusUpdateRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkUpdateResult;
+import se.sundsvall.partyassets.api.model.AssetChanges;
 import se.sundsvall.partyassets.api.model.AssetCreateRequest;
+import se.sundsvall.partyassets.api.model.AssetLookupRequest;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.model.AssetSummary;
 import se.sundsvall.partyassets.api.model.AssetUpdateRequest;
+import se.sundsvall.partyassets.api.model.PartyAssets;
+import se.sundsvall.partyassets.api.validation.ScopedSearch;
+import se.sundsvall.partyassets.service.AssetChangeService;
 import se.sundsvall.partyassets.service.AssetService;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 import static org.springframework.http.HttpHeaders.LOCATION;
 import static org.springframework.http.MediaType.ALL_VALUE;
@@ -39,9 +55,11 @@ import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.noContent;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.util.CollectionUtils.isEmpty;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static se.sundsvall.dept44.problem.Problem.badRequest;
 import static se.sundsvall.partyassets.api.model.Status.DRAFT;
+import static se.sundsvall.partyassets.api.validation.impl.ValidPartyFilterConstraintValidator.isScoped;
 
 @RestController
 @Validated
@@ -54,9 +72,11 @@ import static se.sundsvall.partyassets.api.model.Status.DRAFT;
 class AssetResource {
 
 	private final AssetService service;
+	private final AssetChangeService changeService;
 
-	AssetResource(final AssetService service) {
+	AssetResource(final AssetService service, final AssetChangeService changeService) {
 		this.service = service;
+		this.changeService = changeService;
 	}
 
 	@GetMapping(produces = APPLICATION_JSON_VALUE)
@@ -65,11 +85,47 @@ class AssetResource {
 	})
 	ResponseEntity<List<Asset>> getAssets(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
-		@ParameterObject @Valid final AssetSearchRequest request) {
+		@ParameterObject @Validated(ScopedSearch.class) final AssetSearchRequest request) {
 
 		return ok(service.getAssets(municipalityId, request));
 	}
 
+	@PostMapping(path = "search", consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get assets for several parties", description = "Returns the assets of all requested parties in one call, grouped per party in the order the parties were requested. Draft assets are not included", responses = {
+		@ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+	})
+	ResponseEntity<List<PartyAssets>> getAssetsForParties(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Valid @RequestBody final AssetLookupRequest request) {
+
+		return ok(service.getAssetsForParties(municipalityId, request));
+	}
+
+	@GetMapping(path = "changes", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get asset changes", description = "Returns changes made after the given cursor, oldest first. Pass the returned cursor as since in the next request. When there are no changes, the request waits up to the given number of seconds for new ones (long-poll)", responses = {
+		@ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true)
+	})
+	CompletableFuture<ResponseEntity<AssetChanges>> getChanges(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Parameter(name = "since", description = "Cursor to read changes after, 0 to read from the beginning", example = "1042") @RequestParam(defaultValue = "0") @Min(0) final long since,
+		@Parameter(name = "wait", description = "Maximum number of seconds to wait for changes when there are none", example = "20") @RequestParam(defaultValue = "0") @Min(0) final int wait) {
+
+		return changeService.getChanges(municipalityId, since, Duration.ofSeconds(wait))
+			.thenApply(ResponseEntity::ok);
+	}
+
+	@GetMapping(path = "by-asset-id/{assetId}", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get asset summary by asset id", description = "Returns a compact representation of the latest non-draft asset with the given asset id, intended for validation of e.g. permits. Responses may be cached for a short while", responses = {
+		@ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<AssetSummary> getAssetSummary(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Parameter(name = "assetId", description = "Asset id", example = "PRH-123456789") @PathVariable final String assetId) {
+
+		return ok(service.getAssetSummary(municipalityId, assetId));
+	}
+
 	@GetMapping(path = "{id}", produces = APPLICATION_JSON_VALUE)
 	@Operation(summary = "Get asset", responses = {
 		@ApiResponse(responseCode = "200", description = "OK", useReturnTypeSchema = true),
@@ -120,6 +176,42 @@ class AssetResource {
 		return noContent().build();
 	}
 
+	@PatchMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Update status of multiple assets", description = "Sets status and status reason on all non-draft assets selected by either a list of ids or a filter. Status reason is set as given, i.e. an omitted status reason clears any existing reason", responses = {
+		@ApiResponse(responseCode = "200", description = "OK - Outcome per selected asset", useReturnTypeSchema = true)
+	})
+	ResponseEntity<List<AssetBulkUpdateResult>> updateAssetStatuses(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Valid @RequestBody final AssetBulkStatusUpdateRequest request) {
+
+		if (isEmpty(request.getIds()) == isNull(request.getFilter())) {
+			throw badRequest("Exactly one of ids or filter must be provided");
+		}
+		if (request.getStatus() == DRAFT) {
+			throw badRequest("Changing asset status to {0} is not allowed when updating a regular asset", DRAFT);
+		}
+
+		return ok(service.updateAssetStatuses(municipalityId, request));
+	}
+
+	@DeleteMapping(consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Delete multiple assets", description = "Deletes all assets selected by either a list of ids or a filter. Unlike a search, the filter may select assets by origin alone. Assets are deleted in chunks, each chunk in its own transaction", responses = {
+		@ApiResponse(responseCode = "200", description = "OK - Summary of the deletion", useReturnTypeSchema = true)
+	})
+	ResponseEntity<AssetBulkDeleteResult> deleteAssets(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Valid @RequestBody final AssetBulkDeleteRequest request) {
+
+		if (isEmpty(request.getIds()) == isNull(request.getFilter())) {
+			throw badRequest("Exactly one of ids or filter must be provided");
+		}
+		if (nonNull(request.getFilter()) && !isScoped(request.getFilter()) && isBlank(request.getFilter().getOrigin())) {
+			throw badRequest("Filter must select a party, a bounded validTo range or an origin");
+		}
+
+		return ok(service.deleteAssets(municipalityId, request));
+	}
+
 	@PostMapping(path = "{id}", produces = ALL_VALUE)
 	@Operation(summary = "Copy an active asset as a draft", responses = {
 		@ApiResponse(responseCode = "201", description = "Created - Successful operation", headers = @Header(name = LOCATION, description = "Location of the created resource."), useReturnTypeSchema = true),
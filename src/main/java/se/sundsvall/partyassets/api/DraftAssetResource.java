@@ -28,6 +28,7 @@ import se.sundsvall.partyassets.api.model.Asset;
 import se.sundsvall.partyassets.api.model.AssetCreateRequest;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
 import se.sundsvall.partyassets.api.model.DraftAssetUpdateRequest;
+import se.sundsvall.partyassets.api.validation.ScopedSearch;
 import se.sundsvall.partyassets.service.AssetService;
 
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
@@ -64,7 +65,7 @@ class DraftAssetResource {
 	})
 	ResponseEntity<List<Asset>> getDraftAssets(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
-		@ParameterObject @Valid final AssetSearchRequest request) {
+		@ParameterObject @Validated(ScopedSearch.class) final AssetSearchRequest request) {
 
 		return ok(service.getDraftAssets(municipalityId, request));
 	}
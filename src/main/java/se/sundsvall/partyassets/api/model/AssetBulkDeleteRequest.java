@@ -0,0 +1,74 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+
+public class AssetBulkDeleteRequest {
+
+	@Size(max = 1000)
+	@Schema(description = "Ids of the assets to delete. Either ids or filter must be provided", examples = "[\"1c8f38a6-b492-4037-b7dc-de5bc6c629f0\"]")
+	private List<@ValidUuid String> ids;
+
+	@Valid
+	@Schema(description = "Filter selecting the assets to delete. Either ids or filter must be provided")
+	private AssetSearchRequest filter;
+
+	public static AssetBulkDeleteRequest create() {
+		return new AssetBulkDeleteRequest();
+	}
+
+	public List<String> getIds() {
+		return ids;
+	}
+
+	public void setIds(List<String> ids) {
+		this.ids = ids;
+	}
+
+	public AssetBulkDeleteRequest withIds(List<String> ids) {
+		this.ids = ids;
+		return this;
+	}
+
+	public AssetSearchRequest getFilter() {
+		return filter;
+	}
+
+	public void setFilter(AssetSearchRequest filter) {
+		this.filter = filter;
+	}
+
+	public AssetBulkDeleteRequest withFilter(AssetSearchRequest filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(filter, ids);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetBulkDeleteRequest other = (AssetBulkDeleteRequest) obj;
+		return Objects.equals(filter, other.filter) && Objects.equals(ids, other.ids);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetBulkDeleteRequest [ids=" + ids + ", filter=" + filter + "]";
+	}
+}
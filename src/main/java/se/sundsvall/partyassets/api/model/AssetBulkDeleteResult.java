@@ -0,0 +1,69 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+public class AssetBulkDeleteResult {
+
+	@Schema(description = "Number of deleted assets", examples = "42")
+	private Integer deleted;
+
+	@Schema(description = "Requested ids that did not match any asset", examples = "[\"1c8f38a6-b492-4037-b7dc-de5bc6c629f0\"]")
+	private List<String> notFoundIds;
+
+	public static AssetBulkDeleteResult create() {
+		return new AssetBulkDeleteResult();
+	}
+
+	public Integer getDeleted() {
+		return deleted;
+	}
+
+	public void setDeleted(Integer deleted) {
+		this.deleted = deleted;
+	}
+
+	public AssetBulkDeleteResult withDeleted(Integer deleted) {
+		this.deleted = deleted;
+		return this;
+	}
+
+	public List<String> getNotFoundIds() {
+		return notFoundIds;
+	}
+
+	public void setNotFoundIds(List<String> notFoundIds) {
+		this.notFoundIds = notFoundIds;
+	}
+
+	public AssetBulkDeleteResult withNotFoundIds(List<String> notFoundIds) {
+		this.notFoundIds = notFoundIds;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(deleted, notFoundIds);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetBulkDeleteResult other = (AssetBulkDeleteResult) obj;
+		return Objects.equals(deleted, other.deleted) && Objects.equals(notFoundIds, other.notFoundIds);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetBulkDeleteResult [deleted=" + deleted + ", notFoundIds=" + notFoundIds + "]";
+	}
+}
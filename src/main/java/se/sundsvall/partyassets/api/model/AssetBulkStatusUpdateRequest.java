@@ -0,0 +1,113 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.groups.ConvertGroup;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.partyassets.api.validation.ScopedSearch;
+import se.sundsvall.partyassets.api.validation.ValidStatusReason;
+
+@ValidStatusReason
+public class AssetBulkStatusUpdateRequest {
+
+	@Size(max = 1000)
+	@Schema(description = "Ids of the assets to update. Either ids or filter must be provided", examples = "[\"1c8f38a6-b492-4037-b7dc-de5bc6c629f0\"]")
+	private List<@ValidUuid String> ids;
+
+	@Valid
+	@ConvertGroup(to = ScopedSearch.class)
+	@Schema(description = "Filter selecting the assets to update. Either ids or filter must be provided")
+	private AssetSearchRequest filter;
+
+	@NotNull
+	@Schema(description = "Status to set", examples = "BLOCKED")
+	private Status status;
+
+	@Schema(description = "Status reason to set", examples = "IRREGULARITY")
+	private String statusReason;
+
+	public static AssetBulkStatusUpdateRequest create() {
+		return new AssetBulkStatusUpdateRequest();
+	}
+
+	public List<String> getIds() {
+		return ids;
+	}
+
+	public void setIds(List<String> ids) {
+		this.ids = ids;
+	}
+
+	public AssetBulkStatusUpdateRequest withIds(List<String> ids) {
+		this.ids = ids;
+		return this;
+	}
+
+	public AssetSearchRequest getFilter() {
+		return filter;
+	}
+
+	public void setFilter(AssetSearchRequest filter) {
+		this.filter = filter;
+	}
+
+	public AssetBulkStatusUpdateRequest withFilter(AssetSearchRequest filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public AssetBulkStatusUpdateRequest withStatus(Status status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getStatusReason() {
+		return statusReason;
+	}
+
+	public void setStatusReason(String statusReason) {
+		this.statusReason = statusReason;
+	}
+
+	public AssetBulkStatusUpdateRequest withStatusReason(String statusReason) {
+		this.statusReason = statusReason;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(filter, ids, status, statusReason);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetBulkStatusUpdateRequest other = (AssetBulkStatusUpdateRequest) obj;
+		return Objects.equals(filter, other.filter) && Objects.equals(ids, other.ids) && status == other.status && Objects.equals(statusReason, other.statusReason);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetBulkStatusUpdateRequest [ids=" + ids + ", filter=" + filter + ", status=" + status + ", statusReason=" + statusReason + "]";
+	}
+}
@@ -0,0 +1,68 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+public class AssetBulkUpdateResult {
+
+	@Schema(description = "Asset id", examples = "1c8f38a6-b492-4037-b7dc-de5bc6c629f0")
+	private String id;
+
+	@Schema(description = "Outcome for the asset", examples = "UPDATED")
+	private BulkOutcome outcome;
+
+	public static AssetBulkUpdateResult create() {
+		return new AssetBulkUpdateResult();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public AssetBulkUpdateResult withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public BulkOutcome getOutcome() {
+		return outcome;
+	}
+
+	public void setOutcome(BulkOutcome outcome) {
+		this.outcome = outcome;
+	}
+
+	public AssetBulkUpdateResult withOutcome(BulkOutcome outcome) {
+		this.outcome = outcome;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, outcome);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetBulkUpdateResult other = (AssetBulkUpdateResult) obj;
+		return Objects.equals(id, other.id) && outcome == other.outcome;
+	}
+
+	@Override
+	public String toString() {
+		return "AssetBulkUpdateResult [id=" + id + ", outcome=" + outcome + "]";
+	}
+}
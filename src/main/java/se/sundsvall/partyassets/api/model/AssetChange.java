@@ -0,0 +1,117 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+public class AssetChange {
+
+	@Schema(description = "Position of the change in the change log", examples = "1042")
+	private Long cursor;
+
+	@Schema(description = "Unique id of the changed asset", examples = "1c8f38a6-b492-4037-b7dc-de5bc6c629f0")
+	private String id;
+
+	@Schema(description = "Type of change", examples = "STATUS_CHANGED")
+	private AssetChangeType type;
+
+	@Schema(description = "Asset status after the change, absent for deleted assets", examples = "ACTIVE")
+	private Status status;
+
+	@Schema(description = "Timestamp when the change was made", examples = "2024-01-01T12:00:00+01:00")
+	private OffsetDateTime changed;
+
+	public static AssetChange create() {
+		return new AssetChange();
+	}
+
+	public Long getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(Long cursor) {
+		this.cursor = cursor;
+	}
+
+	public AssetChange withCursor(Long cursor) {
+		this.cursor = cursor;
+		return this;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public AssetChange withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public AssetChangeType getType() {
+		return type;
+	}
+
+	public void setType(AssetChangeType type) {
+		this.type = type;
+	}
+
+	public AssetChange withType(AssetChangeType type) {
+		this.type = type;
+		return this;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public AssetChange withStatus(Status status) {
+		this.status = status;
+		return this;
+	}
+
+	public OffsetDateTime getChanged() {
+		return changed;
+	}
+
+	public void setChanged(OffsetDateTime changed) {
+		this.changed = changed;
+	}
+
+	public AssetChange withChanged(OffsetDateTime changed) {
+		this.changed = changed;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(changed, cursor, id, status, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetChange other = (AssetChange) obj;
+		return Objects.equals(changed, other.changed) && Objects.equals(cursor, other.cursor) && Objects.equals(id, other.id) && status == other.status && type == other.type;
+	}
+
+	@Override
+	public String toString() {
+		return "AssetChange [cursor=" + cursor + ", id=" + id + ", type=" + type + ", status=" + status + ", changed=" + changed + "]";
+	}
+}
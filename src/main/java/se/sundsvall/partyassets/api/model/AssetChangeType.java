@@ -0,0 +1,8 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Type of change made to an asset", enumAsRef = true)
+public enum AssetChangeType {
+	CREATED, UPDATED, STATUS_CHANGED, EXPIRED, REPLACED, DELETED
+}
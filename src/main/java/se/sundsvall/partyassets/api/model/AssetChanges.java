@@ -0,0 +1,69 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+public class AssetChanges {
+
+	@Schema(description = "Changes after the requested cursor, oldest first")
+	private List<AssetChange> changes;
+
+	@Schema(description = "Cursor to pass as since in the next request", examples = "1042")
+	private Long cursor;
+
+	public static AssetChanges create() {
+		return new AssetChanges();
+	}
+
+	public List<AssetChange> getChanges() {
+		return changes;
+	}
+
+	public void setChanges(List<AssetChange> changes) {
+		this.changes = changes;
+	}
+
+	public AssetChanges withChanges(List<AssetChange> changes) {
+		this.changes = changes;
+		return this;
+	}
+
+	public Long getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(Long cursor) {
+		this.cursor = cursor;
+	}
+
+	public AssetChanges withCursor(Long cursor) {
+		this.cursor = cursor;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(changes, cursor);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetChanges other = (AssetChanges) obj;
+		return Objects.equals(changes, other.changes) && Objects.equals(cursor, other.cursor);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetChanges [changes=" + changes + ", cursor=" + cursor + "]";
+	}
+}
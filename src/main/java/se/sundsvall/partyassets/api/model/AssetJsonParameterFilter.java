@@ -0,0 +1,91 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import java.util.Objects;
+
+public class AssetJsonParameterFilter {
+
+	@NotBlank
+	@Schema(description = "Key of the JSON parameter to filter on", examples = "personParameter")
+	private String key;
+
+	@NotBlank
+	@Pattern(regexp = "^\\$(\\.[A-Za-z0-9_]+|\\[\\d+])*$", message = "must be a JSON path to a single value, e.g. $.address.city or $.items[0].name")
+	@Schema(description = "JSON path to the value inside the JSON parameter", examples = "$.firstName")
+	private String jsonPath;
+
+	@NotNull
+	@Schema(description = "Value that the JSON path must match", examples = "Joe")
+	private String value;
+
+	public static AssetJsonParameterFilter create() {
+		return new AssetJsonParameterFilter();
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	public AssetJsonParameterFilter withKey(String key) {
+		this.key = key;
+		return this;
+	}
+
+	public String getJsonPath() {
+		return jsonPath;
+	}
+
+	public void setJsonPath(String jsonPath) {
+		this.jsonPath = jsonPath;
+	}
+
+	public AssetJsonParameterFilter withJsonPath(String jsonPath) {
+		this.jsonPath = jsonPath;
+		return this;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	public AssetJsonParameterFilter withValue(String value) {
+		this.value = value;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(jsonPath, key, value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetJsonParameterFilter other = (AssetJsonParameterFilter) obj;
+		return Objects.equals(jsonPath, other.jsonPath) && Objects.equals(key, other.key) && Objects.equals(value, other.value);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetJsonParameterFilter [key=" + key + ", jsonPath=" + jsonPath + ", value=" + value + "]";
+	}
+}
@@ -0,0 +1,75 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+
+public class AssetLookupRequest {
+
+	@NotEmpty
+	@Size(min = 1, max = 100)
+	@Schema(description = "Ids of the parties to get assets for", examples = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+	private List<@ValidUuid String> partyIds;
+
+	@Size(max = 100)
+	@Schema(description = "External asset ids (e.g. PRH-123456789). When provided, only assets with any of these ids are returned", examples = "[\"PRH-123456789\"]")
+	private List<String> assetIds;
+
+	public static AssetLookupRequest create() {
+		return new AssetLookupRequest();
+	}
+
+	public List<String> getPartyIds() {
+		return partyIds;
+	}
+
+	public void setPartyIds(List<String> partyIds) {
+		this.partyIds = partyIds;
+	}
+
+	public AssetLookupRequest withPartyIds(List<String> partyIds) {
+		this.partyIds = partyIds;
+		return this;
+	}
+
+	public List<String> getAssetIds() {
+		return assetIds;
+	}
+
+	public void setAssetIds(List<String> assetIds) {
+		this.assetIds = assetIds;
+	}
+
+	public AssetLookupRequest withAssetIds(List<String> assetIds) {
+		this.assetIds = assetIds;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(assetIds, partyIds);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetLookupRequest other = (AssetLookupRequest) obj;
+		return Objects.equals(assetIds, other.assetIds) && Objects.equals(partyIds, other.partyIds);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetLookupRequest [partyIds=" + partyIds + ", assetIds=" + assetIds + "]";
+	}
+}
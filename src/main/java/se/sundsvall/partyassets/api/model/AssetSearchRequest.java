@@ -1,13 +1,21 @@
 package se.sundsvall.partyassets.api.model;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
 import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.partyassets.api.validation.ScopedSearch;
+import se.sundsvall.partyassets.api.validation.ValidPartyFilter;
 
-import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE_TIME;
 
+@ValidPartyFilter(groups = ScopedSearch.class)
 public class AssetSearchRequest {
 
 	@Schema(description = "External asset id (e.g. PRH-123456789) used as an identifier by external systems", examples = "PRH-123456789")
@@ -16,22 +24,44 @@ public class AssetSearchRequest {
 	@Schema(description = "Source of origin for the asset", examples = "CASEDATA")
 	private String origin;
 
-	@ValidUuid
-	@Schema(description = "PartyId", examples = "123e4567-e89b-12d3-a456-426614174000", requiredMode = REQUIRED)
+	@ValidUuid(nullable = true)
+	@Schema(description = "PartyId. Required unless partyIds or both validToFrom and validToUntil are provided", examples = "123e4567-e89b-12d3-a456-426614174000")
 	private String partyId;
 
+	@Size(max = 100)
+	@Schema(description = "PartyIds, matches assets belonging to any of the parties. Required unless partyId or both validToFrom and validToUntil are provided", examples = "[\"123e4567-e89b-12d3-a456-426614174000\"]")
+	private List<@ValidUuid String> partyIds;
+
 	@Schema(description = "Asset type", examples = "PERMIT")
 	private String type;
 
+	@Schema(description = "Asset types, matches assets of any of the types", examples = "[\"PERMIT\"]")
+	private List<String> types;
+
 	@Schema(description = "Issued date", examples = "2021-01-01")
 	private LocalDate issued;
 
+	@Schema(description = "Only assets issued on or after this date", examples = "2021-01-01")
+	private LocalDate issuedFrom;
+
+	@Schema(description = "Only assets issued on or before this date", examples = "2021-12-31")
+	private LocalDate issuedUntil;
+
 	@Schema(description = "Valid to date", examples = "2021-12-31")
 	private LocalDate validTo;
 
+	@Schema(description = "Only assets valid to this date or later", examples = "2021-01-01")
+	private LocalDate validToFrom;
+
+	@Schema(description = "Only assets valid to this date or earlier", examples = "2021-12-31")
+	private LocalDate validToUntil;
+
 	@Schema(description = "Asset status", examples = "ACTIVE")
 	private Status status;
 
+	@Schema(description = "Asset statuses, matches assets having any of the statuses", examples = "[\"ACTIVE\", \"TEMPORARY\"]")
+	private List<Status> statuses;
+
 	@Schema(description = "Status reason", examples = "Status reason")
 	private String statusReason;
 
@@ -41,6 +71,26 @@ public class AssetSearchRequest {
 	@Schema(description = "Additional parameters", examples = "{\"foo\":\"bar\"}")
 	private Map<String, String> additionalParameters;
 
+	@Schema(description = "How additionalParameters are matched, defaults to ANY", examples = "ALL")
+	private ParameterMatchMode additionalParametersMatchMode;
+
+	@Schema(description = "Filters on values inside JSON parameters, passed as jsonParameters[n].key, jsonParameters[n].jsonPath and jsonParameters[n].value. All filters must match.")
+	private List<@Valid AssetJsonParameterFilter> jsonParameters;
+
+	@DateTimeFormat(iso = DATE_TIME)
+	@Schema(description = "Only assets created after this point in time", examples = "2024-01-01T00:00:00+01:00")
+	private OffsetDateTime createdAfter;
+
+	@DateTimeFormat(iso = DATE_TIME)
+	@Schema(description = "Only assets updated after this point in time. Assets that have not been updated since they were created are matched on their creation time", examples = "2024-01-01T00:00:00+01:00")
+	private OffsetDateTime updatedAfter;
+
+	@Schema(description = "Attribute to sort the result on. The result is unsorted if not provided", examples = "VALID_TO")
+	private AssetSortField sortBy;
+
+	@Schema(description = "Sort direction, defaults to ASC", examples = "DESC")
+	private SortDirection sortDirection;
+
 	public static AssetSearchRequest create() {
 		return new AssetSearchRequest();
 	}
@@ -84,6 +134,19 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public List<String> getPartyIds() {
+		return partyIds;
+	}
+
+	public void setPartyIds(List<String> partyIds) {
+		this.partyIds = partyIds;
+	}
+
+	public AssetSearchRequest withPartyIds(List<String> partyIds) {
+		this.partyIds = partyIds;
+		return this;
+	}
+
 	public String getType() {
 		return type;
 	}
@@ -97,6 +160,19 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public List<String> getTypes() {
+		return types;
+	}
+
+	public void setTypes(List<String> types) {
+		this.types = types;
+	}
+
+	public AssetSearchRequest withTypes(List<String> types) {
+		this.types = types;
+		return this;
+	}
+
 	public LocalDate getIssued() {
 		return issued;
 	}
@@ -110,6 +186,32 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public LocalDate getIssuedFrom() {
+		return issuedFrom;
+	}
+
+	public void setIssuedFrom(LocalDate issuedFrom) {
+		this.issuedFrom = issuedFrom;
+	}
+
+	public AssetSearchRequest withIssuedFrom(LocalDate issuedFrom) {
+		this.issuedFrom = issuedFrom;
+		return this;
+	}
+
+	public LocalDate getIssuedUntil() {
+		return issuedUntil;
+	}
+
+	public void setIssuedUntil(LocalDate issuedUntil) {
+		this.issuedUntil = issuedUntil;
+	}
+
+	public AssetSearchRequest withIssuedUntil(LocalDate issuedUntil) {
+		this.issuedUntil = issuedUntil;
+		return this;
+	}
+
 	public LocalDate getValidTo() {
 		return validTo;
 	}
@@ -123,6 +225,32 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public LocalDate getValidToFrom() {
+		return validToFrom;
+	}
+
+	public void setValidToFrom(LocalDate validToFrom) {
+		this.validToFrom = validToFrom;
+	}
+
+	public AssetSearchRequest withValidToFrom(LocalDate validToFrom) {
+		this.validToFrom = validToFrom;
+		return this;
+	}
+
+	public LocalDate getValidToUntil() {
+		return validToUntil;
+	}
+
+	public void setValidToUntil(LocalDate validToUntil) {
+		this.validToUntil = validToUntil;
+	}
+
+	public AssetSearchRequest withValidToUntil(LocalDate validToUntil) {
+		this.validToUntil = validToUntil;
+		return this;
+	}
+
 	public Status getStatus() {
 		return status;
 	}
@@ -136,6 +264,19 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public List<Status> getStatuses() {
+		return statuses;
+	}
+
+	public void setStatuses(List<Status> statuses) {
+		this.statuses = statuses;
+	}
+
+	public AssetSearchRequest withStatuses(List<Status> statuses) {
+		this.statuses = statuses;
+		return this;
+	}
+
 	public String getStatusReason() {
 		return statusReason;
 	}
@@ -175,9 +316,88 @@ public class AssetSearchRequest {
 		return this;
 	}
 
+	public ParameterMatchMode getAdditionalParametersMatchMode() {
+		return additionalParametersMatchMode;
+	}
+
+	public void setAdditionalParametersMatchMode(ParameterMatchMode additionalParametersMatchMode) {
+		this.additionalParametersMatchMode = additionalParametersMatchMode;
+	}
+
+	public AssetSearchRequest withAdditionalParametersMatchMode(ParameterMatchMode additionalParametersMatchMode) {
+		this.additionalParametersMatchMode = additionalParametersMatchMode;
+		return this;
+	}
+
+	public List<AssetJsonParameterFilter> getJsonParameters() {
+		return jsonParameters;
+	}
+
+	public void setJsonParameters(List<AssetJsonParameterFilter> jsonParameters) {
+		this.jsonParameters = jsonParameters;
+	}
+
+	public AssetSearchRequest withJsonParameters(List<AssetJsonParameterFilter> jsonParameters) {
+		this.jsonParameters = jsonParameters;
+		return this;
+	}
+
+	public OffsetDateTime getCreatedAfter() {
+		return createdAfter;
+	}
+
+	public void setCreatedAfter(OffsetDateTime createdAfter) {
+		this.createdAfter = createdAfter;
+	}
+
+	public AssetSearchRequest withCreatedAfter(OffsetDateTime createdAfter) {
+		this.createdAfter = createdAfter;
+		return this;
+	}
+
+	public OffsetDateTime getUpdatedAfter() {
+		return updatedAfter;
+	}
+
+	public void setUpdatedAfter(OffsetDateTime updatedAfter) {
+		this.updatedAfter = updatedAfter;
+	}
+
+	public AssetSearchRequest withUpdatedAfter(OffsetDateTime updatedAfter) {
+		this.updatedAfter = updatedAfter;
+		return this;
+	}
+
+	public AssetSortField getSortBy() {
+		return sortBy;
+	}
+
+	public void setSortBy(AssetSortField sortBy) {
+		this.sortBy = sortBy;
+	}
+
+	public AssetSearchRequest withSortBy(AssetSortField sortBy) {
+		this.sortBy = sortBy;
+		return this;
+	}
+
+	public SortDirection getSortDirection() {
+		return sortDirection;
+	}
+
+	public void setSortDirection(SortDirection sortDirection) {
+		this.sortDirection = sortDirection;
+	}
+
+	public AssetSearchRequest withSortDirection(SortDirection sortDirection) {
+		this.sortDirection = sortDirection;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(additionalParameters, assetId, description, issued, origin, partyId, status, statusReason, type, validTo);
+		return Objects.hash(additionalParameters, additionalParametersMatchMode, assetId, createdAfter, description, issued, issuedFrom, issuedUntil, jsonParameters, origin, partyId, partyIds, sortBy, sortDirection, status, statusReason, statuses,
+			type, types, updatedAfter, validTo, validToFrom, validToUntil);
 	}
 
 	@Override
@@ -189,15 +409,21 @@ public class AssetSearchRequest {
 			return false;
 		}
 		AssetSearchRequest other = (AssetSearchRequest) obj;
-		return Objects.equals(additionalParameters, other.additionalParameters) && Objects.equals(assetId, other.assetId) && Objects.equals(description, other.description) && Objects.equals(issued, other.issued) && Objects.equals(origin,
-			other.origin) && Objects.equals(partyId, other.partyId) && status == other.status && Objects.equals(statusReason, other.statusReason) && Objects.equals(type, other.type) && Objects.equals(validTo, other.validTo);
+		return Objects.equals(additionalParameters, other.additionalParameters) && additionalParametersMatchMode == other.additionalParametersMatchMode && Objects.equals(assetId, other.assetId) && Objects.equals(createdAfter, other.createdAfter) && Objects.equals(description, other.description)
+			&& Objects.equals(issued, other.issued) && Objects.equals(issuedFrom, other.issuedFrom) && Objects.equals(issuedUntil, other.issuedUntil) && Objects.equals(jsonParameters, other.jsonParameters) && Objects.equals(origin, other.origin)
+			&& Objects.equals(partyId, other.partyId) && Objects.equals(partyIds, other.partyIds) && sortBy == other.sortBy && sortDirection == other.sortDirection && status == other.status && Objects.equals(statusReason, other.statusReason)
+			&& Objects.equals(statuses, other.statuses) && Objects.equals(type, other.type) && Objects.equals(types, other.types) && Objects.equals(updatedAfter, other.updatedAfter) && Objects.equals(validTo, other.validTo)
+			&& Objects.equals(validToFrom, other.validToFrom) && Objects.equals(validToUntil, other.validToUntil);
 	}
 
 	@Override
 	public String toString() {
 		StringBuilder builder = new StringBuilder();
-		builder.append("AssetSearchRequest [assetId=").append(assetId).append(", origin=").append(origin).append(", partyId=").append(partyId).append(", type=").append(type).append(", issued=").append(issued).append(", validTo=").append(validTo)
-			.append(", status=").append(status).append(", statusReason=").append(statusReason).append(", description=").append(description).append(", additionalParameters=").append(additionalParameters).append("]");
+		builder.append("AssetSearchRequest [assetId=").append(assetId).append(", origin=").append(origin).append(", partyId=").append(partyId).append(", partyIds=").append(partyIds).append(", type=").append(type).append(", types=").append(types)
+			.append(", issued=").append(issued).append(", issuedFrom=").append(issuedFrom).append(", issuedUntil=").append(issuedUntil).append(", validTo=").append(validTo).append(", validToFrom=").append(validToFrom).append(", validToUntil=")
+			.append(validToUntil).append(", status=").append(status).append(", statuses=").append(statuses).append(", statusReason=").append(statusReason).append(", description=").append(description).append(", additionalParameters=")
+			.append(additionalParameters).append(", additionalParametersMatchMode=").append(additionalParametersMatchMode).append(", jsonParameters=").append(jsonParameters).append(", createdAfter=").append(createdAfter).append(", updatedAfter=")
+			.append(updatedAfter).append(", sortBy=").append(sortBy).append(", sortDirection=").append(sortDirection).append("]");
 		return builder.toString();
 	}
 }
@@ -0,0 +1,8 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Attribute to sort assets on", enumAsRef = true)
+public enum AssetSortField {
+	ASSET_ID, TYPE, STATUS, ISSUED, VALID_TO, CREATED, UPDATED
+}
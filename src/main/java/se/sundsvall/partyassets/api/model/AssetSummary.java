@@ -0,0 +1,150 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Schema(description = "Compact representation of an asset, holding what is needed to validate it")
+public class AssetSummary {
+
+	@Schema(description = "Unique id of asset", examples = "1c8f38a6-b492-4037-b7dc-de5bc6c629f0")
+	private String id;
+
+	@Schema(description = "External asset id (e.g. PRH-123456789) used as an identifier by external systems", examples = "PRH-123456789")
+	private String assetId;
+
+	@Schema(description = "Asset type", examples = "PERMIT")
+	private String type;
+
+	@Schema(description = "Asset status", examples = "ACTIVE")
+	private Status status;
+
+	@Schema(description = "Status reason", examples = "Status reason")
+	private String statusReason;
+
+	@Schema(description = "Issued date", examples = "2021-01-01")
+	private LocalDate issued;
+
+	@Schema(description = "Valid to date", examples = "2021-12-31")
+	private LocalDate validTo;
+
+	public static AssetSummary create() {
+		return new AssetSummary();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public AssetSummary withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getAssetId() {
+		return assetId;
+	}
+
+	public void setAssetId(String assetId) {
+		this.assetId = assetId;
+	}
+
+	public AssetSummary withAssetId(String assetId) {
+		this.assetId = assetId;
+		return this;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public AssetSummary withType(String type) {
+		this.type = type;
+		return this;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(Status status) {
+		this.status = status;
+	}
+
+	public AssetSummary withStatus(Status status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getStatusReason() {
+		return statusReason;
+	}
+
+	public void setStatusReason(String statusReason) {
+		this.statusReason = statusReason;
+	}
+
+	public AssetSummary withStatusReason(String statusReason) {
+		this.statusReason = statusReason;
+		return this;
+	}
+
+	public LocalDate getIssued() {
+		return issued;
+	}
+
+	public void setIssued(LocalDate issued) {
+		this.issued = issued;
+	}
+
+	public AssetSummary withIssued(LocalDate issued) {
+		this.issued = issued;
+		return this;
+	}
+
+	public LocalDate getValidTo() {
+		return validTo;
+	}
+
+	public void setValidTo(LocalDate validTo) {
+		this.validTo = validTo;
+	}
+
+	public AssetSummary withValidTo(LocalDate validTo) {
+		this.validTo = validTo;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(assetId, id, issued, status, statusReason, type, validTo);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetSummary other = (AssetSummary) obj;
+		return Objects.equals(assetId, other.assetId) && Objects.equals(id, other.id) && Objects.equals(issued, other.issued) && status == other.status && Objects.equals(statusReason, other.statusReason) && Objects.equals(type, other.type) && Objects.equals(validTo, other.validTo);
+	}
+
+	@Override
+	public String toString() {
+		return "AssetSummary [id=" + id + ", assetId=" + assetId + ", type=" + type + ", status=" + status + ", statusReason=" + statusReason + ", issued=" + issued + ", validTo=" + validTo + "]";
+	}
+}
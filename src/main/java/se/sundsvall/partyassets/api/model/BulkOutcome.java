@@ -0,0 +1,8 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome for an asset in a bulk operation", enumAsRef = true)
+public enum BulkOutcome {
+	UPDATED, UNCHANGED, NOT_FOUND
+}
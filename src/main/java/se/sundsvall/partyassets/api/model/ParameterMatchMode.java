@@ -0,0 +1,8 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How multiple additional parameters are matched. ANY matches assets having at least one of the parameters, ALL matches assets having every parameter.", enumAsRef = true)
+public enum ParameterMatchMode {
+	ANY, ALL
+}
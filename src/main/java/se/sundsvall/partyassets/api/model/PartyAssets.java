@@ -0,0 +1,69 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+public class PartyAssets {
+
+	@Schema(description = "PartyId", examples = "123e4567-e89b-12d3-a456-426614174000")
+	private String partyId;
+
+	@Schema(description = "Assets belonging to the party")
+	private List<Asset> assets;
+
+	public static PartyAssets create() {
+		return new PartyAssets();
+	}
+
+	public String getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(String partyId) {
+		this.partyId = partyId;
+	}
+
+	public PartyAssets withPartyId(String partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public List<Asset> getAssets() {
+		return assets;
+	}
+
+	public void setAssets(List<Asset> assets) {
+		this.assets = assets;
+	}
+
+	public PartyAssets withAssets(List<Asset> assets) {
+		this.assets = assets;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(assets, partyId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		PartyAssets other = (PartyAssets) obj;
+		return Objects.equals(assets, other.assets) && Objects.equals(partyId, other.partyId);
+	}
+
+	@Override
+	public String toString() {
+		return "PartyAssets [partyId=" + partyId + ", assets=" + assets + "]";
+	}
+}
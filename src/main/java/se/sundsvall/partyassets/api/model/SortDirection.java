@@ -0,0 +1,8 @@
+package se.sundsvall.partyassets.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Sort direction, ASC for ascending and DESC for descending order", enumAsRef = true)
+public enum SortDirection {
+	ASC, DESC
+}
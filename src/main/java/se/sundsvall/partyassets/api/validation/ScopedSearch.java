@@ -0,0 +1,10 @@
+package se.sundsvall.partyassets.api.validation;
+
+import jakarta.validation.groups.Default;
+
+/**
+ * Validation group for searches that must be scoped as described by {@link ValidPartyFilter}. It extends the default
+ * group, so validating it validates all other constraints as well.
+ */
+public interface ScopedSearch extends Default {
+}
@@ -0,0 +1,31 @@
+package se.sundsvall.partyassets.api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import se.sundsvall.partyassets.api.validation.impl.ValidPartyFilterConstraintValidator;
+
+/**
+ * Requires a search to be scoped to at least one party, either by partyId or by partyIds, or to a validTo range bounded
+ * by both validToFrom and validToUntil. The violation is reported on the partyId property. The constraint belongs to
+ * the {@link ScopedSearch} group, so that it applies to searches but not to bulk deletes, which may select by origin
+ * alone.
+ */
+@Documented
+@Target({
+	ElementType.TYPE
+})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = ValidPartyFilterConstraintValidator.class)
+public @interface ValidPartyFilter {
+
+	String message() default "not a valid UUID";
+
+	Class<?>[] groups() default {};
+
+	Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,39 @@
+package se.sundsvall.partyassets.api.validation.impl;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.validation.ValidPartyFilter;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+
+public class ValidPartyFilterConstraintValidator implements ConstraintValidator<ValidPartyFilter, AssetSearchRequest> {
+
+	private static final String PARTY_ID = "partyId";
+
+	@Override
+	public boolean isValid(final AssetSearchRequest request, final ConstraintValidatorContext context) {
+		if (request == null || isScoped(request)) {
+			return true;
+		}
+
+		context.disableDefaultConstraintViolation();
+		context.buildConstraintViolationWithTemplate(context.getDefaultConstraintMessageTemplate())
+			.addPropertyNode(PARTY_ID)
+			.addConstraintViolation();
+		return false;
+	}
+
+	/**
+	 * A search is scoped when it selects one or more parties, or a validTo range that is bounded at both ends. The latter
+	 * allows municipality wide searches, such as assets expiring within the coming days, on the (municipality_id,
+	 * valid_to) index.
+	 *
+	 * @param  request the search
+	 * @return         true if the search is scoped, false if it would select all assets of the municipality
+	 */
+	public static boolean isScoped(final AssetSearchRequest request) {
+		return nonNull(request.getPartyId()) || isNotEmpty(request.getPartyIds()) || (nonNull(request.getValidToFrom()) && nonNull(request.getValidToUntil()));
+	}
+}
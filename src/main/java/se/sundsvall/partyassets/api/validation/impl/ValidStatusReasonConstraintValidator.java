@@ -10,7 +10,6 @@ import org.springframework.web.context.request.RequestContextHolder;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.service.StatusService;
 
-import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static org.apache.commons.lang3.ObjectUtils.allNull;
 import static org.apache.commons.lang3.StringUtils.isNotEmpty;
@@ -38,7 +37,7 @@ abstract class ValidStatusReasonConstraintValidator {
 			return true;
 		}
 
-		return !statusService.getReasonsForAllStatuses(municipalityId.get()).containsKey(status) && isNull(statusReason);
+		return !statusService.getStatusReasons(municipalityId.get()).hasReasons(status) && isNull(statusReason);
 	}
 
 	/**
@@ -69,8 +68,7 @@ abstract class ValidStatusReasonConstraintValidator {
 			return true;
 		}
 
-		return isNotEmpty(statusReason) &&
-			statusService.getReasonsForAllStatuses(municipalityId.get()).getOrDefault(status, emptyList()).contains(statusReason);
+		return isNotEmpty(statusReason) && statusService.getStatusReasons(municipalityId.get()).isValidReason(status, statusReason);
 	}
 
 	void useCustomMessageForValidation(final ConstraintValidatorContext constraintContext, final Status status, final String statusReason) {
@@ -84,7 +82,7 @@ abstract class ValidStatusReasonConstraintValidator {
 			String.format(ERROR_MESSAGE_TEMPLATE,
 				statusReason,
 				status,
-				statusService.getReasonsForAllStatuses(municipalityId.get()).getOrDefault(status, emptyList()))))
+				statusService.getStatusReasons(municipalityId.get()).getReasons(status))))
 			.addConstraintViolation();
 	}
 
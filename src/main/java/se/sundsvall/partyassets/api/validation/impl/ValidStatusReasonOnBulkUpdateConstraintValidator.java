@@ -0,0 +1,25 @@
+package se.sundsvall.partyassets.api.validation.impl;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import se.sundsvall.partyassets.api.model.AssetBulkStatusUpdateRequest;
+import se.sundsvall.partyassets.api.validation.ValidStatusReason;
+import se.sundsvall.partyassets.service.StatusService;
+
+public class ValidStatusReasonOnBulkUpdateConstraintValidator extends ValidStatusReasonConstraintValidator implements ConstraintValidator<ValidStatusReason, AssetBulkStatusUpdateRequest> {
+
+	public ValidStatusReasonOnBulkUpdateConstraintValidator(StatusService statusService) {
+		super(statusService);
+	}
+
+	@Override
+	public boolean isValid(final AssetBulkStatusUpdateRequest request, final ConstraintValidatorContext context) {
+		final boolean isValid = noStatusReason(request.getStatus(), request.getStatusReason()) || isValidStatusReason(request.getStatus(), request.getStatusReason());
+
+		if (!isValid) {
+			useCustomMessageForValidation(context, request.getStatus(), request.getStatusReason());
+		}
+
+		return isValid;
+	}
+}
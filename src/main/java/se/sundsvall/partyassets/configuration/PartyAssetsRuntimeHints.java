@@ -0,0 +1,69 @@
+package se.sundsvall.partyassets.configuration;
+
+import java.util.List;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.RegexPatternTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+
+import static java.util.regex.Pattern.compile;
+import static org.springframework.aot.hint.MemberCategory.ACCESS_DECLARED_FIELDS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_DECLARED_CONSTRUCTORS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_DECLARED_METHODS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_METHODS;
+
+/**
+ * Runtime hints for running the ahead-of-time processed application (the {@code aot} Maven profile). Registers:
+ * <ul>
+ * <li>the models generated from the integration specifications, which Jackson binds reflectively</li>
+ * <li>the JPA static metamodel, whose fields Hibernate populates reflectively at startup</li>
+ * <li>the Feign clients, which are JDK proxies whose annotated methods are read reflectively</li>
+ * </ul>
+ * The types are found by scanning the classpath at build time, so generated and new classes are picked up without
+ * changes here.
+ */
+public class PartyAssetsRuntimeHints implements RuntimeHintsRegistrar {
+
+	static final String GENERATED_MODELS_PACKAGE = "generated.se.sundsvall";
+	static final String METAMODEL_PACKAGE = "se.sundsvall.partyassets.integration.db.model";
+	static final String FEIGN_CLIENTS_PACKAGE = "se.sundsvall.partyassets";
+
+	@Override
+	public void registerHints(final RuntimeHints hints, final ClassLoader classLoader) {
+		findTypes(classLoader, GENERATED_MODELS_PACKAGE, (_, _) -> true)
+			.forEach(type -> hints.reflection().registerType(type, INVOKE_DECLARED_CONSTRUCTORS, INVOKE_DECLARED_METHODS, ACCESS_DECLARED_FIELDS));
+
+		findTypes(classLoader, METAMODEL_PACKAGE, new RegexPatternTypeFilter(compile(".*_")))
+			.forEach(type -> hints.reflection().registerType(type, ACCESS_DECLARED_FIELDS));
+
+		findTypes(classLoader, FEIGN_CLIENTS_PACKAGE, new AnnotationTypeFilter(FeignClient.class))
+			.forEach(type -> {
+				hints.reflection().registerType(type, INVOKE_PUBLIC_METHODS);
+				hints.proxies().registerJdkProxy(type);
+			});
+	}
+
+	private static List<TypeReference> findTypes(final ClassLoader classLoader, final String basePackage, final TypeFilter filter) {
+		final var scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(final AnnotatedBeanDefinition beanDefinition) {
+				// Interfaces, abstract metamodel classes and nested model classes are all wanted
+				return true;
+			}
+		};
+		scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+		scanner.addIncludeFilter(filter);
+
+		return scanner.findCandidateComponents(basePackage).stream()
+			.map(BeanDefinition::getBeanClassName)
+			.map(TypeReference::of)
+			.toList();
+	}
+}
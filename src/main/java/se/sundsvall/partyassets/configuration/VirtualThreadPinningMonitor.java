@@ -0,0 +1,85 @@
+package se.sundsvall.partyassets.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Active when the application runs on virtual threads (the {@code virtual-threads} profile). Listens to the JFR event
+ * emitted when a virtual thread is pinned to its carrier thread, e.g. while blocking inside a synchronized block or a
+ * native frame, and records it as the timer {@value #METRIC_NAME} tagged with the class of the frame where the thread
+ * was pinned.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	static final String UNKNOWN_FRAME = "unknown";
+
+	private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+	private final MeterRegistry meterRegistry;
+	private final VirtualThreadProperties properties;
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(final MeterRegistry meterRegistry, final VirtualThreadProperties properties) {
+		this.meterRegistry = meterRegistry;
+		this.properties = properties;
+	}
+
+	@Override
+	public synchronized void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT)
+			.withThreshold(properties.pinnedThreshold())
+			.withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::record);
+		recordingStream.startAsync();
+		LOG.info("Recording virtual thread pinning longer than {}", properties.pinnedThreshold());
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return recordingStream != null;
+	}
+
+	void record(final RecordedEvent event) {
+		final var frame = pinnedFrame(event);
+		LOG.debug("Virtual thread pinned for {} in {}", event.getDuration(), frame);
+
+		Timer.builder(METRIC_NAME)
+			.description("Time virtual threads spent pinned to their carrier thread")
+			.tag("class", frame)
+			.register(meterRegistry)
+			.record(event.getDuration());
+	}
+
+	private static String pinnedFrame(final RecordedEvent event) {
+		return Optional.ofNullable(event.getStackTrace())
+			.flatMap(stackTrace -> stackTrace.getFrames().stream()
+				.filter(RecordedFrame::isJavaFrame)
+				.map(recordedFrame -> recordedFrame.getMethod().getType().getName())
+				.filter(className -> !className.startsWith("java.") && !className.startsWith("jdk."))
+				.findFirst())
+			.orElse(UNKNOWN_FRAME);
+	}
+}
@@ -0,0 +1,11 @@
+package se.sundsvall.partyassets.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param pinnedThreshold minimum time a virtual thread must be pinned to its carrier thread to be recorded
+ */
+@ConfigurationProperties("virtual-threads")
+public record VirtualThreadProperties(@DefaultValue("PT0.02S") Duration pinnedThreshold) {}
@@ -0,0 +1,21 @@
+package se.sundsvall.partyassets.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+@CircuitBreaker(name = "assetChangeRepository")
+public interface AssetChangeRepository extends JpaRepository<AssetChangeEntity, Long> {
+
+	List<AssetChangeEntity> findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(String municipalityId, Long sequenceNumber, Limit limit);
+
+	List<AssetChangeEntity> findBySequenceNumberGreaterThanOrderBySequenceNumber(Long sequenceNumber, Limit limit);
+
+	List<AssetChangeEntity> findBySequenceNumberIsNullOrderById(Limit limit);
+
+	@Query("select coalesce(max(c.sequenceNumber), 0) from AssetChangeEntity c")
+	long findMaxSequenceNumber();
+}
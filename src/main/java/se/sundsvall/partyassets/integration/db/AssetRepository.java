@@ -1,24 +1,119 @@
 package se.sundsvall.partyassets.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetStatusProjection;
+import se.sundsvall.partyassets.integration.db.model.AssetSummaryProjection;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @CircuitBreaker(name = "assetRepository")
 public interface AssetRepository extends JpaRepository<AssetEntity, String>, JpaSpecificationExecutor<AssetEntity> {
 
-	boolean existsByIdAndMunicipalityId(String id, String municipalityId);
-
 	Optional<AssetEntity> findByIdAndMunicipalityId(String id, String municipalityId);
 
 	boolean existsByAssetIdAndMunicipalityId(String assetId, String municipalityId);
 
+	/**
+	 * An asset id is shared by an asset and the copies that replace it, so the most recently created non draft asset is
+	 * the current one.
+	 */
+	Optional<AssetSummaryProjection> findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(String municipalityId, String assetId, Status status);
+
 	void deleteByIdAndMunicipalityId(String id, String municipalityId);
 
 	List<AssetEntity> findByStatusInAndValidToBefore(List<Status> statuses, LocalDate date);
+
+	List<AssetStatusProjection> findByMunicipalityIdAndIdInAndStatusNot(String municipalityId, Collection<String> ids, Status status);
+
+	/**
+	 * Bulk status update of the given non draft assets. Drafts are excluded by the statement itself, so that an asset that
+	 * has become a draft since it was selected is left as is.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		update AssetEntity a set a.status = :status, a.statusReason = :statusReason, a.updated = :updated
+		where a.municipalityId = :municipalityId and a.id in :ids and a.status <> se.sundsvall.partyassets.api.model.Status.DRAFT""")
+	int updateStatusByMunicipalityIdAndIdIn(
+		@Param("municipalityId") String municipalityId,
+		@Param("ids") Collection<String> ids,
+		@Param("status") Status status,
+		@Param("statusReason") String statusReason,
+		@Param("updated") OffsetDateTime updated);
+
+	/**
+	 * Bulk status update used when assets are changed by the system rather than by a client, leaving the status reason
+	 * as is. Bulk updates bypass the entity lifecycle callbacks, so the updated timestamp is passed explicitly.
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update AssetEntity a set a.status = :status, a.updated = :updated where a.id in :ids")
+	int updateStatusByIdIn(
+		@Param("ids") Collection<String> ids,
+		@Param("status") Status status,
+		@Param("updated") OffsetDateTime updated);
+
+	List<AssetStatusProjection> findByMunicipalityIdAndIdIn(String municipalityId, Collection<String> ids);
+
+	/**
+	 * Lookup of the assets of several parties in one query. The collections of the returned assets are batch fetched when
+	 * accessed, so the lookup does not issue additional queries per asset.
+	 */
+	@QueryHints({
+		@QueryHint(name = HINT_READ_ONLY, value = "true"),
+		@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")
+	})
+	List<AssetEntity> findByMunicipalityIdAndPartyIdInAndStatusNot(String municipalityId, Collection<String> partyIds, Status status);
+
+	@QueryHints({
+		@QueryHint(name = HINT_READ_ONLY, value = "true"),
+		@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")
+	})
+	List<AssetEntity> findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot(String municipalityId, Collection<String> partyIds, Collection<String> assetIds, Status status);
+
+	@Modifying(flushAutomatically = true)
+	@Query("delete from AssetJsonParameterEntity p where p.asset.id in :ids")
+	int deleteJsonParametersByAssetIdIn(@Param("ids") Collection<String> ids);
+
+	/**
+	 * Bulk delete of assets. Hibernate removes the rows of the element collection tables (additional_parameter and
+	 * case_reference_id) with set-based statements before deleting the assets, while the JSON parameters must be removed
+	 * first with {@link #deleteJsonParametersByAssetIdIn(Collection)}.
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("delete from AssetEntity a where a.municipalityId = :municipalityId and a.id in :ids")
+	int deleteByMunicipalityIdAndIdIn(@Param("municipalityId") String municipalityId, @Param("ids") Collection<String> ids);
+
+	/**
+	 * Search is only used for reading, so entities are loaded read-only (no snapshots for dirty checking) and the session
+	 * is never flushed by the query.
+	 */
+	@Override
+	@QueryHints({
+		@QueryHint(name = HINT_READ_ONLY, value = "true"),
+		@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")
+	})
+	List<AssetEntity> findAll(Specification<AssetEntity> specification);
+
+	@Override
+	@QueryHints({
+		@QueryHint(name = HINT_READ_ONLY, value = "true"),
+		@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")
+	})
+	List<AssetEntity> findAll(Specification<AssetEntity> specification, Sort sort);
 }
@@ -0,0 +1,14 @@
+package se.sundsvall.partyassets.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
+
+@CircuitBreaker(name = "relationOutboxRepository")
+public interface RelationOutboxRepository extends JpaRepository<RelationOutboxEntity, String> {
+
+	List<RelationOutboxEntity> findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(int maxAttempts, OffsetDateTime now, Limit limit);
+}
@@ -1,18 +1,31 @@
 package se.sundsvall.partyassets.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import se.sundsvall.partyassets.integration.db.model.StatusEntity;
 import se.sundsvall.partyassets.integration.db.model.StatusEntityId;
 
+import static org.hibernate.jpa.HibernateHints.HINT_FLUSH_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
 @CircuitBreaker(name = "statusRepository")
 public interface StatusRepository extends JpaRepository<StatusEntity, StatusEntityId> {
 
+	@QueryHints({
+		@QueryHint(name = HINT_READ_ONLY, value = "true"),
+		@QueryHint(name = HINT_FLUSH_MODE, value = "MANUAL")
+	})
 	List<StatusEntity> findAllByMunicipalityId(String municipalityId);
 
 	boolean existsByNameAndMunicipalityId(String name, String municipalityId);
 
 	Optional<StatusEntity> findByNameAndMunicipalityId(String name, String municipalityId);
+
+	@Query("select distinct s.municipalityId from StatusEntity s")
+	List<String> findDistinctMunicipalityIds();
 }
@@ -0,0 +1,76 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Keeps track of when each client last wrote to the primary, so that reads from the same client can be kept on the
+ * primary until the replica has had time to catch up. Clients are identified per incoming request, work executed
+ * outside of a request (e.g. scheduled jobs) is never tracked.
+ */
+public class ReadYourWritesTracker {
+
+	static final int PURGE_THRESHOLD = 10_000;
+
+	private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+	private final Duration window;
+	private final String clientHeader;
+	private final Clock clock;
+
+	public ReadYourWritesTracker(final Duration window, final String clientHeader) {
+		this(window, clientHeader, Clock.systemUTC());
+	}
+
+	ReadYourWritesTracker(final Duration window, final String clientHeader, final Clock clock) {
+		this.window = window;
+		this.clientHeader = clientHeader;
+		this.clock = clock;
+	}
+
+	public void registerWrite() {
+		currentClient().ifPresent(client -> {
+			final var now = clock.millis();
+			lastWrites.put(client, now);
+
+			if (lastWrites.size() > PURGE_THRESHOLD) {
+				lastWrites.values().removeIf(writtenAt -> isOutsideWindow(writtenAt, now));
+			}
+		});
+	}
+
+	public boolean hasRecentWrite() {
+		return currentClient()
+			.map(lastWrites::get)
+			.filter(writtenAt -> !isOutsideWindow(writtenAt, clock.millis()))
+			.isPresent();
+	}
+
+	int size() {
+		return lastWrites.size();
+	}
+
+	private boolean isOutsideWindow(final long writtenAt, final long now) {
+		return now - writtenAt > window.toMillis();
+	}
+
+	private Optional<String> currentClient() {
+		return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+			.filter(ServletRequestAttributes.class::isInstance)
+			.map(ServletRequestAttributes.class::cast)
+			.map(ServletRequestAttributes::getRequest)
+			.map(this::toClient);
+	}
+
+	private String toClient(final HttpServletRequest request) {
+		return Optional.ofNullable(request.getHeader(clientHeader))
+			.filter(StringUtils::isNotBlank)
+			.orElseGet(request::getRemoteAddr);
+	}
+}
@@ -0,0 +1,63 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Replaces the auto configured datasource with one that sends read-only transactions to a replica when
+ * {@code datasource.replica.enabled} is set. The primary is still configured through {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+class ReplicaDataSourceConfiguration {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(final DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+	}
+
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	HikariDataSource replicaDataSource(final DataSourceProperties dataSourceProperties, final ReplicaProperties replicaProperties) {
+		return DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.driverClassName(dataSourceProperties.determineDriverClassName())
+			.url(replicaProperties.url())
+			.username(ofNullable(replicaProperties.username()).orElseGet(dataSourceProperties::determineUsername))
+			.password(ofNullable(replicaProperties.password()).orElseGet(dataSourceProperties::determinePassword))
+			.build();
+	}
+
+	@Bean
+	ReadYourWritesTracker readYourWritesTracker(final ReplicaProperties replicaProperties) {
+		return new ReadYourWritesTracker(replicaProperties.readYourWritesWindow(), replicaProperties.clientHeader());
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer writeTrackingStatementInspector(final ReadYourWritesTracker readYourWritesTracker) {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new WriteTrackingStatementInspector(readYourWritesTracker));
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primaryDataSource, @Qualifier("replicaDataSource") final DataSource replicaDataSource,
+		final ReadYourWritesTracker readYourWritesTracker) {
+		return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, readYourWritesTracker));
+	}
+}
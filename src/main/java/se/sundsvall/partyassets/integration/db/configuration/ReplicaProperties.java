@@ -0,0 +1,25 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Properties for the optional read replica. Pool settings for the replica are bound from
+ * {@code datasource.replica.hikari.*} in the same way as {@code spring.datasource.hikari.*} for the primary.
+ *
+ * @param enabled              if read-only transactions should be routed to the replica
+ * @param url                  jdbc url of the replica
+ * @param username             username for the replica, defaults to the username of the primary
+ * @param password             password for the replica, defaults to the password of the primary
+ * @param readYourWritesWindow period after a write during which the same client keeps reading from the primary
+ * @param clientHeader         request header identifying the client, the remote address is used when the header is missing
+ */
+@ConfigurationProperties("datasource.replica")
+public record ReplicaProperties(
+	boolean enabled,
+	String url,
+	String username,
+	String password,
+	@DefaultValue("PT5S") Duration readYourWritesWindow,
+	@DefaultValue("X-Sent-By") String clientHeader) {}
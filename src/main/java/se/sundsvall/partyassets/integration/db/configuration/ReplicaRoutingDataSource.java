@@ -0,0 +1,39 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isCurrentTransactionReadOnly;
+
+/**
+ * Routes connections for read-only transactions to the replica, unless the current client has written within the
+ * read-your-writes window. Everything else goes to the primary. Writes are registered by the
+ * {@link WriteTrackingStatementInspector} once they have been committed. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the connection is fetched after the
+ * transaction has been marked as read-only.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	enum Target {
+		PRIMARY,
+		REPLICA
+	}
+
+	private final ReadYourWritesTracker tracker;
+
+	public ReplicaRoutingDataSource(final DataSource primary, final DataSource replica, final ReadYourWritesTracker tracker) {
+		this.tracker = tracker;
+		setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (isCurrentTransactionReadOnly()) {
+			return tracker.hasRecentWrite() ? Target.PRIMARY : Target.REPLICA;
+		}
+		return Target.PRIMARY;
+	}
+}
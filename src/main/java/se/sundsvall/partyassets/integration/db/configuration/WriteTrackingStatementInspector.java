@@ -0,0 +1,51 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import java.util.regex.Pattern;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.transaction.support.TransactionSynchronization;
+
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.DOTALL;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.getSynchronizations;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization;
+
+/**
+ * Registers a write with the {@link ReadYourWritesTracker} when Hibernate sends an insert, update or delete statement.
+ * Inside a transaction the write is registered once the transaction has committed, so that read-write transactions
+ * that only read, or that roll back, do not keep the client on the primary.
+ */
+class WriteTrackingStatementInspector implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Pattern WRITE_STATEMENT = Pattern.compile("^\\s*(/\\*.*?\\*/\\s*)?(insert|update|delete|merge)\\b", CASE_INSENSITIVE | DOTALL);
+
+	private final transient ReadYourWritesTracker tracker;
+
+	WriteTrackingStatementInspector(final ReadYourWritesTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	@Override
+	public String inspect(final String sql) {
+		if (!WRITE_STATEMENT.matcher(sql).find()) {
+			return sql;
+		}
+
+		if (!isSynchronizationActive()) {
+			tracker.registerWrite();
+		} else if (getSynchronizations().stream().noneMatch(RegisterWriteAfterCommit.class::isInstance)) {
+			registerSynchronization(new RegisterWriteAfterCommit());
+		}
+		return sql;
+	}
+
+	private final class RegisterWriteAfterCommit implements TransactionSynchronization {
+
+		@Override
+		public void afterCommit() {
+			tracker.registerWrite();
+		}
+	}
+}
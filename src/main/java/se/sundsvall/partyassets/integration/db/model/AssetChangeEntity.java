@@ -0,0 +1,204 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Entry in the append-only asset change log. Written in the same transaction as the change it describes. The sequence
+ * number is set by the change sequencer once the entry has been committed, in commit order, and is used as cursor by
+ * consumers of the log. The asset id is kept as a plain reference so that entries outlive deleted assets. The party
+ * id is used internally to invalidate cached party assets on other instances, and is missing on entries written before
+ * it was added.
+ */
+@Entity
+@Table(name = "asset_change",
+	indexes = {
+		@Index(name = "idx_asset_change_municipality_id_id", columnList = "municipality_id, id"),
+		@Index(name = "idx_asset_change_municipality_id_sequence_number", columnList = "municipality_id, sequence_number"),
+		@Index(name = "idx_asset_change_sequence_number", columnList = "sequence_number", unique = true)
+	})
+public class AssetChangeEntity {
+
+	@Id
+	@GeneratedValue(strategy = IDENTITY)
+	private Long id;
+
+	@Column(name = "sequence_number")
+	private Long sequenceNumber;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "asset_id", nullable = false)
+	private String assetId;
+
+	@Column(name = "party_id")
+	private String partyId;
+
+	@Enumerated(STRING)
+	@Column(name = "change_type", nullable = false)
+	private AssetChangeType changeType;
+
+	@Enumerated(STRING)
+	private Status status;
+
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	public static AssetChangeEntity create() {
+		return new AssetChangeEntity();
+	}
+
+	@PrePersist
+	void prePersist() {
+		created = now(systemDefault()).truncatedTo(MILLIS);
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(final Long id) {
+		this.id = id;
+	}
+
+	public AssetChangeEntity withId(final Long id) {
+		this.id = id;
+		return this;
+	}
+
+	public Long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	public void setSequenceNumber(final Long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	public AssetChangeEntity withSequenceNumber(final Long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public AssetChangeEntity withMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getAssetId() {
+		return assetId;
+	}
+
+	public void setAssetId(final String assetId) {
+		this.assetId = assetId;
+	}
+
+	public AssetChangeEntity withAssetId(final String assetId) {
+		this.assetId = assetId;
+		return this;
+	}
+
+	public String getPartyId() {
+		return partyId;
+	}
+
+	public void setPartyId(final String partyId) {
+		this.partyId = partyId;
+	}
+
+	public AssetChangeEntity withPartyId(final String partyId) {
+		this.partyId = partyId;
+		return this;
+	}
+
+	public AssetChangeType getChangeType() {
+		return changeType;
+	}
+
+	public void setChangeType(final AssetChangeType changeType) {
+		this.changeType = changeType;
+	}
+
+	public AssetChangeEntity withChangeType(final AssetChangeType changeType) {
+		this.changeType = changeType;
+		return this;
+	}
+
+	public Status getStatus() {
+		return status;
+	}
+
+	public void setStatus(final Status status) {
+		this.status = status;
+	}
+
+	public AssetChangeEntity withStatus(final Status status) {
+		this.status = status;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public AssetChangeEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(assetId, changeType, created, id, municipalityId, partyId, sequenceNumber, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		AssetChangeEntity other = (AssetChangeEntity) obj;
+		return Objects.equals(assetId, other.assetId) && changeType == other.changeType && Objects.equals(created, other.created) && Objects.equals(id, other.id)
+			&& Objects.equals(municipalityId, other.municipalityId) && Objects.equals(partyId, other.partyId) && Objects.equals(sequenceNumber, other.sequenceNumber) && status == other.status;
+	}
+
+	@Override
+	public String toString() {
+		return "AssetChangeEntity [id=" + id + ", sequenceNumber=" + sequenceNumber + ", municipalityId=" + municipalityId + ", assetId=" + assetId + ", partyId=" + partyId + ", changeType=" + changeType + ", status=" + status + ", created=" + created + "]";
+	}
+}
@@ -21,28 +21,46 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.UuidGenerator;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.type.BinaryUuidJavaType;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.FetchType.EAGER;
 import static java.time.OffsetDateTime.now;
 import static java.time.ZoneId.systemDefault;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
+import static org.hibernate.type.SqlTypes.BINARY;
 
 @Entity
 @Table(name = "asset",
 	indexes = {
-		@Index(name = "idx_asset_municipality_id", columnList = "municipality_id")
+		@Index(name = "idx_asset_municipality_id", columnList = "municipality_id"),
+		@Index(name = "idx_asset_municipality_id_asset_id", columnList = "municipality_id, asset_id"),
+		@Index(name = "idx_asset_municipality_id_party_id", columnList = "municipality_id, party_id"),
+		@Index(name = "idx_asset_municipality_id_updated_created", columnList = "municipality_id, updated, created"),
+		@Index(name = "idx_asset_municipality_id_valid_to", columnList = "municipality_id, valid_to")
 	})
 public class AssetEntity {
 
+	/**
+	 * The collections are loaded lazily, and only when accessed. Accessing a collection on one asset in a result list
+	 * initializes the same collection for up to this many assets of that list with a single IN query.
+	 */
+	private static final int COLLECTION_BATCH_SIZE = 100;
+
 	@Id
-	@UuidGenerator
+	@UuidGenerator(style = VERSION_7)
+	@JavaType(BinaryUuidJavaType.class)
+	@JdbcTypeCode(BINARY)
+	@Column(length = 16)
 	private String id;
 
 	@Column(name = "municipality_id")
@@ -59,7 +77,8 @@ public class AssetEntity {
 	@Enumerated(STRING)
 	private PartyType partyType;
 
-	@ElementCollection(fetch = EAGER)
+	@ElementCollection
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	@CollectionTable(name = "case_reference_id", joinColumns = @JoinColumn(name = "asset_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_case_reference_id_asset_id")), indexes = {
 		@Index(name = "idx_case_reference_id_asset_id", columnList = "asset_id")
 	})
@@ -84,17 +103,20 @@ public class AssetEntity {
 
 	private String description;
 
-	@ElementCollection(fetch = EAGER)
+	@ElementCollection
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	@CollectionTable(name = "additional_parameter",
 		joinColumns = @JoinColumn(name = "asset_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_additional_parameter_asset_id")),
 		indexes = {
-			@Index(name = "idx_additional_parameter_asset_id", columnList = "asset_id")
+			@Index(name = "idx_additional_parameter_asset_id", columnList = "asset_id"),
+			@Index(name = "idx_additional_parameter_key_value_asset_id", columnList = "parameter_key, parameter_value, asset_id")
 		})
 	@MapKeyColumn(name = "parameter_key")
 	@Column(name = "parameter_value", nullable = false)
 	private Map<String, String> additionalParameters;
 
-	@OneToMany(fetch = EAGER, mappedBy = "asset", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OneToMany(mappedBy = "asset", cascade = CascadeType.ALL, orphanRemoval = true)
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	private List<AssetJsonParameterEntity> jsonParameters;
 
 	@TimeZoneStorage(NORMALIZE)
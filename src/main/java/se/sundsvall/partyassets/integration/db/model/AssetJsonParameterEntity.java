@@ -4,29 +4,42 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.util.Objects;
+import org.hibernate.annotations.JavaType;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
+import se.sundsvall.partyassets.integration.db.type.BinaryUuidJavaType;
 
 import static jakarta.persistence.FetchType.LAZY;
 import static java.util.Objects.nonNull;
-import static org.hibernate.Length.LONG32;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
+import static org.hibernate.type.SqlTypes.BINARY;
+import static org.hibernate.type.SqlTypes.JSON;
 
 @Entity
-@Table(name = "asset_json_parameter")
+@Table(name = "asset_json_parameter",
+	indexes = {
+		@Index(name = "idx_asset_json_parameter_asset_id_parameter_key", columnList = "asset_id, parameter_key")
+	})
 public class AssetJsonParameterEntity {
 
 	@Id
-	@UuidGenerator
+	@UuidGenerator(style = VERSION_7)
+	@JavaType(BinaryUuidJavaType.class)
+	@JdbcTypeCode(BINARY)
+	@Column(length = 16)
 	private String id;
 
 	@Column(name = "parameter_key")
 	private String key;
 
-	@Column(name = "parameter_value", length = LONG32)
+	@JdbcTypeCode(JSON)
+	@Column(name = "parameter_value")
 	private String value;
 
 	@ManyToOne(fetch = LAZY)
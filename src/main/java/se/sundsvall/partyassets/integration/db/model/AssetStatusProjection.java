@@ -0,0 +1,19 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import se.sundsvall.partyassets.api.model.Status;
+
+/**
+ * Closed projection used by bulk operations, so that only the columns needed to decide the outcome are read.
+ */
+public interface AssetStatusProjection {
+
+	String getId();
+
+	String getAssetId();
+
+	String getPartyId();
+
+	Status getStatus();
+
+	String getStatusReason();
+}
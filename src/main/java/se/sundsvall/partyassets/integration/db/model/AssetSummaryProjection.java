@@ -0,0 +1,25 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import java.time.LocalDate;
+import se.sundsvall.partyassets.api.model.Status;
+
+/**
+ * Closed projection used by the asset id lookup, so that only the columns of the compact response are read and no
+ * collections are loaded.
+ */
+public interface AssetSummaryProjection {
+
+	String getId();
+
+	String getAssetId();
+
+	String getType();
+
+	Status getStatus();
+
+	String getStatusReason();
+
+	LocalDate getIssued();
+
+	LocalDate getValidTo();
+}
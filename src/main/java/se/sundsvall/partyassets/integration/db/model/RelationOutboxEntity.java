@@ -0,0 +1,265 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.UuidGenerator;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Objects.isNull;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+
+/**
+ * Relation waiting to be published to the relation service. Written in the same transaction as the asset it targets
+ * and removed once the relation has been created.
+ */
+@Entity
+@Table(name = "relation_outbox",
+	indexes = {
+		@Index(name = "idx_relation_outbox_next_attempt", columnList = "next_attempt")
+	})
+public class RelationOutboxEntity {
+
+	@Id
+	@UuidGenerator
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "asset_id", nullable = false)
+	private String assetId;
+
+	@Column(name = "relation_type", nullable = false)
+	private String relationType;
+
+	@Column(name = "source_resource_id")
+	private String sourceResourceId;
+
+	@Column(name = "source_type")
+	private String sourceType;
+
+	@Column(name = "source_service")
+	private String sourceService;
+
+	@Column(name = "source_namespace")
+	private String sourceNamespace;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "last_error")
+	private String lastError;
+
+	@TimeZoneStorage(NORMALIZE)
+	@Column(name = "next_attempt", nullable = false)
+	private OffsetDateTime nextAttempt;
+
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	public static RelationOutboxEntity create() {
+		return new RelationOutboxEntity();
+	}
+
+	@PrePersist
+	void prePersist() {
+		created = now(systemDefault()).truncatedTo(MILLIS);
+		if (isNull(nextAttempt)) {
+			nextAttempt = created;
+		}
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(final String id) {
+		this.id = id;
+	}
+
+	public RelationOutboxEntity withId(final String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public RelationOutboxEntity withMunicipalityId(final String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getAssetId() {
+		return assetId;
+	}
+
+	public void setAssetId(final String assetId) {
+		this.assetId = assetId;
+	}
+
+	public RelationOutboxEntity withAssetId(final String assetId) {
+		this.assetId = assetId;
+		return this;
+	}
+
+	public String getRelationType() {
+		return relationType;
+	}
+
+	public void setRelationType(final String relationType) {
+		this.relationType = relationType;
+	}
+
+	public RelationOutboxEntity withRelationType(final String relationType) {
+		this.relationType = relationType;
+		return this;
+	}
+
+	public String getSourceResourceId() {
+		return sourceResourceId;
+	}
+
+	public void setSourceResourceId(final String sourceResourceId) {
+		this.sourceResourceId = sourceResourceId;
+	}
+
+	public RelationOutboxEntity withSourceResourceId(final String sourceResourceId) {
+		this.sourceResourceId = sourceResourceId;
+		return this;
+	}
+
+	public String getSourceType() {
+		return sourceType;
+	}
+
+	public void setSourceType(final String sourceType) {
+		this.sourceType = sourceType;
+	}
+
+	public RelationOutboxEntity withSourceType(final String sourceType) {
+		this.sourceType = sourceType;
+		return this;
+	}
+
+	public String getSourceService() {
+		return sourceService;
+	}
+
+	public void setSourceService(final String sourceService) {
+		this.sourceService = sourceService;
+	}
+
+	public RelationOutboxEntity withSourceService(final String sourceService) {
+		this.sourceService = sourceService;
+		return this;
+	}
+
+	public String getSourceNamespace() {
+		return sourceNamespace;
+	}
+
+	public void setSourceNamespace(final String sourceNamespace) {
+		this.sourceNamespace = sourceNamespace;
+	}
+
+	public RelationOutboxEntity withSourceNamespace(final String sourceNamespace) {
+		this.sourceNamespace = sourceNamespace;
+		return this;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(final int attempts) {
+		this.attempts = attempts;
+	}
+
+	public RelationOutboxEntity withAttempts(final int attempts) {
+		this.attempts = attempts;
+		return this;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(final String lastError) {
+		this.lastError = lastError;
+	}
+
+	public RelationOutboxEntity withLastError(final String lastError) {
+		this.lastError = lastError;
+		return this;
+	}
+
+	public OffsetDateTime getNextAttempt() {
+		return nextAttempt;
+	}
+
+	public void setNextAttempt(final OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+	}
+
+	public RelationOutboxEntity withNextAttempt(final OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(final OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public RelationOutboxEntity withCreated(final OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(assetId, attempts, created, id, lastError, municipalityId, nextAttempt, relationType, sourceNamespace, sourceResourceId, sourceService, sourceType);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		RelationOutboxEntity other = (RelationOutboxEntity) obj;
+		return Objects.equals(assetId, other.assetId) && attempts == other.attempts && Objects.equals(created, other.created) && Objects.equals(id, other.id) && Objects.equals(lastError, other.lastError)
+			&& Objects.equals(municipalityId, other.municipalityId) && Objects.equals(nextAttempt, other.nextAttempt) && Objects.equals(relationType, other.relationType)
+			&& Objects.equals(sourceNamespace, other.sourceNamespace) && Objects.equals(sourceResourceId, other.sourceResourceId) && Objects.equals(sourceService, other.sourceService) && Objects.equals(sourceType, other.sourceType);
+	}
+
+	@Override
+	public String toString() {
+		return "RelationOutboxEntity [id=" + id + ", municipalityId=" + municipalityId + ", assetId=" + assetId + ", relationType=" + relationType + ", sourceResourceId=" + sourceResourceId
+			+ ", sourceType=" + sourceType + ", sourceService=" + sourceService + ", sourceNamespace=" + sourceNamespace + ", attempts=" + attempts
+			+ ", lastError=" + lastError + ", nextAttempt=" + nextAttempt + ", created=" + created + "]";
+	}
+}
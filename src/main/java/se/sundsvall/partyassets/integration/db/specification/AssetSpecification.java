@@ -1,61 +1,188 @@
 package se.sundsvall.partyassets.integration.db.specification;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.MapJoin;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
 import java.util.stream.Stream;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import se.sundsvall.partyassets.api.model.AssetJsonParameterFilter;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.model.AssetSortField;
+import se.sundsvall.partyassets.api.model.SortDirection;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity_;
+import se.sundsvall.partyassets.integration.db.model.AssetJsonParameterEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetJsonParameterEntity_;
 
 import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.MapUtils.isNotEmpty;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
+import static se.sundsvall.partyassets.api.model.ParameterMatchMode.ALL;
 import static se.sundsvall.partyassets.api.model.Status.DRAFT;
 
 public final class AssetSpecification {
 
+	private static final String JSON_VALUE_FUNCTION = "json_value";
+
+	private static final Map<AssetSortField, String> SORT_ATTRIBUTES = Map.of(
+		AssetSortField.ASSET_ID, AssetEntity_.ASSET_ID,
+		AssetSortField.TYPE, AssetEntity_.TYPE,
+		AssetSortField.STATUS, AssetEntity_.STATUS,
+		AssetSortField.ISSUED, AssetEntity_.ISSUED,
+		AssetSortField.VALID_TO, AssetEntity_.VALID_TO,
+		AssetSortField.CREATED, AssetEntity_.CREATED,
+		AssetSortField.UPDATED, AssetEntity_.UPDATED);
+
 	private AssetSpecification() {}
 
 	public static Specification<AssetEntity> createAssetSpecificationExcludingDraftAsssets() {
 		return (root, _, criteriaBuilder) -> criteriaBuilder.notEqual(root.get(AssetEntity_.STATUS), DRAFT);
 	}
 
+	public static Specification<AssetEntity> createAssetSpecificationIdAfter(final String id) {
+		return (root, _, criteriaBuilder) -> criteriaBuilder.greaterThan(root.get(AssetEntity_.ID), id);
+	}
+
 	public static Specification<AssetEntity> createAssetSpecification(final String municipalityId, final AssetSearchRequest request) {
-		return (root, _, criteriaBuilder) -> {
+		return (root, query, criteriaBuilder) -> {
 
 			final var predicates = new ArrayList<Predicate>();
 
 			addEqualCriteria(AssetEntity_.MUNICIPALITY_ID, municipalityId, predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.PARTY_ID, request.getPartyId(), predicates, criteriaBuilder, root);
+			addInCriteria(AssetEntity_.PARTY_ID, request.getPartyIds(), predicates, root);
 			addEqualCriteria(AssetEntity_.ASSET_ID, request.getAssetId(), predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.ORIGIN, request.getOrigin(), predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.TYPE, request.getType(), predicates, criteriaBuilder, root);
+			addInCriteria(AssetEntity_.TYPE, request.getTypes(), predicates, root);
 			addEqualCriteria(AssetEntity_.ISSUED, request.getIssued(), predicates, criteriaBuilder, root);
+			addRangeCriteria(AssetEntity_.ISSUED, request.getIssuedFrom(), request.getIssuedUntil(), predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.VALID_TO, request.getValidTo(), predicates, criteriaBuilder, root);
+			addRangeCriteria(AssetEntity_.VALID_TO, request.getValidToFrom(), request.getValidToUntil(), predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.STATUS, request.getStatus(), predicates, criteriaBuilder, root);
+			addInCriteria(AssetEntity_.STATUS, request.getStatuses(), predicates, root);
 			addEqualCriteria(AssetEntity_.STATUS_REASON, request.getStatusReason(), predicates, criteriaBuilder, root);
 			addEqualCriteria(AssetEntity_.DESCRIPTION, request.getDescription(), predicates, criteriaBuilder, root);
 
+			ofNullable(request.getCreatedAfter()).ifPresent(createdAfter -> predicates.add(criteriaBuilder.greaterThan(root.get(AssetEntity_.CREATED), createdAfter)));
+			ofNullable(request.getUpdatedAfter()).ifPresent(updatedAfter -> predicates.add(createUpdatedAfterPredicate(updatedAfter, criteriaBuilder, root)));
+
 			if (isNotEmpty(request.getAdditionalParameters())) {
-				final var parameterPredicates = createParameterPredicates(request, criteriaBuilder, root.joinMap(AssetEntity_.ADDITIONAL_PARAMETERS));
-				predicates.add(criteriaBuilder.or(parameterPredicates.toArray(new Predicate[0])));
+				predicates.add(createParameterPredicate(request, query, criteriaBuilder, root));
 			}
 
+			ofNullable(request.getJsonParameters()).ifPresent(filters -> filters.stream()
+				.map(filter -> createJsonParameterPredicate(filter, query, criteriaBuilder, root))
+				.forEach(predicates::add));
+
 			return criteriaBuilder.and(predicates);
 		};
 	}
 
-	private static List<Predicate> createParameterPredicates(final AssetSearchRequest request, final CriteriaBuilder criteriaBuilder, final MapJoin<AssetEntity, String, String> join) {
-		return request.getAdditionalParameters().entrySet().stream()
-			.map(entry -> criteriaBuilder.and(
-				criteriaBuilder.equal(join.key(), entry.getKey()),
-				criteriaBuilder.equal(join.value(), entry.getValue())))
-			.toList();
+	/**
+	 * Translates the requested sort order to a sort on the corresponding entity attribute. The id is added as a tie-breaker
+	 * so that assets sharing the same value are always returned in the same order.
+	 */
+	public static Sort createAssetSort(final AssetSearchRequest request) {
+		if (request.getSortBy() == null) {
+			return Sort.unsorted();
+		}
+
+		final var direction = request.getSortDirection() == SortDirection.DESC ? Sort.Direction.DESC : Sort.Direction.ASC;
+		return Sort.by(direction, SORT_ATTRIBUTES.get(request.getSortBy()), AssetEntity_.ID);
+	}
+
+	/**
+	 * Assets that have not been updated since they were created have no updated timestamp and are matched on their
+	 * creation time instead. Both alternatives are ranges on the (municipality_id, updated, created) index, the second one
+ * on created within the assets whose updated is null.
+	 */
+	private static Predicate createUpdatedAfterPredicate(final OffsetDateTime updatedAfter, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root) {
+		final var updated = root.<OffsetDateTime>get(AssetEntity_.UPDATED);
+
+		return criteriaBuilder.or(
+			criteriaBuilder.greaterThan(updated, updatedAfter),
+			criteriaBuilder.and(
+				criteriaBuilder.isNull(updated),
+				criteriaBuilder.greaterThan(root.get(AssetEntity_.CREATED), updatedAfter)));
+	}
+
+	/**
+	 * Matches the requested additional parameters through correlated EXISTS subqueries instead of joining the
+	 * collection into the main query, which would return one row per matching parameter. In ALL mode every key/value
+	 * pair gets its own subquery, in ANY mode (default) the pairs are OR-combined within a single subquery.
+	 */
+	private static Predicate createParameterPredicate(final AssetSearchRequest request, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root) {
+		final var entries = request.getAdditionalParameters().entrySet();
+
+		if (request.getAdditionalParametersMatchMode() == ALL) {
+			return criteriaBuilder.and(entries.stream()
+				.map(entry -> existsParameter(query, criteriaBuilder, root, join -> createEntryPredicate(entry, criteriaBuilder, join)))
+				.toArray(Predicate[]::new));
+		}
+
+		return existsParameter(query, criteriaBuilder, root, join -> criteriaBuilder.or(entries.stream()
+			.map(entry -> createEntryPredicate(entry, criteriaBuilder, join))
+			.toArray(Predicate[]::new)));
+	}
+
+	private static Predicate existsParameter(final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root, final Function<MapJoin<AssetEntity, String, String>, Predicate> parameterPredicate) {
+		final var subquery = query.subquery(Integer.class);
+		final MapJoin<AssetEntity, String, String> join = subquery.correlate(root).joinMap(AssetEntity_.ADDITIONAL_PARAMETERS);
+
+		return criteriaBuilder.exists(subquery
+			.select(criteriaBuilder.literal(1))
+			.where(parameterPredicate.apply(join)));
+	}
+
+	private static Predicate createEntryPredicate(final Entry<String, String> entry, final CriteriaBuilder criteriaBuilder, final MapJoin<AssetEntity, String, String> join) {
+		return criteriaBuilder.and(
+			criteriaBuilder.equal(join.key(), entry.getKey()),
+			criteriaBuilder.equal(join.value(), entry.getValue()));
+	}
+
+	/**
+	 * Matches assets having a json parameter with the given key where the value at the given JSON path equals the
+	 * requested value. Expressed as a correlated EXISTS so that assets with several json parameters are not duplicated.
+	 */
+	private static Predicate createJsonParameterPredicate(final AssetJsonParameterFilter filter, final CriteriaQuery<?> query, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root) {
+		final var subquery = query.subquery(Integer.class);
+		final var parameter = subquery.from(AssetJsonParameterEntity.class);
+		final var jsonValue = criteriaBuilder.function(JSON_VALUE_FUNCTION, String.class, parameter.get(AssetJsonParameterEntity_.VALUE), criteriaBuilder.literal(filter.getJsonPath()));
+
+		subquery.select(criteriaBuilder.literal(1))
+			.where(
+				criteriaBuilder.equal(parameter.get(AssetJsonParameterEntity_.ASSET), root),
+				criteriaBuilder.equal(parameter.get(AssetJsonParameterEntity_.KEY), filter.getKey()),
+				criteriaBuilder.equal(jsonValue, filter.getValue()));
+
+		return criteriaBuilder.exists(subquery);
+	}
+
+	private static void addInCriteria(final String attribute, final Collection<?> values, final List<Predicate> predicates, final Root<AssetEntity> root) {
+		if (!isEmpty(values)) {
+			predicates.add(root.get(attribute).in(values));
+		}
+	}
+
+	/**
+	 * Adds an inclusive range on the attribute, where either bound may be left open.
+	 */
+	private static <T extends Comparable<? super T>> void addRangeCriteria(final String attribute, final T from, final T until, final List<Predicate> predicates, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root) {
+		ofNullable(from).ifPresent(value -> predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<T>get(attribute), value)));
+		ofNullable(until).ifPresent(value -> predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<T>get(attribute), value)));
 	}
 
 	private static void addEqualCriteria(final String attribute, final Object value, final List<Predicate> predicates, final CriteriaBuilder criteriaBuilder, final Root<AssetEntity> root) {
@@ -0,0 +1,86 @@
+package se.sundsvall.partyassets.integration.db.type;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractClassJavaType;
+import org.hibernate.type.descriptor.java.ImmutableMutabilityPlan;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
+
+/**
+ * Keeps UUID identifiers as their textual representation in the entities (and thereby in the API) while they are
+ * stored as 16 bytes in the database, which keeps primary keys and every index containing them compact.
+ */
+public class BinaryUuidJavaType extends AbstractClassJavaType<String> {
+
+	private static final int UUID_LENGTH = 16;
+
+	public BinaryUuidJavaType() {
+		super(String.class, ImmutableMutabilityPlan.instance());
+	}
+
+	@Override
+	public JdbcType getRecommendedJdbcType(final JdbcTypeIndicators indicators) {
+		return indicators.getTypeConfiguration().getJdbcTypeRegistry().getDescriptor(SqlTypes.BINARY);
+	}
+
+	@Override
+	public long getDefaultSqlLength(final Dialect dialect, final JdbcType jdbcType) {
+		return UUID_LENGTH;
+	}
+
+	@Override
+	public String toString(final String value) {
+		return value;
+	}
+
+	@Override
+	public String fromString(final CharSequence string) {
+		return string == null ? null : string.toString();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+		if (value == null) {
+			return null;
+		}
+		if (byte[].class.isAssignableFrom(type)) {
+			return (X) toBytes(value);
+		}
+		if (String.class.isAssignableFrom(type)) {
+			return (X) value;
+		}
+		throw unknownUnwrap(type);
+	}
+
+	@Override
+	public <X> String wrap(final X value, final WrapperOptions options) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof final byte[] bytes) {
+			return fromBytes(bytes);
+		}
+		if (value instanceof final String string) {
+			return string;
+		}
+		throw unknownWrap(value.getClass());
+	}
+
+	static byte[] toBytes(final String value) {
+		final var uuid = UUID.fromString(value);
+		return ByteBuffer.allocate(UUID_LENGTH)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+
+	static String fromBytes(final byte[] bytes) {
+		final var buffer = ByteBuffer.wrap(bytes);
+		return new UUID(buffer.getLong(), buffer.getLong()).toString();
+	}
+}
@@ -0,0 +1,84 @@
+package se.sundsvall.partyassets.integration.http;
+
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.TimeValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the HTTP client of a Feign integration, so that each integration gets a pool of its own that is sized and
+ * monitored separately. By default a pool of keep-alive HTTP/1.1 connections is used, whose utilization is published
+ * as the {@code httpcomponents.httpclient.pool.*} gauges tagged with the integration name. With HTTP/2 enabled, requests
+ * are instead multiplexed over the connections of a JDK HTTP client, which does not expose pool metrics.
+ */
+@Component
+public class FeignHttpClientFactory implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(FeignHttpClientFactory.class);
+
+	private final MeterRegistry meterRegistry;
+	private final List<AutoCloseable> httpClients = new CopyOnWriteArrayList<>();
+
+	public FeignHttpClientFactory(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	public Client create(final String name, final HttpClientProperties properties) {
+		return properties.http2() ? createHttp2Client() : createPooledClient(name, properties);
+	}
+
+	@Override
+	public void destroy() {
+		httpClients.forEach(httpClient -> {
+			try {
+				httpClient.close();
+			} catch (final Exception e) {
+				LOG.warn("Unable to close HTTP client", e);
+			}
+		});
+		httpClients.clear();
+	}
+
+	private Client createPooledClient(final String name, final HttpClientProperties properties) {
+		final var keepAlive = TimeValue.ofMilliseconds(properties.keepAlive().toMillis());
+		final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.maxConnections())
+			// All requests of an integration go to the same host
+			.setMaxConnPerRoute(properties.maxConnections())
+			.build();
+
+		final var httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setKeepAliveStrategy((_, _) -> keepAlive)
+			.evictExpiredConnections()
+			.evictIdleConnections(keepAlive)
+			.disableAutomaticRetries()
+			.build();
+		httpClients.add(() -> httpClient.close(CloseMode.GRACEFUL));
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+
+		return new ApacheHttp5Client(httpClient);
+	}
+
+	private Client createHttp2Client() {
+		final var httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.build();
+		httpClients.add(httpClient);
+
+		return new Http2Client(httpClient);
+	}
+}
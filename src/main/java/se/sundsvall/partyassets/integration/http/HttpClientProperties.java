@@ -0,0 +1,16 @@
+package se.sundsvall.partyassets.integration.http;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * HTTP client settings of an integration.
+ *
+ * @param maxConnections maximum number of pooled connections to the integration, not used with HTTP/2
+ * @param keepAlive      how long an idle pooled connection is kept open for reuse, not used with HTTP/2
+ * @param http2          if requests should be multiplexed over HTTP/2 instead of using a pool of HTTP/1.1 connections
+ */
+public record HttpClientProperties(
+	@DefaultValue("50") int maxConnections,
+	@DefaultValue("PT30S") Duration keepAlive,
+	@DefaultValue("false") boolean http2) {}
@@ -1,5 +1,6 @@
 package se.sundsvall.partyassets.integration.jsonschema;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -13,6 +14,7 @@ import static se.sundsvall.partyassets.integration.jsonschema.configuration.Json
 
 @FeignClient(name = CLIENT_ID, url = "${integration.json-schema.url}", configuration = JsonSchemaConfiguration.class)
 @CircuitBreaker(name = CLIENT_ID)
+@Bulkhead(name = CLIENT_ID)
 public interface JsonSchemaClient {
 
 	/**
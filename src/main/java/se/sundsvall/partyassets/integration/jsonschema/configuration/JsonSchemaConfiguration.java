@@ -3,10 +3,11 @@ package se.sundsvall.partyassets.integration.jsonschema.configuration;
 import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import se.sundsvall.dept44.configuration.feign.FeignConfiguration;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+import se.sundsvall.partyassets.integration.http.FeignHttpClientFactory;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
 
 @Import(FeignConfiguration.class)
 public class JsonSchemaConfiguration {
@@ -14,11 +15,18 @@ public class JsonSchemaConfiguration {
 	public static final String CLIENT_ID = "json-schema";
 
 	@Bean
-	FeignBuilderCustomizer jsonSchemaFeignBuilderCustomizer(ClientRegistrationRepository clientRepository, JsonSchemaProperties jsonSchemaProperties) {
-		return FeignMultiCustomizer.create()
-			.withErrorDecoder(new ProblemErrorDecoder(CLIENT_ID))
+	FeignBuilderCustomizer jsonSchemaFeignBuilderCustomizer(OAuth2TokenCache tokenCache, FeignHttpClientFactory httpClientFactory, JsonSchemaProperties jsonSchemaProperties) {
+		final var customizer = FeignMultiCustomizer.create()
+			.withErrorDecoder(tokenCache.errorDecoder(CLIENT_ID, new ProblemErrorDecoder(CLIENT_ID)))
 			.withRequestTimeoutsInSeconds(jsonSchemaProperties.connectTimeout(), jsonSchemaProperties.readTimeout())
-			.withRetryableOAuth2InterceptorForClientRegistration(clientRepository.findByRegistrationId(CLIENT_ID))
 			.composeCustomizersToOne();
+		final var client = httpClientFactory.create(CLIENT_ID, jsonSchemaProperties.httpClient());
+
+		return builder -> {
+			customizer.customize(builder);
+			builder.requestInterceptor(tokenCache.requestInterceptor(CLIENT_ID));
+			builder.retryer(tokenCache.retryer());
+			builder.client(client);
+		};
 	}
 }
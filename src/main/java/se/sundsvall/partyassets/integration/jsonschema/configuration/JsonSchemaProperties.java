@@ -1,6 +1,8 @@
 package se.sundsvall.partyassets.integration.jsonschema.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import se.sundsvall.partyassets.integration.http.HttpClientProperties;
 
 @ConfigurationProperties("integration.json-schema")
-public record JsonSchemaProperties(int connectTimeout, int readTimeout) {}
+public record JsonSchemaProperties(int connectTimeout, int readTimeout, @DefaultValue HttpClientProperties httpClient) {}
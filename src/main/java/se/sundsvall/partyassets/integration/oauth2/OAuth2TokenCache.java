@@ -0,0 +1,202 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.endpoint.RestClientClientCredentialsTokenResponseClient;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+/**
+ * Client credentials tokens for the Feign integrations. A token is fetched on first use and cached per client
+ * registration. Every refresh interval, tokens that expire within the refresh-ahead time are replaced in the
+ * background, so requests do not wait on the token endpoint. A request only fetches a token itself when none is cached
+ * or the cached one has expired, e.g. after the token endpoint has been unavailable for longer than the refresh-ahead
+ * time.
+ * <p>
+ * Each fetch is recorded as the timer {@value #METRIC_NAME}, tagged with the client registration, whether the fetch was
+ * made by a request or by the background refresh, and its outcome.
+ */
+@Component
+public class OAuth2TokenCache implements SmartLifecycle {
+
+	static final String METRIC_NAME = "oauth2.token.fetch";
+	static final String TRIGGER_REQUEST = "request";
+	static final String TRIGGER_REFRESH = "refresh";
+
+	/**
+	 * Tokens closer to expiry than this are not used, as they could expire before the request reaches the integration.
+	 */
+	static final Duration EXPIRY_MARGIN = Duration.ofSeconds(10);
+
+	private static final Logger LOG = LoggerFactory.getLogger(OAuth2TokenCache.class);
+
+	private final ClientRegistrationRepository clientRegistrationRepository;
+	private final OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClient;
+	private final MeterRegistry meterRegistry;
+	private final OAuth2TokenCacheProperties properties;
+	private final Map<String, OAuth2AccessToken> tokens = new ConcurrentHashMap<>();
+	private final Map<String, CompletableFuture<OAuth2AccessToken>> fetches = new ConcurrentHashMap<>();
+	private ScheduledExecutorService executor;
+
+	public OAuth2TokenCache(final ClientRegistrationRepository clientRegistrationRepository,
+		final ObjectProvider<OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest>> tokenResponseClient, final MeterRegistry meterRegistry,
+		final OAuth2TokenCacheProperties properties) {
+
+		this.clientRegistrationRepository = clientRegistrationRepository;
+		this.tokenResponseClient = tokenResponseClient.getIfAvailable(RestClientClientCredentialsTokenResponseClient::new);
+		this.meterRegistry = meterRegistry;
+		this.properties = properties;
+	}
+
+	@Override
+	public synchronized void start() {
+		final var interval = properties.refreshInterval().toMillis();
+		executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("oauth2-token-refresh").daemon().factory());
+		executor.scheduleWithFixedDelay(this::refresh, interval, interval, MILLISECONDS);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return executor != null;
+	}
+
+	/**
+	 * Returns a valid token for the client registration, fetching one if none is cached or the cached one has expired.
+	 * Concurrent requests for the same registration wait on a single fetch, which is made outside the token map.
+	 */
+	public String getToken(final String registrationId) {
+		final var token = tokens.get(registrationId);
+		if (isUsable(token)) {
+			return token.getTokenValue();
+		}
+
+		final var fetching = new CompletableFuture<OAuth2AccessToken>();
+		final var pending = fetches.putIfAbsent(registrationId, fetching);
+		if (pending != null) {
+			return await(pending).getTokenValue();
+		}
+
+		try {
+			// Another request may have stored a token between the first read and registering this fetch
+			var current = tokens.get(registrationId);
+			if (!isUsable(current)) {
+				current = fetch(registrationId, TRIGGER_REQUEST);
+				tokens.put(registrationId, current);
+			}
+			fetching.complete(current);
+			return current.getTokenValue();
+		} catch (final RuntimeException e) {
+			fetching.completeExceptionally(e);
+			throw e;
+		} finally {
+			fetches.remove(registrationId, fetching);
+		}
+	}
+
+	public void invalidate(final String registrationId) {
+		tokens.remove(registrationId);
+	}
+
+	/**
+	 * Returns a Feign interceptor adding a bearer token of the client registration to each request.
+	 */
+	public RequestInterceptor requestInterceptor(final String registrationId) {
+		return template -> template.header(AUTHORIZATION, "Bearer " + getToken(registrationId));
+	}
+
+	/**
+	 * Returns an error decoder that drops the cached token of the client registration on 401 and marks the error as
+	 * retryable.
+	 */
+	public ErrorDecoder errorDecoder(final String registrationId, final ErrorDecoder delegate) {
+		return new TokenInvalidatingErrorDecoder(this, registrationId, delegate);
+	}
+
+	/**
+	 * Returns a Feign retryer that sends a request rejected with 401 once more, with the token fetched after the rejected
+	 * one was dropped by {@link #errorDecoder(String, ErrorDecoder)}.
+	 */
+	public Retryer retryer() {
+		return new TokenRefreshRetryer();
+	}
+
+	void refresh() {
+		final var refreshBefore = Instant.now().plus(properties.refreshAhead());
+		tokens.forEach((registrationId, token) -> {
+			if (isNull(token.getExpiresAt()) || token.getExpiresAt().isAfter(refreshBefore)) {
+				return;
+			}
+			try {
+				tokens.put(registrationId, fetch(registrationId, TRIGGER_REFRESH));
+			} catch (final RuntimeException e) {
+				LOG.warn("Unable to refresh token for {}, the cached token expires at {}", registrationId, token.getExpiresAt(), e);
+			}
+		});
+	}
+
+	private OAuth2AccessToken fetch(final String registrationId, final String trigger) {
+		final var sample = Timer.start(meterRegistry);
+		var outcome = "failure";
+		try {
+			final var registration = clientRegistrationRepository.findByRegistrationId(registrationId);
+			if (isNull(registration)) {
+				throw new IllegalArgumentException("No client registration with id " + registrationId);
+			}
+			final var token = tokenResponseClient.getTokenResponse(new OAuth2ClientCredentialsGrantRequest(registration)).getAccessToken();
+			outcome = "success";
+			return token;
+		} finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+				.description("Time spent fetching OAuth2 client credentials tokens")
+				.tag("client", registrationId)
+				.tag("trigger", trigger)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	private static OAuth2AccessToken await(final CompletableFuture<OAuth2AccessToken> fetch) {
+		try {
+			return fetch.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static boolean isUsable(final OAuth2AccessToken token) {
+		return token != null && (isNull(token.getExpiresAt()) || token.getExpiresAt().isAfter(Instant.now().plus(EXPIRY_MARGIN)));
+	}
+}
@@ -0,0 +1,14 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param refreshAhead    how long before expiry a cached token is replaced by a new one in the background
+ * @param refreshInterval how often cached tokens are checked for expiry
+ */
+@ConfigurationProperties("integration.oauth2")
+public record OAuth2TokenCacheProperties(
+	@DefaultValue("PT1M") Duration refreshAhead,
+	@DefaultValue("PT10S") Duration refreshInterval) {}
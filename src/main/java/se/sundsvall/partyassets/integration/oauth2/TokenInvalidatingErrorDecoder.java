@@ -0,0 +1,36 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * Decodes errors with the delegate. When the integration answers 401, the cached token of the client registration is
+ * dropped and the decoded error is wrapped in a {@link RetryableException}, so that {@link TokenRefreshRetryer} sends
+ * the request once more with a new token.
+ */
+public class TokenInvalidatingErrorDecoder implements ErrorDecoder {
+
+	private final OAuth2TokenCache tokenCache;
+	private final String registrationId;
+	private final ErrorDecoder delegate;
+
+	TokenInvalidatingErrorDecoder(final OAuth2TokenCache tokenCache, final String registrationId, final ErrorDecoder delegate) {
+		this.tokenCache = tokenCache;
+		this.registrationId = registrationId;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Exception decode(final String methodKey, final Response response) {
+		if (response.status() != UNAUTHORIZED.value()) {
+			return delegate.decode(methodKey, response);
+		}
+
+		tokenCache.invalidate(registrationId);
+		final var exception = delegate.decode(methodKey, response);
+		return new RetryableException(response.status(), exception.getMessage(), response.request().httpMethod(), exception, (Long) null, response.request());
+	}
+}
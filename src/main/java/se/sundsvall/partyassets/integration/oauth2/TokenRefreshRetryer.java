@@ -0,0 +1,37 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.RetryableException;
+import feign.Retryer;
+
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * Sends a request rejected with 401 once more, with the new token fetched after {@link TokenInvalidatingErrorDecoder}
+ * dropped the rejected one. When the new token is rejected as well, the error decoded by the delegate of the error
+ * decoder is thrown. Other errors are not retried.
+ */
+public class TokenRefreshRetryer implements Retryer {
+
+	private boolean retried;
+
+	TokenRefreshRetryer() {}
+
+	@Override
+	public void continueOrPropagate(final RetryableException e) {
+		if (e.status() != UNAUTHORIZED.value()) {
+			throw e;
+		}
+		if (retried) {
+			if (e.getCause() instanceof final RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+		retried = true;
+	}
+
+	@Override
+	public Retryer clone() {
+		return new TokenRefreshRetryer();
+	}
+}
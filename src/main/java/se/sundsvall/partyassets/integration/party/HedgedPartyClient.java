@@ -0,0 +1,51 @@
+package se.sundsvall.partyassets.integration.party;
+
+import generated.se.sundsvall.party.PartyType;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.integration.party.configuration.PartyProperties;
+import se.sundsvall.partyassets.integration.resilience.RequestHedger;
+
+import static se.sundsvall.partyassets.integration.party.configuration.PartyConfiguration.CLIENT_ID;
+
+/**
+ * Lookups in Party, hedged according to {@code integration.party.hedging} to cut the long tail of their latency.
+ */
+@Component
+public class HedgedPartyClient implements DisposableBean {
+
+	private final PartyClient partyClient;
+	private final RequestHedger requestHedger;
+
+	@Autowired
+	public HedgedPartyClient(final PartyClient partyClient, final PartyProperties properties, final MeterRegistry meterRegistry) {
+		this(partyClient, new RequestHedger(CLIENT_ID, properties.hedging(), meterRegistry));
+	}
+
+	HedgedPartyClient(final PartyClient partyClient, final RequestHedger requestHedger) {
+		this.partyClient = partyClient;
+		this.requestHedger = requestHedger;
+	}
+
+	/**
+	 * @see PartyClient#getLegalId(String, PartyType, String)
+	 */
+	public Optional<String> getLegalId(final String municipalityId, final PartyType type, final String partyId) {
+		return requestHedger.call("getLegalId", () -> partyClient.getLegalId(municipalityId, type, partyId));
+	}
+
+	/**
+	 * @see PartyClient#getPartyId(String, PartyType, String)
+	 */
+	public Optional<String> getPartyId(final String municipalityId, final PartyType type, final String legalId) {
+		return requestHedger.call("getPartyId", () -> partyClient.getPartyId(municipalityId, type, legalId));
+	}
+
+	@Override
+	public void destroy() {
+		requestHedger.close();
+	}
+}
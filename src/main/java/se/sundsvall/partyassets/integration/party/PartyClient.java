@@ -1,6 +1,7 @@
 package se.sundsvall.partyassets.integration.party;
 
 import generated.se.sundsvall.party.PartyType;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.util.Optional;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -13,6 +14,7 @@ import static se.sundsvall.partyassets.integration.party.configuration.PartyConf
 
 @FeignClient(name = CLIENT_ID, url = "${integration.party.url}", configuration = PartyConfiguration.class, dismiss404 = true)
 @CircuitBreaker(name = CLIENT_ID)
+@Bulkhead(name = CLIENT_ID)
 public interface PartyClient {
 
 	/**
@@ -11,9 +11,9 @@ import static org.springframework.http.HttpStatus.NOT_FOUND;
 @Component
 public class PartyTypeProvider {
 
-	private final PartyClient partyClient;
+	private final HedgedPartyClient partyClient;
 
-	public PartyTypeProvider(final PartyClient partyClient) {
+	public PartyTypeProvider(final HedgedPartyClient partyClient) {
 		this.partyClient = partyClient;
 	}
 
@@ -1,6 +1,9 @@
 package se.sundsvall.partyassets.integration.party.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import se.sundsvall.partyassets.integration.http.HttpClientProperties;
+import se.sundsvall.partyassets.integration.resilience.HedgingProperties;
 
 @ConfigurationProperties("integration.party")
-public record PartyProperties(int connectTimeout, int readTimeout) {}
+public record PartyProperties(int connectTimeout, int readTimeout, @DefaultValue HttpClientProperties httpClient, @DefaultValue HedgingProperties hedging) {}
@@ -1,6 +1,7 @@
 package se.sundsvall.partyassets.integration.relation;
 
 import generated.se.sundsvall.relation.Relation;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,7 @@ import static se.sundsvall.partyassets.integration.relation.configuration.Relati
 	configuration = RelationConfiguration.class,
 	dismiss404 = true)
 @CircuitBreaker(name = CLIENT_ID)
+@Bulkhead(name = CLIENT_ID)
 public interface RelationClient {
 
 	/**
@@ -4,10 +4,11 @@ import java.util.List;
 import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import se.sundsvall.dept44.configuration.feign.FeignConfiguration;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+import se.sundsvall.partyassets.integration.http.FeignHttpClientFactory;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
 
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
@@ -17,11 +18,18 @@ public class RelationConfiguration {
 	public static final String CLIENT_ID = "relation";
 
 	@Bean
-	FeignBuilderCustomizer feignBuilderCustomizer(final ClientRegistrationRepository clientRepository, final RelationProperties relationProperties) {
-		return FeignMultiCustomizer.create()
-			.withErrorDecoder(new ProblemErrorDecoder(CLIENT_ID, List.of(NOT_FOUND.value())))
+	FeignBuilderCustomizer feignBuilderCustomizer(final OAuth2TokenCache tokenCache, final FeignHttpClientFactory httpClientFactory, final RelationProperties relationProperties) {
+		final var customizer = FeignMultiCustomizer.create()
+			.withErrorDecoder(tokenCache.errorDecoder(CLIENT_ID, new ProblemErrorDecoder(CLIENT_ID, List.of(NOT_FOUND.value()))))
 			.withRequestTimeoutsInSeconds(relationProperties.connectTimeout(), relationProperties.readTimeout())
-			.withRetryableOAuth2InterceptorForClientRegistration(clientRepository.findByRegistrationId(CLIENT_ID))
 			.composeCustomizersToOne();
+		final var client = httpClientFactory.create(CLIENT_ID, relationProperties.httpClient());
+
+		return builder -> {
+			customizer.customize(builder);
+			builder.requestInterceptor(tokenCache.requestInterceptor(CLIENT_ID));
+			builder.retryer(tokenCache.retryer());
+			builder.client(client);
+		};
 	}
 }
@@ -1,7 +1,8 @@
 package se.sundsvall.partyassets.integration.relation.configuration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import se.sundsvall.partyassets.integration.http.HttpClientProperties;
 
 @ConfigurationProperties("integration.relation")
-public record RelationProperties(int connectTimeout, int readTimeout) {
-}
+public record RelationProperties(int connectTimeout, int readTimeout, @DefaultValue HttpClientProperties httpClient) {}
@@ -0,0 +1,97 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Adapts the concurrency limit of the bulkheads of the downstream integrations to their latency, so that a slow
+ * dependency sheds load as soon as it starts queueing calls, instead of holding request threads until the configured
+ * maximum is reached.
+ * <p>
+ * The latency of each call is taken from the events of the circuit breaker with the same name as the bulkhead, which
+ * wraps the same calls. Calls rejected by the bulkhead are ignored by the circuit breaker and thereby not sampled. The
+ * current limit is published by the {@code resilience4j.bulkhead.max.allowed.concurrent.calls} gauge.
+ * <p>
+ * Lowering the limit of a bulkhead waits for calls in flight to release their permits, so new limits are applied on a
+ * separate thread and never by the calling thread.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+	private final ExecutorService executor;
+
+	@Autowired
+	public AdaptiveConcurrencyLimiter(final BulkheadRegistry bulkheadRegistry, final CircuitBreakerRegistry circuitBreakerRegistry, final AdaptiveConcurrencyProperties properties) {
+		this(bulkheadRegistry, circuitBreakerRegistry, properties, Executors.newSingleThreadExecutor(Thread.ofPlatform().name("adaptive-concurrency").daemon().factory()));
+	}
+
+	AdaptiveConcurrencyLimiter(final BulkheadRegistry bulkheadRegistry, final CircuitBreakerRegistry circuitBreakerRegistry, final AdaptiveConcurrencyProperties properties, final ExecutorService executor) {
+		this.executor = executor;
+
+		properties.instances().forEach(name -> {
+			final var bulkhead = bulkheadRegistry.bulkhead(name);
+			final var adaptiveBulkhead = new AdaptiveBulkhead(bulkhead, new GradientConcurrencyLimit(properties.minLimit(), bulkhead.getBulkheadConfig().getMaxConcurrentCalls(),
+				properties.rttTolerance(), properties.smoothing(), properties.longWindow()));
+
+			circuitBreakerRegistry.circuitBreaker(name).getEventPublisher()
+				.onSuccess(event -> adaptiveBulkhead.sample(event.getElapsedDuration()))
+				.onError(event -> adaptiveBulkhead.sample(event.getElapsedDuration()));
+		});
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+
+	private final class AdaptiveBulkhead {
+
+		private final Bulkhead bulkhead;
+		private final GradientConcurrencyLimit limit;
+		private final AtomicInteger target;
+		private final AtomicBoolean pending = new AtomicBoolean();
+
+		private AdaptiveBulkhead(final Bulkhead bulkhead, final GradientConcurrencyLimit limit) {
+			this.bulkhead = bulkhead;
+			this.limit = limit;
+			this.target = new AtomicInteger(limit.getLimit());
+		}
+
+		private void sample(final Duration rtt) {
+			final var metrics = bulkhead.getMetrics();
+			final var inFlight = metrics.getMaxAllowedConcurrentCalls() - metrics.getAvailableConcurrentCalls();
+
+			target.set(limit.update(rtt, inFlight));
+			if (target.get() != metrics.getMaxAllowedConcurrentCalls() && pending.compareAndSet(false, true)) {
+				executor.execute(this::apply);
+			}
+		}
+
+		private void apply() {
+			pending.set(false);
+			final var current = bulkhead.getBulkheadConfig().getMaxConcurrentCalls();
+			final var newLimit = target.get();
+
+			if (newLimit != current) {
+				bulkhead.changeConfig(BulkheadConfig.from(bulkhead.getBulkheadConfig())
+					.maxConcurrentCalls(newLimit)
+					.build());
+				LOG.debug("Concurrency limit of {} changed from {} to {}", bulkhead.getName(), current, newLimit);
+			}
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param instances    names of the bulkheads whose concurrency limit is adapted. The {@code maxConcurrentCalls} of each
+ *                     bulkhead is the upper bound of its limit
+ * @param minLimit     lowest concurrency limit a bulkhead is lowered to
+ * @param rttTolerance how many times slower than the long-term average a call may be before the limit is lowered
+ * @param smoothing    share of each newly calculated limit that is applied, between 0 and 1
+ * @param longWindow   number of calls the long-term average latency is calculated over
+ */
+@ConfigurationProperties("resilience4j.adaptive-concurrency")
+public record AdaptiveConcurrencyProperties(
+	@DefaultValue({"json-schema", "party", "relation"}) List<String> instances,
+	@DefaultValue("2") int minLimit,
+	@DefaultValue("1.5") double rttTolerance,
+	@DefaultValue("0.2") double smoothing,
+	@DefaultValue("100") int longWindow) {}
@@ -0,0 +1,72 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import java.time.Duration;
+
+import static java.lang.Math.clamp;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.sqrt;
+
+/**
+ * Latency gradient based concurrency limit, following the gradient algorithm of Netflix concurrency-limits. The ratio
+ * between the long-term average latency and the latency of the latest call is the gradient. While calls are about as
+ * fast as usual the limit grows by the square root of itself, and when calls get slower, i.e. the dependency starts
+ * queueing them, it shrinks in proportion to the gradient.
+ */
+class GradientConcurrencyLimit {
+
+	/**
+	 * Long-term latency above this multiple of the latest latency means the dependency has recovered from a slow period.
+	 */
+	private static final double RECOVERY_RATIO = 2.0;
+	private static final double RECOVERY_DECAY = 0.95;
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double rttTolerance;
+	private final double smoothing;
+	private final double longRttFactor;
+	private double limit;
+	private double longRtt;
+
+	GradientConcurrencyLimit(final int minLimit, final int maxLimit, final double rttTolerance, final double smoothing, final int longWindow) {
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.rttTolerance = rttTolerance;
+		this.smoothing = smoothing;
+		this.longRttFactor = 2.0 / (longWindow + 1);
+		this.limit = maxLimit;
+	}
+
+	/**
+	 * Updates the limit with the latency of a finished call.
+	 *
+	 * @param  rtt      latency of the call
+	 * @param  inFlight number of calls still in flight
+	 * @return          the new limit
+	 */
+	synchronized int update(final Duration rtt, final int inFlight) {
+		final double shortRtt = max(1, rtt.toNanos());
+		longRtt = longRtt == 0 ? shortRtt : longRtt + (shortRtt - longRtt) * longRttFactor;
+
+		if (longRtt / shortRtt > RECOVERY_RATIO) {
+			// Let the long-term average follow quickly after a period of high latency
+			longRtt *= RECOVERY_DECAY;
+		}
+
+		if (inFlight < limit / 2) {
+			// Too few calls in flight to tell whether the dependency copes with the current limit
+			return getLimit();
+		}
+
+		final var gradient = max(0.5, min(1.0, rttTolerance * longRtt / shortRtt));
+		final var newLimit = limit * gradient + sqrt(limit);
+		limit = clamp(limit * (1 - smoothing) + newLimit * smoothing, minLimit, maxLimit);
+
+		return getLimit();
+	}
+
+	synchronized int getLimit() {
+		return (int) limit;
+	}
+}
@@ -0,0 +1,20 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Request hedging settings of an integration.
+ *
+ * @param enabled    if a second, identical request should be sent when the first one is slow
+ * @param percentile latency percentile of recent requests after which the second request is sent
+ * @param minDelay   shortest time to wait before sending the second request
+ * @param maxDelay   longest time to wait before sending the second request, also used until latencies are known
+ * @param budget     share of requests that may be hedged, between 0 and 1
+ */
+public record HedgingProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("0.95") double percentile,
+	@DefaultValue("PT0.02S") Duration minDelay,
+	@DefaultValue("PT1S") Duration maxDelay,
+	@DefaultValue("0.1") double budget) {}
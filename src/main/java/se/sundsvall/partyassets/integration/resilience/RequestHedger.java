@@ -0,0 +1,188 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.MDC;
+import se.sundsvall.dept44.problem.Problem;
+
+import static java.lang.Math.clamp;
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+/**
+ * Sends a second, identical request when the first one has not returned within the configured latency percentile of
+ * recent requests, and returns the response of the request that completes first. Only idempotent requests may be
+ * hedged.
+ * <p>
+ * The number of hedged requests is bounded by a budget: each request adds {@link HedgingProperties#budget()} tokens, up
+ * to {@link #BUDGET_CAPACITY}, and each hedge takes one token, so a slow dependency never receives more than that share
+ * of extra requests.
+ */
+public class RequestHedger implements AutoCloseable {
+
+	static final String LATENCY_METRIC_NAME = "integration.hedging.latency";
+	static final String FIRED_METRIC_NAME = "integration.hedging.fired";
+	static final String WON_METRIC_NAME = "integration.hedging.won";
+	static final double BUDGET_CAPACITY = 10;
+
+	private final String client;
+	private final HedgingProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final ExecutorService executor;
+	private double budgetTokens;
+
+	public RequestHedger(final String client, final HedgingProperties properties, final MeterRegistry meterRegistry) {
+		this.client = client;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(client + "-hedging-", 0).factory());
+	}
+
+	/**
+	 * Sends the request, hedged if hedging is enabled.
+	 *
+	 * @param  operation name of the operation, used to keep latencies and metrics apart
+	 * @param  request   the request to send
+	 * @return           the response of the request that completed first
+	 */
+	public <T> T call(final String operation, final Supplier<T> request) {
+		if (!properties.enabled()) {
+			return request.get();
+		}
+
+		final var latency = latencyTimer(operation);
+		final var delay = hedgeDelay(latency);
+		final var result = new CompletableFuture<T>();
+		final var pending = new AtomicInteger(1);
+		depositBudget();
+
+		send(operation, request, latency, result, pending, false);
+		try {
+			return result.get(delay.toNanos(), NANOSECONDS);
+		} catch (final TimeoutException _) {
+			if (withdrawBudget()) {
+				// Counted as pending before the result is checked, so that a first request failing from here on leaves the
+				// outcome to the hedge
+				pending.incrementAndGet();
+				if (result.isDone()) {
+					returnBudget();
+				} else {
+					counter(FIRED_METRIC_NAME, operation).increment();
+					send(operation, request, latency, result, pending, true);
+				}
+			}
+			return await(result);
+		} catch (final ExecutionException | InterruptedException e) {
+			return rethrow(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	Duration hedgeDelay(final String operation) {
+		return hedgeDelay(latencyTimer(operation));
+	}
+
+	private Duration hedgeDelay(final Timer latency) {
+		final var percentileNanos = Arrays.stream(latency.takeSnapshot().percentileValues())
+			.mapToLong(value -> (long) value.value(NANOSECONDS))
+			.filter(nanos -> nanos > 0)
+			.findFirst()
+			.orElse(properties.maxDelay().toNanos());
+
+		return Duration.ofNanos(clamp(percentileNanos, properties.minDelay().toNanos(), properties.maxDelay().toNanos()));
+	}
+
+	private <T> void send(final String operation, final Supplier<T> request, final Timer latency, final CompletableFuture<T> result, final AtomicInteger pending, final boolean hedge) {
+		final var context = MDC.getCopyOfContextMap();
+
+		executor.execute(() -> {
+			if (context != null) {
+				MDC.setContextMap(context);
+			}
+			final var start = System.nanoTime();
+			try {
+				final var response = request.get();
+				latency.record(System.nanoTime() - start, NANOSECONDS);
+				if (result.complete(response) && hedge) {
+					counter(WON_METRIC_NAME, operation).increment();
+				}
+			} catch (final RuntimeException | Error e) {
+				// The request that fails last decides the outcome, as long as the other one may still succeed
+				if (pending.decrementAndGet() == 0) {
+					result.completeExceptionally(e);
+				}
+			} finally {
+				MDC.clear();
+			}
+		});
+	}
+
+	private synchronized void depositBudget() {
+		budgetTokens = min(BUDGET_CAPACITY, budgetTokens + properties.budget());
+	}
+
+	private synchronized boolean withdrawBudget() {
+		if (budgetTokens < 1) {
+			return false;
+		}
+		budgetTokens--;
+		return true;
+	}
+
+	private synchronized void returnBudget() {
+		budgetTokens = min(BUDGET_CAPACITY, budgetTokens + 1);
+	}
+
+	private static <T> T await(final CompletableFuture<T> result) {
+		try {
+			return result.get();
+		} catch (final ExecutionException | InterruptedException e) {
+			return rethrow(e);
+		}
+	}
+
+	private static <T> T rethrow(final Exception e) {
+		if (e instanceof InterruptedException) {
+			Thread.currentThread().interrupt();
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, "Interrupted while waiting for a response");
+		}
+		if (e.getCause() instanceof final RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (e.getCause() instanceof final Error error) {
+			throw error;
+		}
+		throw new IllegalStateException(e.getCause());
+	}
+
+	private Timer latencyTimer(final String operation) {
+		return Timer.builder(LATENCY_METRIC_NAME)
+			.description("Latency of requests that may be hedged")
+			.tag("client", client)
+			.tag("operation", operation)
+			.publishPercentiles(properties.percentile())
+			.register(meterRegistry);
+	}
+
+	private Counter counter(final String name, final String operation) {
+		return Counter.builder(name)
+			.tag("client", client)
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+}
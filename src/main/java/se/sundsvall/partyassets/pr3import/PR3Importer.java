@@ -18,12 +18,11 @@ import org.dhatim.fastexcel.reader.ReadableWorkbook;
 import org.dhatim.fastexcel.reader.Row;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 import se.sundsvall.partyassets.api.model.AssetCreateRequest;
 import se.sundsvall.partyassets.api.model.Status;
-import se.sundsvall.partyassets.integration.db.AssetRepository;
-import se.sundsvall.partyassets.integration.party.PartyClient;
+import se.sundsvall.partyassets.integration.party.HedgedPartyClient;
+import se.sundsvall.partyassets.service.AssetService;
 
 import static com.nimbusds.oauth2.sdk.util.StringUtils.isNotBlank;
 import static java.util.Collections.emptyMap;
@@ -31,9 +30,7 @@ import static java.util.Comparator.comparing;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static java.util.function.Predicate.not;
-import static org.springframework.http.HttpStatus.CONFLICT;
 import static se.sundsvall.partyassets.integration.db.model.PartyType.PRIVATE;
-import static se.sundsvall.partyassets.service.mapper.AssetMapper.toEntity;
 
 @Component
 @ConditionalOnProperty(name = "pr3import.enabled", havingValue = "true", matchIfMissing = true)
@@ -87,16 +84,16 @@ class PR3Importer {
 
 	private final PR3ImportProperties properties;
 
-	private final AssetRepository assetRepository;
+	private final AssetService assetService;
 
-	private final PartyClient partyClient;
+	private final HedgedPartyClient partyClient;
 
 	private final Validator validator;
 
-	PR3Importer(final PR3ImportProperties properties, final AssetRepository assetRepository,
-		final PartyClient partyClient, final Validator validator) {
+	PR3Importer(final PR3ImportProperties properties, final AssetService assetService,
+		final HedgedPartyClient partyClient, final Validator validator) {
 		this.properties = properties;
-		this.assetRepository = assetRepository;
+		this.assetService = assetService;
 		this.partyClient = partyClient;
 		this.validator = validator;
 	}
@@ -237,20 +234,11 @@ class PR3Importer {
 				// Validate the asset
 				final var constraintViolations = validator.validate(assetCreateRequest);
 				if (constraintViolations.isEmpty()) {
-					// Save the asset - reusing the asset service would indeed be a viable option,
-					// but as we know when importing PR3 data that we're always storing private assets
-					// we won't need to make the extra calls to the party service to determine the
-					// actual party type
+					// Save the asset - as we know when importing PR3 data that we're always storing
+					// private assets, the asset service is told the party type instead of making the
+					// extra calls to the party service to determine it
 					try {
-						if (assetRepository.existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), municipalityId)) {
-							throw Problem.builder()
-								.withStatus(CONFLICT)
-								.withTitle("Asset already exists")
-								.withDetail("Asset with assetId %s already exists".formatted(assetCreateRequest.getAssetId()))
-								.build();
-						}
-
-						assetRepository.save(toEntity(assetCreateRequest, PRIVATE, municipalityId));
+						assetService.importAsset(municipalityId, assetCreateRequest, PRIVATE);
 					} catch (final Exception e) {
 						if (e instanceof final ThrowableProblem p) {
 							errorDetail = ofNullable(p.getDetail());
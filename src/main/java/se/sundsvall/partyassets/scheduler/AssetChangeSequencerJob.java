@@ -0,0 +1,22 @@
+package se.sundsvall.partyassets.scheduler;
+
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+
+@Component
+public class AssetChangeSequencerJob {
+
+	private final AssetChangeSequencerWorker assetChangeSequencerWorker;
+
+	public AssetChangeSequencerJob(final AssetChangeSequencerWorker assetChangeSequencerWorker) {
+		this.assetChangeSequencerWorker = assetChangeSequencerWorker;
+	}
+
+	@Dept44Scheduled(
+		name = "asset-change-sequencer",
+		cron = "${scheduler.asset-change-sequencer.cron:* * * * * *}",
+		lockAtMostFor = "${scheduler.asset-change-sequencer.lock-at-most-for:PT1M}")
+	public void run() {
+		assetChangeSequencerWorker.sequenceChanges();
+	}
+}
@@ -0,0 +1,48 @@
+package se.sundsvall.partyassets.scheduler;
+
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ * Publishes committed asset changes to readers of the change log by giving them sequence numbers. Only committed
+ * changes are visible to the worker, and the worker runs as a single locked job, so sequence numbers are handed out in
+ * commit order. A reader that has passed a sequence number will therefore never find an unread change with a lower
+ * number later, however long the transaction that wrote the change ran. The unique index on the sequence number
+ * rejects a batch numbered by an overlapping run.
+ */
+@Component
+public class AssetChangeSequencerWorker {
+
+	static final int BATCH_SIZE = 500;
+
+	private final AssetChangeRepository assetChangeRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public AssetChangeSequencerWorker(final AssetChangeRepository assetChangeRepository, final TransactionTemplate transactionTemplate) {
+		this.assetChangeRepository = assetChangeRepository;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	public void sequenceChanges() {
+		int sequenced;
+		do {
+			sequenced = ofNullable(transactionTemplate.execute(_ -> sequenceBatch())).orElse(0);
+		} while (sequenced == BATCH_SIZE);
+	}
+
+	int sequenceBatch() {
+		final List<AssetChangeEntity> changes = assetChangeRepository.findBySequenceNumberIsNullOrderById(Limit.of(BATCH_SIZE));
+		var sequenceNumber = assetChangeRepository.findMaxSequenceNumber();
+		for (final var change : changes) {
+			change.setSequenceNumber(++sequenceNumber);
+		}
+		assetChangeRepository.saveAll(changes);
+		return changes.size();
+	}
+}
@@ -1,36 +1,73 @@
 package se.sundsvall.partyassets.scheduler;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
 import se.sundsvall.partyassets.integration.db.AssetRepository;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.service.AssetSummaryCache;
+import se.sundsvall.partyassets.service.PartyAssetCache;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.EXPIRED;
+import static se.sundsvall.partyassets.service.mapper.AssetChangeMapper.toAssetChangeEntity;
 
 @Component
 public class AssetExpirationWorker {
 
+	static final int CHUNK_SIZE = 1000;
+
 	private static final Logger LOG = LoggerFactory.getLogger(AssetExpirationWorker.class);
 
 	private final AssetRepository assetRepository;
+	private final AssetChangeRepository assetChangeRepository;
+	private final AssetSummaryCache assetSummaryCache;
+	private final PartyAssetCache partyAssetCache;
+	private final TransactionTemplate transactionTemplate;
 
-	public AssetExpirationWorker(final AssetRepository assetRepository) {
+	public AssetExpirationWorker(final AssetRepository assetRepository, final AssetChangeRepository assetChangeRepository, final AssetSummaryCache assetSummaryCache,
+		final PartyAssetCache partyAssetCache, final TransactionTemplate transactionTemplate) {
 		this.assetRepository = assetRepository;
+		this.assetChangeRepository = assetChangeRepository;
+		this.assetSummaryCache = assetSummaryCache;
+		this.partyAssetCache = partyAssetCache;
+		this.transactionTemplate = transactionTemplate;
 	}
 
-	@Transactional
+	/**
+	 * Expires assets with set-based updates, {@value #CHUNK_SIZE} assets at a time. All assets expired in one run get the
+	 * same updated timestamp, so that they are picked up by incremental syncs on updatedAfter. Each chunk is committed in
+	 * its own transaction to keep locks short.
+	 */
 	public void expireAssets() {
 		final var assets = assetRepository.findByStatusInAndValidToBefore(List.of(Status.ACTIVE, Status.TEMPORARY), LocalDate.now());
 		LOG.info("Found {} asset(s) to expire", assets.size());
-		assets.forEach(this::expire);
+
+		final var updated = now(systemDefault()).truncatedTo(MILLIS);
+		for (var index = 0; index < assets.size(); index += CHUNK_SIZE) {
+			final var chunk = assets.subList(index, Math.min(index + CHUNK_SIZE, assets.size()));
+			transactionTemplate.execute(_ -> expire(chunk, updated));
+		}
 	}
 
-	void expire(final AssetEntity asset) {
-		asset.setStatus(Status.EXPIRED);
-		assetRepository.save(asset);
-		LOG.info("Expired asset {}", asset.getId());
+	int expire(final List<AssetEntity> assets, final OffsetDateTime updated) {
+		final var expired = assetRepository.updateStatusByIdIn(assets.stream().map(AssetEntity::getId).toList(), Status.EXPIRED, updated);
+		assetChangeRepository.saveAll(assets.stream()
+			.map(asset -> toAssetChangeEntity(asset.getMunicipalityId(), asset.getId(), asset.getPartyId(), EXPIRED, Status.EXPIRED))
+			.toList());
+		assets.forEach(asset -> {
+			assetSummaryCache.evict(asset.getMunicipalityId(), asset.getAssetId());
+			partyAssetCache.evict(asset.getMunicipalityId(), asset.getPartyId());
+		});
+		LOG.info("Expired {} asset(s)", expired);
+		return expired;
 	}
 }
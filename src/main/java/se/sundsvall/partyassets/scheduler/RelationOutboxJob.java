@@ -0,0 +1,22 @@
+package se.sundsvall.partyassets.scheduler;
+
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.scheduling.Dept44Scheduled;
+
+@Component
+public class RelationOutboxJob {
+
+	private final RelationOutboxWorker relationOutboxWorker;
+
+	public RelationOutboxJob(final RelationOutboxWorker relationOutboxWorker) {
+		this.relationOutboxWorker = relationOutboxWorker;
+	}
+
+	@Dept44Scheduled(
+		name = "relation-outbox",
+		cron = "${scheduler.relation-outbox.cron:*/10 * * * * *}",
+		lockAtMostFor = "${scheduler.relation-outbox.lock-at-most-for:PT5M}")
+	public void run() {
+		relationOutboxWorker.publishRelations();
+	}
+}
@@ -0,0 +1,18 @@
+package se.sundsvall.partyassets.scheduler;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param batchSize      number of outbox entries fetched per batch
+ * @param maxAttempts    number of attempts before an entry is left in the outbox for manual handling
+ * @param initialBackoff delay before the first retry, doubled for every following attempt
+ * @param maxBackoff     upper limit for the delay between retries
+ */
+@ConfigurationProperties("scheduler.relation-outbox")
+public record RelationOutboxProperties(
+	@DefaultValue("50") int batchSize,
+	@DefaultValue("10") int maxAttempts,
+	@DefaultValue("PT30S") Duration initialBackoff,
+	@DefaultValue("PT1H") Duration maxBackoff) {}
@@ -0,0 +1,82 @@
+package se.sundsvall.partyassets.scheduler;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.integration.db.RelationOutboxRepository;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
+import se.sundsvall.partyassets.integration.relation.RelationClient;
+
+import static java.time.ZoneId.systemDefault;
+import static org.apache.commons.lang3.StringUtils.abbreviate;
+import static se.sundsvall.partyassets.service.mapper.RelationMapper.toRelation;
+
+/**
+ * Publishes relations from the outbox to the relation service. Each entry is sent outside of any database transaction
+ * and is removed when the relation has been created. Failed entries are retried with exponential backoff until
+ * {@link RelationOutboxProperties#maxAttempts()} is reached.
+ */
+@Component
+public class RelationOutboxWorker {
+
+	private static final Logger LOG = LoggerFactory.getLogger(RelationOutboxWorker.class);
+	private static final int MAX_ERROR_LENGTH = 255;
+
+	private final RelationOutboxRepository relationOutboxRepository;
+	private final RelationClient relationClient;
+	private final RelationOutboxProperties properties;
+
+	public RelationOutboxWorker(final RelationOutboxRepository relationOutboxRepository, final RelationClient relationClient, final RelationOutboxProperties properties) {
+		this.relationOutboxRepository = relationOutboxRepository;
+		this.relationClient = relationClient;
+		this.properties = properties;
+	}
+
+	public void publishRelations() {
+		var published = 0;
+		var batchSize = 0;
+		do {
+			final var entries = relationOutboxRepository.findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(properties.maxAttempts(), now(), Limit.of(properties.batchSize()));
+			batchSize = entries.size();
+			published += (int) entries.stream().filter(this::publish).count();
+		} while (batchSize == properties.batchSize());
+
+		if (published > 0) {
+			LOG.info("Published {} relation(s) from outbox", published);
+		}
+	}
+
+	boolean publish(final RelationOutboxEntity entry) {
+		try {
+			relationClient.createRelation(entry.getMunicipalityId(), toRelation(entry));
+			relationOutboxRepository.delete(entry);
+			return true;
+		} catch (final RuntimeException e) {
+			final var attempts = entry.getAttempts() + 1;
+			relationOutboxRepository.save(entry
+				.withAttempts(attempts)
+				.withLastError(abbreviate(e.getMessage(), MAX_ERROR_LENGTH))
+				.withNextAttempt(now().plus(backoff(attempts))));
+
+			if (attempts >= properties.maxAttempts()) {
+				LOG.error("Giving up on relation for asset {} after {} attempt(s)", entry.getAssetId(), attempts, e);
+			} else {
+				LOG.warn("Failed to publish relation for asset {} (attempt {}), will retry", entry.getAssetId(), attempts, e);
+			}
+			return false;
+		}
+	}
+
+	Duration backoff(final int attempts) {
+		final var multiplier = 1L << Math.min(attempts - 1, 30);
+		final var backoff = properties.initialBackoff().multipliedBy(multiplier);
+		return backoff.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : backoff;
+	}
+
+	private static OffsetDateTime now() {
+		return OffsetDateTime.now(systemDefault());
+	}
+}
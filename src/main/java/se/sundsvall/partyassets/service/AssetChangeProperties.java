@@ -0,0 +1,16 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param pageSize     maximum number of changes returned per request
+ * @param maxWait      upper limit for how long a request may wait for new changes
+ * @param pollInterval delay between change log reads while a request is waiting
+ */
+@ConfigurationProperties("asset-changes")
+public record AssetChangeProperties(
+	@DefaultValue("500") int pageSize,
+	@DefaultValue("PT25S") Duration maxWait,
+	@DefaultValue("PT1S") Duration pollInterval) {}
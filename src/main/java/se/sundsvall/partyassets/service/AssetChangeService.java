@@ -0,0 +1,57 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import se.sundsvall.partyassets.api.model.AssetChanges;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.delayedExecutor;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static se.sundsvall.partyassets.service.mapper.AssetChangeMapper.toAssetChanges;
+
+/**
+ * Reads the asset change log. A request that finds no changes may wait for new ones (long-poll): the log is then read
+ * again every poll interval on the application task executor, without holding a request thread, until changes show up
+ * or the wait is over.
+ */
+@Service
+public class AssetChangeService {
+
+	private final AssetChangeRepository repository;
+	private final AssetChangeProperties properties;
+	private final Executor executor;
+
+	public AssetChangeService(final AssetChangeRepository repository, final AssetChangeProperties properties, @Qualifier("applicationTaskExecutor") final Executor executor) {
+		this.repository = repository;
+		this.properties = properties;
+		this.executor = executor;
+	}
+
+	public CompletableFuture<AssetChanges> getChanges(final String municipalityId, final long since, final Duration wait) {
+		final var maxWait = wait.compareTo(properties.maxWait()) > 0 ? properties.maxWait() : wait;
+		return poll(municipalityId, since, System.nanoTime() + maxWait.toNanos());
+	}
+
+	private CompletableFuture<AssetChanges> poll(final String municipalityId, final long since, final long deadline) {
+		final var changes = findChanges(municipalityId, since);
+		if (!changes.getChanges().isEmpty() || System.nanoTime() >= deadline) {
+			return completedFuture(changes);
+		}
+		return runAsync(() -> {}, delayedExecutor(properties.pollInterval().toMillis(), MILLISECONDS, executor))
+			.thenCompose(_ -> poll(municipalityId, since, deadline));
+	}
+
+	/**
+	 * Only changes that have been given a sequence number are read. Sequence numbers are assigned in commit order, so the
+	 * returned cursor never passes a change written by a transaction that has not committed yet, however long it runs.
+	 */
+	AssetChanges findChanges(final String municipalityId, final long since) {
+		return toAssetChanges(repository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(municipalityId, since, Limit.of(properties.pageSize())), since);
+	}
+}
@@ -1,69 +1,167 @@
 package se.sundsvall.partyassets.service;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import org.jspecify.annotations.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.support.Relation;
 import se.sundsvall.partyassets.api.model.*;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
 import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.RelationOutboxRepository;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetEntity_;
+import se.sundsvall.partyassets.integration.db.model.AssetStatusProjection;
+import se.sundsvall.partyassets.integration.db.model.PartyType;
 import se.sundsvall.partyassets.integration.party.PartyTypeProvider;
-import se.sundsvall.partyassets.integration.relation.RelationClient;
 import se.sundsvall.partyassets.service.mapper.AssetMapper;
 
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.CREATED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.DELETED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.STATUS_CHANGED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.UPDATED;
 import static se.sundsvall.partyassets.api.model.Status.ACTIVE;
 import static se.sundsvall.partyassets.api.model.Status.DRAFT;
 import static se.sundsvall.partyassets.api.model.Status.REPLACED;
+import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSort;
 import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSpecification;
 import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSpecificationExcludingDraftAsssets;
+import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSpecificationIdAfter;
+import static se.sundsvall.partyassets.service.mapper.AssetChangeMapper.toAssetChangeEntity;
 import static se.sundsvall.partyassets.service.mapper.AssetMapper.toCopyEntity;
 import static se.sundsvall.partyassets.service.mapper.AssetMapper.toEntity;
 import static se.sundsvall.partyassets.service.mapper.AssetMapper.updateEntity;
-import static se.sundsvall.partyassets.service.mapper.RelationMapper.toRelation;
+import static se.sundsvall.partyassets.service.mapper.RelationMapper.toRelationOutboxEntity;
 
 @Service
 @Transactional
 public class AssetService {
 
+	static final int BULK_CHUNK_SIZE = 1000;
+	static final int BULK_FILTER_LIMIT = 10_000;
+
+	private static final Logger LOG = LoggerFactory.getLogger(AssetService.class);
+
 	private static final String ASSET_NOT_FOUND_TITLE = "Asset not found";
 	private static final String ASSET_NOT_FOUND_DETAIL = "Asset with id %s not found for municipalityId %s";
+	private static final String ASSET_ID_NOT_FOUND_DETAIL = "Asset with assetId %s not found for municipalityId %s";
 	private static final String INVALID_SOURCE_REFERENCE_TITLE = "Invalid source reference";
 	private static final String INVALID_SOURCE_REFERENCE_DETAIL = "Provided source reference '%s' is invalid. Expected format: '{relationType}|{sourceResourceId};{sourceType};{sourceService};{sourceNamespace}|'";
 
 	private final AssetRepository repository;
 	private final PartyTypeProvider partyTypeProvider;
-	private final RelationClient relationClient;
+	private final RelationOutboxRepository relationOutboxRepository;
+	private final AssetChangeRepository assetChangeRepository;
+	private final AssetSummaryCache assetSummaryCache;
+	private final PartyAssetCache partyAssetCache;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readOnlyTransactionTemplate;
 
-	public AssetService(final AssetRepository repository, final PartyTypeProvider partyTypeProvider, final RelationClient relationClient) {
+	public AssetService(final AssetRepository repository, final PartyTypeProvider partyTypeProvider, final RelationOutboxRepository relationOutboxRepository,
+		final AssetChangeRepository assetChangeRepository, final AssetSummaryCache assetSummaryCache, final PartyAssetCache partyAssetCache, final TransactionTemplate transactionTemplate,
+		final PlatformTransactionManager transactionManager) {
 		this.repository = repository;
 		this.partyTypeProvider = partyTypeProvider;
-		this.relationClient = relationClient;
+		this.relationOutboxRepository = relationOutboxRepository;
+		this.assetChangeRepository = assetChangeRepository;
+		this.assetSummaryCache = assetSummaryCache;
+		this.partyAssetCache = partyAssetCache;
+		this.transactionTemplate = transactionTemplate;
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
 	}
 
+	/**
+	 * Searches for the assets of one party, optionally with a given status, are served from the party asset cache. All
+	 * other searches go to the database in a read-only transaction, which may be served by the replica.
+	 * <p>
+	 * Cache entries are shared by all clients, so they are loaded in a read-write transaction, which always goes to the
+	 * primary. Loaded from a lagging replica, an entry could hold data from before a write that has already evicted it.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
 	public List<Asset> getAssets(final String municipalityId, final AssetSearchRequest request) {
-		return repository.findAll(createAssetSpecification(municipalityId, request).and(createAssetSpecificationExcludingDraftAsssets()))
+		if (isPartySearch(request)) {
+			return partyAssetCache.get(municipalityId, request.getPartyId(),
+				() -> transactionTemplate.execute(_ -> findAssets(municipalityId, AssetSearchRequest.create().withPartyId(request.getPartyId()))))
+				.stream()
+				.filter(asset -> isNull(request.getStatus()) || asset.getStatus() == request.getStatus())
+				.toList();
+		}
+		return readOnlyTransactionTemplate.execute(_ -> findAssets(municipalityId, request));
+	}
+
+	private List<Asset> findAssets(final String municipalityId, final AssetSearchRequest request) {
+		return repository.findAll(createAssetSpecification(municipalityId, request).and(createAssetSpecificationExcludingDraftAsssets()), createAssetSort(request))
 			.stream()
 			.map(AssetMapper::toAsset)
 			.toList();
 	}
 
+	private static boolean isPartySearch(final AssetSearchRequest request) {
+		return nonNull(request.getPartyId()) && request.equals(AssetSearchRequest.create().withPartyId(request.getPartyId()).withStatus(request.getStatus()));
+	}
+
+	@Transactional(readOnly = true)
 	public List<Asset> getDraftAssets(final String municipalityId, final AssetSearchRequest request) {
 		// Explicitly and always use DRAFT status
-		return repository.findAll(createAssetSpecification(municipalityId, request.withStatus(DRAFT)))
+		return repository.findAll(createAssetSpecification(municipalityId, request.withStatus(DRAFT).withStatuses(null)), createAssetSort(request))
 			.stream()
 			.map(AssetMapper::toAsset)
 			.toList();
 	}
 
+	/**
+	 * Returns the non draft assets of the requested parties, grouped per party in the order the parties were requested.
+	 * Parties without assets are included with an empty list.
+	 */
+	@Transactional(readOnly = true)
+	public List<PartyAssets> getAssetsForParties(final String municipalityId, final AssetLookupRequest request) {
+		final var partyIds = new LinkedHashSet<>(request.getPartyIds());
+		final var entities = isEmpty(request.getAssetIds())
+			? repository.findByMunicipalityIdAndPartyIdInAndStatusNot(municipalityId, partyIds, DRAFT)
+			: repository.findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot(municipalityId, partyIds, Set.copyOf(request.getAssetIds()), DRAFT);
+
+		final var assetsByParty = entities.stream()
+			.collect(groupingBy(AssetEntity::getPartyId, mapping(AssetMapper::toAsset, toList())));
+
+		return partyIds.stream()
+			.map(partyId -> PartyAssets.create()
+				.withPartyId(partyId)
+				.withAssets(assetsByParty.getOrDefault(partyId, emptyList())))
+			.toList();
+	}
+
+	@Transactional(readOnly = true)
 	public Asset getAsset(final String municipalityId, final String id) {
 		return repository.findByIdAndMunicipalityId(id, municipalityId)
 			.map(AssetMapper::toAsset)
@@ -74,33 +172,141 @@ public class AssetService {
 				.build());
 	}
 
+	/**
+	 * Looks up the current asset with the given external asset id through a short lived cache. Only the columns of the
+	 * compact summary are read. Like the party asset cache, entries are loaded from the primary.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public AssetSummary getAssetSummary(final String municipalityId, final String assetId) {
+		return assetSummaryCache.get(municipalityId, assetId, () -> transactionTemplate.execute(_ -> repository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(municipalityId, assetId, DRAFT)
+			.map(AssetMapper::toAssetSummary)))
+			.orElseThrow(() -> Problem.builder()
+				.withStatus(NOT_FOUND)
+				.withTitle(ASSET_NOT_FOUND_TITLE)
+				.withDetail(ASSET_ID_NOT_FOUND_DETAIL.formatted(assetId, municipalityId))
+				.build());
+	}
+
+	/**
+	 * Runs without a surrounding transaction so that the duplicate check, the source reference validation and the party
+	 * lookup (remote calls) don't hold a database connection. Only the inserts are executed transactionally.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
 	public String createAsset(final String municipalityId, final AssetCreateRequest request, final String sourceReference) {
-		if (isNotBlank(request.getAssetId()) && repository.existsByAssetIdAndMunicipalityId(request.getAssetId(), municipalityId)) {
+		verifyAssetIdIsUnique(municipalityId, request.getAssetId());
+
+		final var relation = isNotBlank(sourceReference) ? parseSourceReference(sourceReference) : null;
+		final var partyType = partyTypeProvider.calculatePartyType(municipalityId, request.getPartyId());
+
+		return transactionTemplate.execute(_ -> {
+			final var createdAssetId = saveAsset(municipalityId, request, partyType);
+			if (nonNull(relation)) {
+				// Created in the relation service by RelationOutboxWorker once the transaction has been committed
+				relationOutboxRepository.save(toRelationOutboxEntity(municipalityId, relation, createdAssetId));
+			}
+			return createdAssetId;
+		});
+	}
+
+	/**
+	 * Creates an imported asset. Imports know the party type of their assets, so the party is not looked up, but the asset
+	 * is otherwise written as by {@link #createAsset(String, AssetCreateRequest, String)}, including its change log entry
+	 * and cache eviction.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public String importAsset(final String municipalityId, final AssetCreateRequest request, final PartyType partyType) {
+		verifyAssetIdIsUnique(municipalityId, request.getAssetId());
+
+		return transactionTemplate.execute(_ -> saveAsset(municipalityId, request, partyType));
+	}
+
+	private void verifyAssetIdIsUnique(final String municipalityId, final String assetId) {
+		if (isNotBlank(assetId) && repository.existsByAssetIdAndMunicipalityId(assetId, municipalityId)) {
 			throw Problem.builder()
 				.withStatus(CONFLICT)
 				.withTitle("Asset already exists")
-				.withDetail("Asset with assetId %s already exists".formatted(request.getAssetId()))
+				.withDetail("Asset with assetId %s already exists".formatted(assetId))
 				.build();
 		}
+	}
 
-		final var createdAssetId = repository.save(toEntity(request, partyTypeProvider.calculatePartyType(municipalityId, request.getPartyId()), municipalityId)).getId();
-
-		if (isNotBlank(sourceReference)) {
-			createRelation(municipalityId, sourceReference, createdAssetId);
-		}
+	private String saveAsset(final String municipalityId, final AssetCreateRequest request, final PartyType partyType) {
+		final var createdAssetId = repository.save(toEntity(request, partyType, municipalityId)).getId();
+		assetChangeRepository.save(toAssetChangeEntity(municipalityId, createdAssetId, request.getPartyId(), CREATED, request.getStatus()));
+		assetSummaryCache.evict(municipalityId, request.getAssetId());
+		partyAssetCache.evict(municipalityId, request.getPartyId());
 		return createdAssetId;
 	}
 
 	public void deleteAsset(final String municipalityId, final String id) {
-		if (!repository.existsByIdAndMunicipalityId(id, municipalityId)) {
-			throw Problem.builder()
-				.withStatus(NOT_FOUND)
-				.withTitle(ASSET_NOT_FOUND_TITLE)
-				.withDetail(ASSET_NOT_FOUND_DETAIL.formatted(id, municipalityId))
-				.build();
-		}
+		final var entity = getAssetEntity(municipalityId, id);
 
 		repository.deleteByIdAndMunicipalityId(id, municipalityId);
+		assetChangeRepository.save(toAssetChangeEntity(municipalityId, id, entity.getPartyId(), DELETED, null));
+		assetSummaryCache.evict(municipalityId, entity.getAssetId());
+		partyAssetCache.evict(municipalityId, entity.getPartyId());
+	}
+
+	/**
+	 * Deletes all assets selected by ids or filter (filter excludes drafts, as for search). The rows are removed with
+	 * set-based statements from the collection tables and the asset table, {@value #BULK_CHUNK_SIZE} assets at a time.
+	 * Each chunk is committed in its own transaction to keep locks short, and progress is logged per chunk. A filter is
+	 * read one chunk at a time in id order, continuing after the last id of the previous chunk, so that the selection is
+	 * never held in memory as a whole.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public AssetBulkDeleteResult deleteAssets(final String municipalityId, final AssetBulkDeleteRequest request) {
+		if (nonNull(request.getFilter())) {
+			return AssetBulkDeleteResult.create()
+				.withDeleted(deleteAssetsByFilter(municipalityId, request.getFilter()))
+				.withNotFoundIds(emptyList());
+		}
+
+		final var assets = repository.findByMunicipalityIdAndIdIn(municipalityId, request.getIds());
+		final var deleted = deleteInTransaction(municipalityId, assets);
+		LOG.info("Deleted {} of {} asset(s) in municipality {}", deleted, assets.size(), municipalityId);
+
+		final var foundIds = assets.stream().map(AssetStatusProjection::getId).collect(toSet());
+		return AssetBulkDeleteResult.create()
+			.withDeleted(deleted)
+			.withNotFoundIds(request.getIds().stream()
+				.filter(id -> !foundIds.contains(id))
+				.toList());
+	}
+
+	private int deleteAssetsByFilter(final String municipalityId, final AssetSearchRequest filter) {
+		final var specification = createAssetSpecification(municipalityId, filter).and(createAssetSpecificationExcludingDraftAsssets());
+
+		var deleted = 0;
+		List<AssetStatusProjection> chunk = emptyList();
+		do {
+			final var chunkSpecification = chunk.isEmpty() ? specification : specification.and(createAssetSpecificationIdAfter(chunk.getLast().getId()));
+			chunk = repository.findBy(chunkSpecification, query -> query.as(AssetStatusProjection.class).sortBy(Sort.by(AssetEntity_.ID)).limit(BULK_CHUNK_SIZE).all());
+			deleted += deleteInTransaction(municipalityId, chunk);
+			LOG.info("Deleted {} asset(s) so far in municipality {}", deleted, municipalityId);
+		} while (chunk.size() == BULK_CHUNK_SIZE);
+
+		return deleted;
+	}
+
+	private int deleteInTransaction(final String municipalityId, final List<AssetStatusProjection> assets) {
+		if (assets.isEmpty()) {
+			return 0;
+		}
+
+		final int deleted = ofNullable(transactionTemplate.execute(_ -> deleteChunk(municipalityId, assets))).orElse(0);
+		assets.forEach(asset -> {
+			assetSummaryCache.evict(municipalityId, asset.getAssetId());
+			partyAssetCache.evict(municipalityId, asset.getPartyId());
+		});
+		return deleted;
+	}
+
+	private int deleteChunk(final String municipalityId, final List<AssetStatusProjection> assets) {
+		final var ids = assets.stream().map(AssetStatusProjection::getId).toList();
+		repository.deleteJsonParametersByAssetIdIn(ids);
+		assetChangeRepository.saveAll(assets.stream().map(asset -> toAssetChangeEntity(municipalityId, asset.getId(), asset.getPartyId(), DELETED, null)).toList());
+		return repository.deleteByMunicipalityIdAndIdIn(municipalityId, ids);
 	}
 
 	public String copyAsset(final String municipalityId, final String id) {
@@ -112,7 +318,10 @@ public class AssetService {
 				.withDetail("Only ACTIVE assets can be copied, but asset %s has status %s".formatted(id, original.getStatus()))
 				.build();
 		}
-		return repository.save(toCopyEntity(original)).getId();
+		final var copyId = repository.save(toCopyEntity(original)).getId();
+		assetChangeRepository.save(toAssetChangeEntity(municipalityId, copyId, original.getPartyId(), CREATED, DRAFT));
+		partyAssetCache.evict(municipalityId, original.getPartyId());
+		return copyId;
 	}
 
 	public void updateAsset(final String municipalityId, final String id, final DraftAssetUpdateRequest request) {
@@ -128,11 +337,81 @@ public class AssetService {
 			validateValidTo(entity);
 			markOriginalAsReplaced(municipalityId, entity.getReplacesId());
 		}
+		final var previousStatus = entity.getStatus();
 		repository.save(updateEntity(entity, request));
+		recordUpdate(municipalityId, entity, previousStatus);
 	}
 
 	public void updateAsset(final String municipalityId, final String id, final AssetUpdateRequest request) {
-		repository.save(updateEntity(getAssetEntity(municipalityId, id), request));
+		final var entity = getAssetEntity(municipalityId, id);
+		final var previousStatus = entity.getStatus();
+		repository.save(updateEntity(entity, request));
+		recordUpdate(municipalityId, entity, previousStatus);
+	}
+
+	private void recordUpdate(final String municipalityId, final AssetEntity entity, final Status previousStatus) {
+		final var changeType = entity.getStatus() == previousStatus ? UPDATED : STATUS_CHANGED;
+		assetChangeRepository.save(toAssetChangeEntity(municipalityId, entity.getId(), entity.getPartyId(), changeType, entity.getStatus()));
+		assetSummaryCache.evict(municipalityId, entity.getAssetId());
+		partyAssetCache.evict(municipalityId, entity.getPartyId());
+	}
+
+	/**
+	 * Sets status and status reason on all non-draft assets selected by ids or filter. A filter may select at most
+	 * {@value #BULK_FILTER_LIMIT} assets. Only the id, status and status reason of the selected assets are read, and
+	 * assets that need to change are updated with set-based statements in chunks of {@value #BULK_CHUNK_SIZE}. Each chunk
+	 * is committed in its own transaction, as for {@link #deleteAssets(String, AssetBulkDeleteRequest)}.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public List<AssetBulkUpdateResult> updateAssetStatuses(final String municipalityId, final AssetBulkStatusUpdateRequest request) {
+		final List<AssetStatusProjection> assets = nonNull(request.getFilter())
+			? findByFilter(municipalityId, request.getFilter())
+			: repository.findByMunicipalityIdAndIdInAndStatusNot(municipalityId, request.getIds(), DRAFT);
+
+		final var outcomes = new LinkedHashMap<String, BulkOutcome>();
+		ofNullable(request.getIds()).orElse(emptyList()).forEach(id -> outcomes.put(id, BulkOutcome.NOT_FOUND));
+		assets.forEach(asset -> outcomes.put(asset.getId(), hasStatus(asset, request.getStatus(), request.getStatusReason()) ? BulkOutcome.UNCHANGED : BulkOutcome.UPDATED));
+
+		final var assetsToUpdate = assets.stream()
+			.filter(asset -> outcomes.get(asset.getId()) == BulkOutcome.UPDATED)
+			.toList();
+		final var updated = now(systemDefault()).truncatedTo(MILLIS);
+		for (var index = 0; index < assetsToUpdate.size(); index += BULK_CHUNK_SIZE) {
+			final var chunk = assetsToUpdate.subList(index, Math.min(index + BULK_CHUNK_SIZE, assetsToUpdate.size()));
+			transactionTemplate.execute(_ -> updateStatusChunk(municipalityId, chunk, request, updated));
+		}
+
+		return outcomes.entrySet().stream()
+			.map(entry -> AssetBulkUpdateResult.create().withId(entry.getKey()).withOutcome(entry.getValue()))
+			.toList();
+	}
+
+	private int updateStatusChunk(final String municipalityId, final List<AssetStatusProjection> assets, final AssetBulkStatusUpdateRequest request, final OffsetDateTime updated) {
+		final var count = repository.updateStatusByMunicipalityIdAndIdIn(municipalityId, assets.stream().map(AssetStatusProjection::getId).toList(), request.getStatus(), request.getStatusReason(), updated);
+		assetChangeRepository.saveAll(assets.stream().map(asset -> toAssetChangeEntity(municipalityId, asset.getId(), asset.getPartyId(), STATUS_CHANGED, request.getStatus())).toList());
+		assets.forEach(asset -> {
+			assetSummaryCache.evict(municipalityId, asset.getAssetId());
+			partyAssetCache.evict(municipalityId, asset.getPartyId());
+		});
+		return count;
+	}
+
+	private List<AssetStatusProjection> findByFilter(final String municipalityId, final AssetSearchRequest filter) {
+		final var assets = repository.findBy(createAssetSpecification(municipalityId, filter).and(createAssetSpecificationExcludingDraftAsssets()),
+			query -> query.as(AssetStatusProjection.class).limit(BULK_FILTER_LIMIT + 1).all());
+
+		if (assets.size() > BULK_FILTER_LIMIT) {
+			throw Problem.builder()
+				.withStatus(BAD_REQUEST)
+				.withTitle("Too many assets selected")
+				.withDetail("The filter selects more than %d assets, narrow it down or update the assets in several requests".formatted(BULK_FILTER_LIMIT))
+				.build();
+		}
+		return assets;
+	}
+
+	private static boolean hasStatus(final AssetStatusProjection asset, final Status status, final String statusReason) {
+		return asset.getStatus() == status && Objects.equals(asset.getStatusReason(), statusReason);
 	}
 
 	private void validateValidTo(final AssetEntity entity) {
@@ -154,6 +433,9 @@ public class AssetService {
 			.ifPresent(original -> {
 				original.setStatus(REPLACED);
 				repository.save(original);
+				assetChangeRepository.save(toAssetChangeEntity(municipalityId, original.getId(), original.getPartyId(), AssetChangeType.REPLACED, REPLACED));
+				assetSummaryCache.evict(municipalityId, original.getAssetId());
+				partyAssetCache.evict(municipalityId, original.getPartyId());
 			});
 	}
 
@@ -166,7 +448,7 @@ public class AssetService {
 				.build());
 	}
 
-	private void createRelation(String municipalityId, String sourceReference, String assetId) {
+	private Relation parseSourceReference(String sourceReference) {
 		final var parsedRelation = Relation.parseRelation(sourceReference);
 
 		if (Objects.isNull(parsedRelation) || Objects.isNull(parsedRelation.getSource()) || isBlank(parsedRelation.getType())) {
@@ -176,6 +458,6 @@ public class AssetService {
 				.withDetail(INVALID_SOURCE_REFERENCE_DETAIL.formatted(sourceReference))
 				.build();
 		}
-		relationClient.createRelation(municipalityId, toRelation(parsedRelation.getType(), parsedRelation, assetId));
+		return parsedRelation;
 	}
 }
@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.api.model.AssetSummary;
+
+import static se.sundsvall.partyassets.service.CacheEviction.evictNowAndAfterCompletion;
+
+/**
+ * Short lived cache of asset summaries looked up on external asset id. Lookups that find nothing are cached as well, so
+ * writes evict the entry of the asset id they touch, including creates.
+ */
+@Component
+public class AssetSummaryCache {
+
+	static final String CACHE_NAME = "assetSummaries";
+
+	private final Cache<Key, Optional<AssetSummary>> cache;
+
+	public AssetSummaryCache(final AssetSummaryCacheProperties properties, final MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(properties.ttl())
+			.maximumSize(properties.maxSize())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public Optional<AssetSummary> get(final String municipalityId, final String assetId, final Supplier<Optional<AssetSummary>> loader) {
+		return cache.get(new Key(municipalityId, assetId), _ -> loader.get());
+	}
+
+	public void evict(final String municipalityId, final String assetId) {
+		if (assetId == null) {
+			return;
+		}
+
+		evictNowAndAfterCompletion(cache, new Key(municipalityId, assetId));
+	}
+
+	private record Key(String municipalityId, String assetId) {}
+}
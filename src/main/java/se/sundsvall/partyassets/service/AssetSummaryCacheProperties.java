@@ -0,0 +1,15 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param ttl     how long a looked up asset summary is kept. Writes made on this instance evict the entry at once, so the
+ *                ttl bounds how long a change made on another instance may go unnoticed
+ * @param maxSize maximum number of cached asset summaries
+ */
+@ConfigurationProperties("asset-summary-cache")
+public record AssetSummaryCacheProperties(
+	@DefaultValue("PT10S") Duration ttl,
+	@DefaultValue("10000") long maxSize) {}
@@ -0,0 +1,28 @@
+package se.sundsvall.partyassets.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.springframework.transaction.support.TransactionSynchronizationManager.isSynchronizationActive;
+
+final class CacheEviction {
+
+	private CacheEviction() {}
+
+	/**
+	 * Evicts the entry at once and, when called within a transaction, once more after the transaction has completed. The
+	 * second eviction drops any entry loaded by a concurrent read before the change was committed.
+	 */
+	static <K> void evictNowAndAfterCompletion(final Cache<K, ?> cache, final K key) {
+		cache.invalidate(key);
+		if (isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(final int status) {
+					cache.invalidate(key);
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,52 @@
+package se.sundsvall.partyassets.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.api.model.Asset;
+
+import static se.sundsvall.partyassets.service.CacheEviction.evictNowAndAfterCompletion;
+
+/**
+ * Near-cache of the non-draft assets of a party, serving the repeated "assets of party X" searches made while a case is
+ * handled. Writes made on this instance evict the party they touch, and writes made on other instances are picked up
+ * from the asset change log by {@link PartyAssetCacheSynchronizer}.
+ */
+@Component
+public class PartyAssetCache {
+
+	static final String CACHE_NAME = "partyAssets";
+
+	private final Cache<Key, List<Asset>> cache;
+
+	public PartyAssetCache(final PartyAssetCacheProperties properties, final MeterRegistry meterRegistry) {
+		this.cache = Caffeine.newBuilder()
+			.expireAfterWrite(properties.ttl())
+			.maximumSize(properties.maxSize())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+	}
+
+	public List<Asset> get(final String municipalityId, final String partyId, final Supplier<List<Asset>> loader) {
+		return cache.get(new Key(municipalityId, partyId), _ -> loader.get());
+	}
+
+	public void evict(final String municipalityId, final String partyId) {
+		if (partyId == null) {
+			return;
+		}
+
+		evictNowAndAfterCompletion(cache, new Key(municipalityId, partyId));
+	}
+
+	public void evictAll() {
+		cache.invalidateAll();
+	}
+
+	private record Key(String municipalityId, String partyId) {}
+}
@@ -0,0 +1,19 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param ttl          how long the assets of a party are kept, as a safety net should an invalidation be missed
+ * @param maxSize      maximum number of cached parties
+ * @param pollInterval delay between reads of the asset change log, bounding how long a change made on another instance
+ *                     may go unnoticed
+ * @param pageSize     maximum number of changes read per query
+ */
+@ConfigurationProperties("party-asset-cache")
+public record PartyAssetCacheProperties(
+	@DefaultValue("PT5M") Duration ttl,
+	@DefaultValue("10000") long maxSize,
+	@DefaultValue("PT2S") Duration pollInterval,
+	@DefaultValue("1000") int pageSize) {}
@@ -0,0 +1,92 @@
+package se.sundsvall.partyassets.service;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Keeps the {@link PartyAssetCache} of this instance in step with writes made by other instances. Every poll interval
+ * the asset change log is read after the last seen sequence number and the party of each change is evicted. Sequence
+ * numbers are assigned in commit order, so the cursor never passes a change that has not been committed yet. Runs on
+ * every instance, so it is not a (locked) scheduled job.
+ */
+@Component
+public class PartyAssetCacheSynchronizer implements SmartLifecycle {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PartyAssetCacheSynchronizer.class);
+
+	private final AssetChangeRepository repository;
+	private final PartyAssetCache cache;
+	private final PartyAssetCacheProperties properties;
+	private ScheduledExecutorService executor;
+	private Long cursor;
+
+	public PartyAssetCacheSynchronizer(final AssetChangeRepository repository, final PartyAssetCache cache, final PartyAssetCacheProperties properties) {
+		this.repository = repository;
+		this.cache = cache;
+		this.properties = properties;
+	}
+
+	@Override
+	public synchronized void start() {
+		final var interval = properties.pollInterval().toMillis();
+		executor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("party-asset-cache-sync").daemon().factory());
+		executor.scheduleWithFixedDelay(this::synchronize, interval, interval, MILLISECONDS);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return executor != null;
+	}
+
+	void synchronize() {
+		try {
+			if (cursor == null) {
+				cursor = repository.findMaxSequenceNumber();
+				// Drops anything loaded before the cursor was known
+				cache.evictAll();
+			}
+
+			List<AssetChangeEntity> changes;
+			do {
+				changes = repository.findBySequenceNumberGreaterThanOrderBySequenceNumber(cursor, Limit.of(properties.pageSize()));
+				changes.forEach(this::evict);
+				if (!changes.isEmpty()) {
+					cursor = changes.getLast().getSequenceNumber();
+				}
+			} while (changes.size() == properties.pageSize());
+		} catch (final RuntimeException e) {
+			LOG.warn("Unable to read asset changes, cached party assets may be stale until the next poll", e);
+		}
+	}
+
+	Long getCursor() {
+		return cursor;
+	}
+
+	private void evict(final AssetChangeEntity change) {
+		if (change.getPartyId() == null) {
+			// Written before the party was recorded in the change log
+			cache.evictAll();
+			return;
+		}
+		cache.evict(change.getMunicipalityId(), change.getPartyId());
+	}
+}
@@ -0,0 +1,110 @@
+package se.sundsvall.partyassets.service;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.stereotype.Component;
+import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.StatusRepository;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static se.sundsvall.partyassets.api.model.Status.DRAFT;
+import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSort;
+import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSpecification;
+import static se.sundsvall.partyassets.integration.db.specification.AssetSpecification.createAssetSpecificationExcludingDraftAsssets;
+
+/**
+ * Warms the application up when it is ready, so that the first requests after a deploy do not pay for cold caches,
+ * connection pools and OAuth2 token endpoints. Status reasons are preloaded for all municipalities, the token cache is
+ * filled for each OAuth2 client registration and the main asset queries are run once with values that match nothing.
+ * <p>
+ * Spring Boot reports the application as ready to accept traffic only after all {@link ApplicationReadyEvent} listeners
+ * have returned, so the readiness probe is held down while the warm-up runs. A failing step is logged and does not
+ * stop the application from starting.
+ */
+@Component
+@ConditionalOnProperty(name = "warm-up.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmUp {
+
+	static final String WARM_UP_ID = "warm-up";
+
+	private static final Logger LOG = LoggerFactory.getLogger(StartupWarmUp.class);
+
+	private final StatusRepository statusRepository;
+	private final StatusService statusService;
+	private final AssetRepository assetRepository;
+	private final AssetChangeRepository assetChangeRepository;
+	private final ClientRegistrationRepository clientRegistrationRepository;
+	private final OAuth2TokenCache tokenCache;
+	private final StartupWarmUpProperties properties;
+
+	public StartupWarmUp(final StatusRepository statusRepository, final StatusService statusService, final AssetRepository assetRepository, final AssetChangeRepository assetChangeRepository,
+		final ClientRegistrationRepository clientRegistrationRepository, final OAuth2TokenCache tokenCache, final StartupWarmUpProperties properties) {
+
+		this.statusRepository = statusRepository;
+		this.statusService = statusService;
+		this.assetRepository = assetRepository;
+		this.assetChangeRepository = assetChangeRepository;
+		this.clientRegistrationRepository = clientRegistrationRepository;
+		this.tokenCache = tokenCache;
+		this.properties = properties;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		final var started = nanoTime();
+		final var deadline = started + properties.timeout().toNanos();
+
+		run("status reasons", deadline, this::preloadStatusReasons);
+		registrationIds().forEach(registrationId -> run("token for " + registrationId, deadline, () -> tokenCache.getToken(registrationId)));
+		run("asset queries", deadline, this::runAssetQueries);
+
+		LOG.info("Warm-up completed in {} ms", NANOSECONDS.toMillis(nanoTime() - started));
+	}
+
+	private void run(final String step, final long deadline, final Runnable runnable) {
+		if (nanoTime() - deadline >= 0) {
+			LOG.warn("Warm-up of {} skipped, timeout of {} exceeded", step, properties.timeout());
+			return;
+		}
+		try {
+			runnable.run();
+			LOG.debug("Warm-up of {} done", step);
+		} catch (final RuntimeException e) {
+			LOG.warn("Warm-up of {} failed", step, e);
+		}
+	}
+
+	private void preloadStatusReasons() {
+		statusRepository.findDistinctMunicipalityIds().forEach(statusService::getStatusReasons);
+	}
+
+	private List<String> registrationIds() {
+		if (clientRegistrationRepository instanceof final Iterable<?> registrations) {
+			return StreamSupport.stream(registrations.spliterator(), false)
+				.map(ClientRegistration.class::cast)
+				.map(ClientRegistration::getRegistrationId)
+				.toList();
+		}
+		return List.of();
+	}
+
+	private void runAssetQueries() {
+		final var request = AssetSearchRequest.create().withPartyId(WARM_UP_ID);
+		assetRepository.findAll(createAssetSpecification(WARM_UP_ID, request).and(createAssetSpecificationExcludingDraftAsssets()), createAssetSort(request));
+		assetRepository.findByMunicipalityIdAndPartyIdInAndStatusNot(WARM_UP_ID, List.of(WARM_UP_ID), DRAFT);
+		assetRepository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(WARM_UP_ID, WARM_UP_ID, DRAFT);
+		assetChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(WARM_UP_ID, Long.MAX_VALUE, Limit.of(1));
+	}
+}
@@ -0,0 +1,14 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled if the application should be warmed up before it reports itself ready to accept traffic
+ * @param timeout maximum time spent warming up. Steps not started within it are skipped
+ */
+@ConfigurationProperties("warm-up")
+public record StartupWarmUpProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("PT1M") Duration timeout) {}
@@ -0,0 +1,49 @@
+package se.sundsvall.partyassets.service;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import se.sundsvall.partyassets.api.model.Status;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.ofNullable;
+
+/**
+ * Immutable snapshot of the status reasons of one municipality, giving constant time lookups for validation. Reasons
+ * keep the order they were stored in.
+ */
+public final class StatusReasons {
+
+	private final Map<Status, Set<String>> reasons;
+
+	private StatusReasons(final Map<Status, Set<String>> reasons) {
+		this.reasons = reasons;
+	}
+
+	public static StatusReasons of(final Map<Status, ? extends Collection<String>> reasons) {
+		final var snapshot = new EnumMap<Status, Set<String>>(Status.class);
+		reasons.forEach((status, statusReasons) -> snapshot.put(status, unmodifiableSet(new LinkedHashSet<>(ofNullable(statusReasons).orElse(emptySet())))));
+		return new StatusReasons(unmodifiableMap(snapshot));
+	}
+
+	public boolean hasReasons(final Status status) {
+		return reasons.containsKey(status);
+	}
+
+	public boolean isValidReason(final Status status, final String reason) {
+		return getReasons(status).contains(reason);
+	}
+
+	public Set<String> getReasons(final Status status) {
+		return reasons.getOrDefault(status, emptySet());
+	}
+
+	@Override
+	public String toString() {
+		return "StatusReasons [reasons=" + reasons + "]";
+	}
+}
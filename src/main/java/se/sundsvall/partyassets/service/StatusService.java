@@ -1,8 +1,12 @@
 package se.sundsvall.partyassets.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.integration.db.StatusRepository;
@@ -14,31 +18,51 @@ import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static se.sundsvall.partyassets.service.mapper.StatusMapper.toEntity;
 import static se.sundsvall.partyassets.service.mapper.StatusMapper.toReasons;
+import static se.sundsvall.partyassets.service.mapper.StatusMapper.toStatusReasons;
 
 @Service
 public class StatusService {
 
+	/**
+	 * Bounds how long a snapshot is used after the reasons have been changed on another instance.
+	 */
+	static final Duration SNAPSHOT_MAX_AGE = Duration.ofMinutes(1);
+
 	private final StatusRepository repository;
+	private final Cache<String, StatusReasons> snapshots = Caffeine.newBuilder()
+		.expireAfterWrite(SNAPSHOT_MAX_AGE)
+		.build();
 
 	public StatusService(final StatusRepository repository) {
 		this.repository = repository;
 	}
 
+	@Transactional(readOnly = true)
 	public Map<Status, List<String>> getReasonsForAllStatuses(final String municipalityId) {
 		return toReasons(repository.findAllByMunicipalityId(municipalityId));
 	}
 
+	@Transactional(readOnly = true)
 	public List<String> getReasons(final String municipalityId, final Status status) {
 		return repository.findByNameAndMunicipalityId(status.name(), municipalityId)
 			.map(StatusEntity::getReasons)
 			.orElse(emptyList());
 	}
 
+	/**
+	 * Returns a snapshot of the status reasons of the municipality, used for validation. The snapshot is built on first
+	 * use and rebuilt after the reasons of the municipality have been changed.
+	 */
+	public StatusReasons getStatusReasons(final String municipalityId) {
+		return snapshots.get(municipalityId, _ -> toStatusReasons(repository.findAllByMunicipalityId(municipalityId)));
+	}
+
 	public void createReasons(final String municipalityId, final Status status, final List<String> statusReasons) {
 		if (repository.existsByNameAndMunicipalityId(status.name(), municipalityId)) {
 			throw Problem.valueOf(CONFLICT, "Statusreasons already exists for status %s".formatted(status.name()));
 		}
 		repository.save(toEntity(status, statusReasons, municipalityId));
+		snapshots.invalidate(municipalityId);
 	}
 
 	public void deleteReasons(final String municipalityId, final Status status) {
@@ -46,6 +70,7 @@ public class StatusService {
 			throw Problem.valueOf(NOT_FOUND, "Status %s does not have any statusreasons to delete".formatted(status.name()));
 		}
 		repository.deleteById(new StatusEntityId(status.name(), municipalityId));
+		snapshots.invalidate(municipalityId);
 	}
 
 }
@@ -0,0 +1,42 @@
+package se.sundsvall.partyassets.service.mapper;
+
+import java.util.List;
+import se.sundsvall.partyassets.api.model.AssetChange;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.AssetChanges;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+public final class AssetChangeMapper {
+
+	private AssetChangeMapper() {}
+
+	public static AssetChangeEntity toAssetChangeEntity(final String municipalityId, final String assetId, final String partyId, final AssetChangeType changeType, final Status status) {
+		return AssetChangeEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withAssetId(assetId)
+			.withPartyId(partyId)
+			.withChangeType(changeType)
+			.withStatus(status);
+	}
+
+	public static AssetChange toAssetChange(final AssetChangeEntity entity) {
+		return AssetChange.create()
+			.withCursor(entity.getSequenceNumber())
+			.withId(entity.getAssetId())
+			.withType(entity.getChangeType())
+			.withStatus(entity.getStatus())
+			.withChanged(entity.getCreated());
+	}
+
+	/**
+	 * @param  entities changes ordered by sequence number
+	 * @param  since    cursor the changes were read after, returned as cursor when there are no changes
+	 * @return          the changes and the cursor to read the next changes after
+	 */
+	public static AssetChanges toAssetChanges(final List<AssetChangeEntity> entities, final long since) {
+		return AssetChanges.create()
+			.withChanges(entities.stream().map(AssetChangeMapper::toAssetChange).toList())
+			.withCursor(entities.isEmpty() ? since : entities.getLast().getSequenceNumber());
+	}
+}
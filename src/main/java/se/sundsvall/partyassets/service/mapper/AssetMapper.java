@@ -8,22 +8,23 @@ import java.util.Optional;
 import se.sundsvall.partyassets.api.model.Asset;
 import se.sundsvall.partyassets.api.model.AssetCreateRequest;
 import se.sundsvall.partyassets.api.model.AssetJsonParameter;
+import se.sundsvall.partyassets.api.model.AssetSummary;
 import se.sundsvall.partyassets.api.model.AssetUpdateRequest;
 import se.sundsvall.partyassets.api.model.DraftAssetUpdateRequest;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
 import se.sundsvall.partyassets.integration.db.model.AssetJsonParameterEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetSummaryProjection;
 import se.sundsvall.partyassets.integration.db.model.PartyType;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.util.RawValue;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
 
 public final class AssetMapper {
 
-	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
 	private AssetMapper() {}
 
 	public static Asset toAsset(final AssetEntity entity) {
@@ -43,6 +44,17 @@ public final class AssetMapper {
 			.withValidTo(entity.getValidTo());
 	}
 
+	public static AssetSummary toAssetSummary(final AssetSummaryProjection projection) {
+		return AssetSummary.create()
+			.withAssetId(projection.getAssetId())
+			.withId(projection.getId())
+			.withIssued(projection.getIssued())
+			.withStatus(projection.getStatus())
+			.withStatusReason(projection.getStatusReason())
+			.withType(projection.getType())
+			.withValidTo(projection.getValidTo());
+	}
+
 	public static AssetEntity toCopyEntity(final AssetEntity original) {
 		return AssetEntity.create()
 			.withAdditionalParameters(original.getAdditionalParameters() != null ? new HashMap<>(original.getAdditionalParameters()) : null)
@@ -123,8 +135,12 @@ public final class AssetMapper {
 			.orElse(null);
 	}
 
+	/**
+	 * Wraps the stored JSON as a raw value node. The value is validated when written, so it is passed through to the
+	 * response as is instead of being parsed into a tree and serialized again.
+	 */
 	private static JsonNode toJsonNode(String value) {
-		return value != null ? OBJECT_MAPPER.readTree(value) : null;
+		return value != null ? JsonNodeFactory.instance.rawValueNode(new RawValue(value)) : null;
 	}
 
 	private static List<AssetJsonParameterEntity> toAssetJsonParameterEntityList(List<AssetJsonParameter> assetJsonParameterList) {
@@ -2,6 +2,7 @@ package se.sundsvall.partyassets.service.mapper;
 
 import generated.se.sundsvall.relation.Relation;
 import generated.se.sundsvall.relation.ResourceIdentifier;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
 
 public final class RelationMapper {
 
@@ -10,19 +11,27 @@ public final class RelationMapper {
 
 	private RelationMapper() {}
 
-	public static Relation toRelation(final String type, final se.sundsvall.dept44.support.Relation relation, final String assetId) {
-		if (relation.getSource() == null) {
-			return null;
-		}
+	public static RelationOutboxEntity toRelationOutboxEntity(final String municipalityId, final se.sundsvall.dept44.support.Relation relation, final String assetId) {
+		return RelationOutboxEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withAssetId(assetId)
+			.withRelationType(relation.getType())
+			.withSourceResourceId(relation.getSource().getResourceId())
+			.withSourceType(relation.getSource().getType())
+			.withSourceService(relation.getSource().getService())
+			.withSourceNamespace(relation.getSource().getNamespace());
+	}
+
+	public static Relation toRelation(final RelationOutboxEntity entity) {
 		return new Relation()
-			.type(type)
+			.type(entity.getRelationType())
 			.source(new ResourceIdentifier()
-				.resourceId(relation.getSource().getResourceId())
-				.type(relation.getSource().getType())
-				.service(relation.getSource().getService())
-				.namespace(relation.getSource().getNamespace()))
+				.resourceId(entity.getSourceResourceId())
+				.type(entity.getSourceType())
+				.service(entity.getSourceService())
+				.namespace(entity.getSourceNamespace()))
 			.target(new ResourceIdentifier()
-				.resourceId(assetId)
+				.resourceId(entity.getAssetId())
 				.type(TARGET_TYPE)
 				.service(TARGET_SERVICE));
 	}
@@ -8,6 +8,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.integration.db.model.StatusEntity;
+import se.sundsvall.partyassets.service.StatusReasons;
 
 import static java.util.Collections.emptyList;
 import static java.util.Optional.ofNullable;
@@ -22,6 +23,10 @@ public final class StatusMapper {
 			.collect(Collectors.toMap(Entry::getKey, Entry::getValue));
 	}
 
+	public static StatusReasons toStatusReasons(final List<StatusEntity> entities) {
+		return StatusReasons.of(toReasons(entities));
+	}
+
 	public static StatusEntity toEntity(final Status status, final List<String> reasons, final String municipalityId) {
 		return StatusEntity.create()
 			.withName(status.name())
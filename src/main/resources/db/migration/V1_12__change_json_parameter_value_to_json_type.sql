@@ -0,0 +1,2 @@
+-- Store json parameter values in the native JSON type (validated by the database on write)
+ALTER TABLE IF EXISTS asset_json_parameter MODIFY COLUMN parameter_value JSON NULL;
@@ -0,0 +1,2 @@
+-- Supports the correlated json parameter lookups (asset_id, parameter_key) used when searching on JSON path values
+CREATE INDEX IF NOT EXISTS idx_asset_json_parameter_asset_id_parameter_key ON asset_json_parameter (asset_id, parameter_key);
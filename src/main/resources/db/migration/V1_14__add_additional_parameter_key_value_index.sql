@@ -0,0 +1,2 @@
+-- Lets additional parameter searches resolve matching assets from the parameter side
+CREATE INDEX IF NOT EXISTS idx_additional_parameter_key_value_asset_id ON additional_parameter (parameter_key, parameter_value, asset_id);
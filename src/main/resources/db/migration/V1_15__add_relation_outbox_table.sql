@@ -0,0 +1,18 @@
+    create table if not exists relation_outbox (
+        attempts integer not null,
+        created datetime(6),
+        next_attempt datetime(6) not null,
+        asset_id varchar(255) not null,
+        id varchar(255) not null,
+        last_error varchar(255),
+        municipality_id varchar(255) not null,
+        relation_type varchar(255) not null,
+        source_namespace varchar(255),
+        source_resource_id varchar(255),
+        source_service varchar(255),
+        source_type varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index idx_relation_outbox_next_attempt
+       on relation_outbox (next_attempt);
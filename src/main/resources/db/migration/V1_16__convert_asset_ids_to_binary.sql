@@ -0,0 +1,66 @@
+-- Stores asset and asset JSON parameter ids as 16 byte binary UUIDs instead of their textual form, which keeps the
+-- clustered indexes and every secondary index containing an asset id compact. Existing ids are converted as is,
+-- new ids are generated as time-ordered UUIDs (version 7) so that inserts are appended to the clustered index.
+
+-- Foreign keys are dropped while the referenced and referencing columns change type
+ALTER TABLE additional_parameter DROP FOREIGN KEY fk_additional_parameter_asset_id;
+ALTER TABLE asset_json_parameter DROP FOREIGN KEY fk_asset_json_parameter_asset_id;
+ALTER TABLE case_reference_id DROP FOREIGN KEY fk_case_reference_id_asset_id;
+
+-- asset
+ALTER TABLE asset ADD COLUMN id_binary binary(16);
+UPDATE asset SET id_binary = unhex(replace(id, '-', ''));
+ALTER TABLE asset
+    DROP PRIMARY KEY,
+    DROP COLUMN id;
+ALTER TABLE asset
+    CHANGE COLUMN id_binary id binary(16) NOT NULL,
+    ADD PRIMARY KEY (id);
+
+-- additional_parameter
+ALTER TABLE additional_parameter ADD COLUMN asset_id_binary binary(16);
+UPDATE additional_parameter SET asset_id_binary = unhex(replace(asset_id, '-', ''));
+ALTER TABLE additional_parameter
+    DROP PRIMARY KEY,
+    DROP INDEX IF EXISTS idx_additional_parameter_asset_id,
+    DROP INDEX IF EXISTS idx_additional_parameter_key_value_asset_id,
+    DROP COLUMN asset_id;
+ALTER TABLE additional_parameter
+    CHANGE COLUMN asset_id_binary asset_id binary(16) NOT NULL,
+    ADD PRIMARY KEY (asset_id, parameter_key);
+CREATE INDEX idx_additional_parameter_asset_id ON additional_parameter (asset_id);
+CREATE INDEX idx_additional_parameter_key_value_asset_id ON additional_parameter (parameter_key, parameter_value, asset_id);
+
+-- case_reference_id
+ALTER TABLE case_reference_id ADD COLUMN asset_id_binary binary(16);
+UPDATE case_reference_id SET asset_id_binary = unhex(replace(asset_id, '-', ''));
+ALTER TABLE case_reference_id
+    DROP INDEX IF EXISTS idx_case_reference_id_asset_id,
+    DROP COLUMN asset_id;
+ALTER TABLE case_reference_id
+    CHANGE COLUMN asset_id_binary asset_id binary(16) NOT NULL;
+CREATE INDEX idx_case_reference_id_asset_id ON case_reference_id (asset_id);
+
+-- asset_json_parameter
+ALTER TABLE asset_json_parameter
+    ADD COLUMN id_binary binary(16),
+    ADD COLUMN asset_id_binary binary(16);
+UPDATE asset_json_parameter SET id_binary = unhex(replace(id, '-', '')), asset_id_binary = unhex(replace(asset_id, '-', ''));
+ALTER TABLE asset_json_parameter
+    DROP PRIMARY KEY,
+    DROP INDEX IF EXISTS idx_asset_json_parameter_asset_id_parameter_key,
+    DROP COLUMN id,
+    DROP COLUMN asset_id;
+ALTER TABLE asset_json_parameter
+    CHANGE COLUMN id_binary id binary(16) NOT NULL,
+    CHANGE COLUMN asset_id_binary asset_id binary(16) NOT NULL,
+    ADD PRIMARY KEY (id);
+CREATE INDEX idx_asset_json_parameter_asset_id_parameter_key ON asset_json_parameter (asset_id, parameter_key);
+
+-- Restore foreign keys
+ALTER TABLE additional_parameter
+    ADD CONSTRAINT fk_additional_parameter_asset_id FOREIGN KEY (asset_id) REFERENCES asset (id);
+ALTER TABLE asset_json_parameter
+    ADD CONSTRAINT fk_asset_json_parameter_asset_id FOREIGN KEY (asset_id) REFERENCES asset (id);
+ALTER TABLE case_reference_id
+    ADD CONSTRAINT fk_case_reference_id_asset_id FOREIGN KEY (asset_id) REFERENCES asset (id);
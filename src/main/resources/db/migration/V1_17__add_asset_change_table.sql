@@ -0,0 +1,12 @@
+    create table if not exists asset_change (
+        id bigint not null auto_increment,
+        created datetime(6),
+        asset_id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        change_type enum ('CREATED','DELETED','EXPIRED','REPLACED','STATUS_CHANGED','UPDATED') not null,
+        status enum ('ACTIVE','BLOCKED','DRAFT','EXPIRED','REPLACED','TEMPORARY'),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index idx_asset_change_municipality_id_id
+       on asset_change (municipality_id, id);
@@ -0,0 +1,2 @@
+-- Supports incremental sync searches on updatedAfter within a municipality
+CREATE INDEX IF NOT EXISTS idx_asset_municipality_id_updated ON asset (municipality_id, updated);
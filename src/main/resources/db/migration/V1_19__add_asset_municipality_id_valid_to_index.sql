@@ -0,0 +1,2 @@
+-- Supports searches on a validTo range within a municipality, e.g. assets expiring within the coming days
+CREATE INDEX IF NOT EXISTS idx_asset_municipality_id_valid_to ON asset (municipality_id, valid_to);
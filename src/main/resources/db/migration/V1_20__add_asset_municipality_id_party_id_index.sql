@@ -0,0 +1,2 @@
+-- Supports searches and lookups of the assets of one or several parties within a municipality
+CREATE INDEX IF NOT EXISTS idx_asset_municipality_id_party_id ON asset (municipality_id, party_id);
@@ -0,0 +1,2 @@
+-- Supports lookups of assets by their external asset id within a municipality
+CREATE INDEX IF NOT EXISTS idx_asset_municipality_id_asset_id ON asset (municipality_id, asset_id);
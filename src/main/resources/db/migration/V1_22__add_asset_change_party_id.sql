@@ -0,0 +1,2 @@
+-- Party of the changed asset, used to invalidate cached party assets on other instances
+ALTER TABLE asset_change ADD COLUMN IF NOT EXISTS party_id varchar(255);
@@ -0,0 +1,6 @@
+-- Commit ordered cursor of the change log, set by the change sequencer once a change has been committed. Existing
+-- changes are all committed and get their id, so that cursors already held by consumers stay valid
+ALTER TABLE asset_change ADD COLUMN IF NOT EXISTS sequence_number bigint;
+UPDATE asset_change SET sequence_number = id WHERE sequence_number IS NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_asset_change_sequence_number ON asset_change (sequence_number);
+CREATE INDEX IF NOT EXISTS idx_asset_change_municipality_id_sequence_number ON asset_change (municipality_id, sequence_number);
@@ -0,0 +1,4 @@
+-- Lets updatedAfter searches read never updated assets (updated is null) as a range on created, instead of reading all
+-- of them within the municipality
+CREATE INDEX IF NOT EXISTS idx_asset_municipality_id_updated_created ON asset (municipality_id, updated, created);
+DROP INDEX IF EXISTS idx_asset_municipality_id_updated ON asset;
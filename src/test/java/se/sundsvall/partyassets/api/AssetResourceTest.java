@@ -1,7 +1,10 @@
 package se.sundsvall.partyassets.api;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -17,15 +20,31 @@ import se.sundsvall.dept44.problem.violations.Violation;
 import se.sundsvall.partyassets.Application;
 import se.sundsvall.partyassets.TestFactory;
 import se.sundsvall.partyassets.api.model.Asset;
+import se.sundsvall.partyassets.api.model.AssetBulkDeleteRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkDeleteResult;
+import se.sundsvall.partyassets.api.model.AssetBulkStatusUpdateRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkUpdateResult;
+import se.sundsvall.partyassets.api.model.AssetChange;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.AssetChanges;
 import se.sundsvall.partyassets.api.model.AssetCreateRequest;
+import se.sundsvall.partyassets.api.model.AssetLookupRequest;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.model.AssetSummary;
+import se.sundsvall.partyassets.api.model.AssetSortField;
+import se.sundsvall.partyassets.api.model.BulkOutcome;
+import se.sundsvall.partyassets.api.model.PartyAssets;
+import se.sundsvall.partyassets.api.model.SortDirection;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.service.AssetChangeService;
 import se.sundsvall.partyassets.service.AssetService;
 import se.sundsvall.partyassets.service.JsonSchemaValidationService;
+import se.sundsvall.partyassets.service.StatusReasons;
 import se.sundsvall.partyassets.service.StatusService;
 import tools.jackson.databind.JsonNode;
 
 import static java.util.UUID.randomUUID;
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +57,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpMethod.DELETE;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 
@@ -57,6 +77,9 @@ class AssetResourceTest {
 	@MockitoBean
 	private AssetService assetServiceMock;
 
+	@MockitoBean
+	private AssetChangeService assetChangeServiceMock;
+
 	@MockitoBean
 	private JsonSchemaValidationService jsonSchemaValidationServiceMock; // Used by Json validation
 
@@ -66,6 +89,11 @@ class AssetResourceTest {
 	@Autowired
 	private WebTestClient webTestClient;
 
+	@BeforeEach
+	void setUp() {
+		when(statusServiceMock.getStatusReasons(any())).thenReturn(StatusReasons.of(Map.of()));
+	}
+
 	@Test
 	void getAssets() {
 		// Arrange
@@ -99,6 +127,208 @@ class AssetResourceTest {
 		verifyNoMoreInteractions(assetServiceMock);
 	}
 
+	@Test
+	void getAssetsWithRangesListsAndSort() {
+		// Arrange
+		final var partyIds = List.of(randomUUID().toString(), randomUUID().toString());
+
+		when(assetServiceMock.getAssets(eq(MUNICIPALITY_ID), any(AssetSearchRequest.class))).thenReturn(List.of(TestFactory.getAsset()));
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("partyIds", partyIds.toArray())
+				.queryParam("statuses", Status.ACTIVE, Status.TEMPORARY)
+				.queryParam("types", "PERMIT")
+				.queryParam("issuedFrom", "2020-01-01")
+				.queryParam("issuedUntil", "2020-12-31")
+				.queryParam("validToFrom", "2021-01-01")
+				.queryParam("validToUntil", "2021-01-31")
+				.queryParam("sortBy", AssetSortField.VALID_TO)
+				.queryParam("sortDirection", SortDirection.DESC)
+				.build())
+			.exchange()
+			.expectStatus()
+			.isOk();
+
+		// Assert
+		verify(assetServiceMock).getAssets(MUNICIPALITY_ID, AssetSearchRequest.create()
+			.withPartyIds(partyIds)
+			.withStatuses(List.of(Status.ACTIVE, Status.TEMPORARY))
+			.withTypes(List.of("PERMIT"))
+			.withIssuedFrom(LocalDate.of(2020, 1, 1))
+			.withIssuedUntil(LocalDate.of(2020, 12, 31))
+			.withValidToFrom(LocalDate.of(2021, 1, 1))
+			.withValidToUntil(LocalDate.of(2021, 1, 31))
+			.withSortBy(AssetSortField.VALID_TO)
+			.withSortDirection(SortDirection.DESC));
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsWithinMunicipalityByValidToRange() {
+		// Arrange
+		when(assetServiceMock.getAssets(eq(MUNICIPALITY_ID), any(AssetSearchRequest.class))).thenReturn(List.of(TestFactory.getAsset()));
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("validToFrom", "2021-01-01")
+				.queryParam("validToUntil", "2021-01-31")
+				.build())
+			.exchange()
+			.expectStatus()
+			.isOk();
+
+		// Assert
+		verify(assetServiceMock).getAssets(MUNICIPALITY_ID, AssetSearchRequest.create()
+			.withValidToFrom(LocalDate.of(2021, 1, 1))
+			.withValidToUntil(LocalDate.of(2021, 1, 31)));
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsWithinMunicipalityByOpenValidToRange() {
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("validToFrom", "2021-01-01")
+				.build())
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("partyId", "not a valid UUID"));
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsWithoutParty() {
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("type", "PERMIT")
+				.build())
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("partyId", "not a valid UUID"));
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsFaultyPartyIds() {
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("partyIds", randomUUID(), "imNotARealUUID")
+				.build())
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("partyIds[1]", "not a valid UUID"));
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsForParties() {
+		// Arrange
+		final var partyId = randomUUID().toString();
+		final var request = AssetLookupRequest.create().withPartyIds(List.of(partyId)).withAssetIds(List.of("PRH-123456789"));
+		final var partyAssets = List.of(PartyAssets.create().withPartyId(partyId).withAssets(List.of(TestFactory.getAsset())));
+
+		when(assetServiceMock.getAssetsForParties(MUNICIPALITY_ID, request)).thenReturn(partyAssets);
+
+		// Act
+		final var result = webTestClient.post()
+			.uri(PATH + "/search")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectHeader()
+			.contentType(APPLICATION_JSON)
+			.expectBodyList(PartyAssets.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(result).usingRecursiveComparison().isEqualTo(partyAssets);
+		verify(assetServiceMock).getAssetsForParties(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsForPartiesFaultyRequest() {
+		// Arrange
+		final var request = AssetLookupRequest.create().withPartyIds(List.of("imNotARealUUID"));
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/search")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("partyIds[0]", "not a valid UUID"));
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getAssetsForPartiesWithoutPartyIds() {
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/search")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(AssetLookupRequest.create())
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("partyIds", "must not be empty"));
+		verifyNoInteractions(assetServiceMock);
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = {
 		"imNotARealUUID", "1", "1234-1234-1234-1234"
@@ -151,6 +381,115 @@ class AssetResourceTest {
 		verifyNoInteractions(assetServiceMock);
 	}
 
+	@Test
+	void getChanges() {
+		// Arrange
+		final var changes = AssetChanges.create()
+			.withChanges(List.of(AssetChange.create().withCursor(43L).withId(randomUUID().toString()).withType(AssetChangeType.STATUS_CHANGED).withStatus(Status.BLOCKED)))
+			.withCursor(43L);
+
+		when(assetChangeServiceMock.getChanges(MUNICIPALITY_ID, 42L, Duration.ofSeconds(10))).thenReturn(completedFuture(changes));
+
+		// Act
+		final var result = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH + "/changes")
+				.queryParam("since", 42)
+				.queryParam("wait", 10)
+				.build())
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectHeader()
+			.contentType(APPLICATION_JSON)
+			.expectBody(AssetChanges.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(result).isEqualTo(changes);
+		verify(assetChangeServiceMock).getChanges(MUNICIPALITY_ID, 42L, Duration.ofSeconds(10));
+		verifyNoMoreInteractions(assetChangeServiceMock);
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void getChangesWithDefaults() {
+		// Arrange
+		final var changes = AssetChanges.create().withChanges(List.of()).withCursor(0L);
+
+		when(assetChangeServiceMock.getChanges(MUNICIPALITY_ID, 0L, Duration.ZERO)).thenReturn(completedFuture(changes));
+
+		// Act
+		final var result = webTestClient.get()
+			.uri(PATH + "/changes")
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectBody(AssetChanges.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(result).isEqualTo(changes);
+		verify(assetChangeServiceMock).getChanges(MUNICIPALITY_ID, 0L, Duration.ZERO);
+		verifyNoMoreInteractions(assetChangeServiceMock);
+	}
+
+	@Test
+	void getChangesNegativeSince() {
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH + "/changes")
+				.queryParam("since", -1)
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getTitle()).isEqualTo("Constraint Violation");
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("getChanges.since", "must be greater than or equal to 0"));
+
+		verifyNoInteractions(assetChangeServiceMock);
+	}
+
+	@Test
+	void getAssetSummary() {
+		// Arrange
+		final var assetId = "PRH-123456789";
+		final var summary = AssetSummary.create()
+			.withId(randomUUID().toString())
+			.withAssetId(assetId)
+			.withType("PERMIT")
+			.withStatus(Status.ACTIVE)
+			.withIssued(LocalDate.of(2025, 1, 1))
+			.withValidTo(LocalDate.of(2026, 1, 1));
+
+		when(assetServiceMock.getAssetSummary(MUNICIPALITY_ID, assetId)).thenReturn(summary);
+
+		// Act
+		final var result = webTestClient.get()
+			.uri(PATH + "/by-asset-id/{assetId}", assetId)
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectHeader()
+			.contentType(APPLICATION_JSON)
+			.expectBody(AssetSummary.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(result).isEqualTo(summary);
+		verify(assetServiceMock).getAssetSummary(MUNICIPALITY_ID, assetId);
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
 	@Test
 	void getAsset() {
 		// Arrange
@@ -436,7 +775,7 @@ class AssetResourceTest {
 		final var id = randomUUID().toString();
 		final var assetRequest = TestFactory.getAssetUpdateRequest().withStatus(Status.ACTIVE).withStatusReason("IRREGULARITY");
 
-		when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 		doNothing().when(jsonSchemaValidationServiceMock).validate(anyString(), anyString(), any(JsonNode.class));
 
 		// Act
@@ -485,7 +824,7 @@ class AssetResourceTest {
 		final var id = "imNotARealUUID";
 		final var assetRequest = TestFactory.getAssetUpdateRequest().withStatus(Status.DRAFT);
 
-		when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 		doNothing().when(jsonSchemaValidationServiceMock).validate(anyString(), anyString(), any(JsonNode.class));
 
 		// Act
@@ -543,6 +882,170 @@ class AssetResourceTest {
 		verifyNoInteractions(assetServiceMock);
 	}
 
+	@Test
+	void updateAssetStatuses() {
+
+		// Arrange
+		final var id = randomUUID().toString();
+		final var request = AssetBulkStatusUpdateRequest.create().withIds(List.of(id)).withStatus(Status.BLOCKED).withStatusReason("LOST");
+		final var result = List.of(AssetBulkUpdateResult.create().withId(id).withOutcome(BulkOutcome.UPDATED));
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+		when(assetServiceMock.updateAssetStatuses(MUNICIPALITY_ID, request)).thenReturn(result);
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBodyList(AssetBulkUpdateResult.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(result);
+		verify(assetServiceMock).updateAssetStatuses(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void updateAssetStatusesWithBothIdsAndFilter() {
+
+		// Arrange
+		final var request = AssetBulkStatusUpdateRequest.create()
+			.withIds(List.of(randomUUID().toString()))
+			.withFilter(AssetSearchRequest.create().withPartyId(randomUUID().toString()))
+			.withStatus(Status.EXPIRED);
+		final var expectedJsonMessage = """
+			{
+				"detail": "Exactly one of ids or filter must be provided",
+				"status" : 400,
+				"title" : "Bad Request"
+			}""";
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+
+		// Act
+		webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody()
+			.json(expectedJsonMessage);
+
+		// Assert
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void updateAssetStatusesWithoutIdsAndFilter() {
+
+		// Arrange
+		final var request = AssetBulkStatusUpdateRequest.create().withStatus(Status.EXPIRED);
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+
+		// Act
+		webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest();
+
+		// Assert
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void updateAssetStatusesWithDraftStatus() {
+
+		// Arrange
+		final var request = AssetBulkStatusUpdateRequest.create().withIds(List.of(randomUUID().toString())).withStatus(Status.DRAFT);
+		final var expectedJsonMessage = """
+			{
+				"detail": "Changing asset status to DRAFT is not allowed when updating a regular asset",
+				"status" : 400,
+				"title" : "Bad Request"
+			}""";
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+
+		// Act
+		webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody()
+			.json(expectedJsonMessage);
+
+		// Assert
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void updateAssetStatusesFaultyId() {
+
+		// Arrange
+		final var request = AssetBulkStatusUpdateRequest.create().withIds(List.of("imNotARealUUID")).withStatus(Status.EXPIRED);
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("ids[0]", "not a valid UUID"));
+
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void updateAssetStatusesFaultyFilter() {
+
+		// Arrange
+		final var request = AssetBulkStatusUpdateRequest.create().withFilter(AssetSearchRequest.create().withOrigin("PR3")).withStatus(Status.EXPIRED);
+
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri(PATH)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("filter.partyId", "not a valid UUID"));
+
+		verifyNoInteractions(assetServiceMock);
+	}
+
 	@Test
 	void copyAsset() {
 		// Arrange
@@ -658,6 +1161,113 @@ class AssetResourceTest {
 		verifyNoInteractions(assetServiceMock);
 	}
 
+	@Test
+	void deleteAssets() {
+
+		// Arrange
+		final var request = AssetBulkDeleteRequest.create().withFilter(AssetSearchRequest.create().withPartyId(randomUUID().toString()).withOrigin("PR3"));
+		final var result = AssetBulkDeleteResult.create().withDeleted(3).withNotFoundIds(List.of());
+
+		when(assetServiceMock.deleteAssets(MUNICIPALITY_ID, request)).thenReturn(result);
+
+		// Act
+		final var response = webTestClient.method(DELETE)
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectBody(AssetBulkDeleteResult.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(result);
+		verify(assetServiceMock).deleteAssets(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void deleteAssetsWithoutIdsAndFilter() {
+
+		// Arrange
+		final var expectedJsonMessage = """
+			{
+				"detail": "Exactly one of ids or filter must be provided",
+				"status" : 400,
+				"title" : "Bad Request"
+			}""";
+
+		// Act
+		webTestClient.method(DELETE)
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(AssetBulkDeleteRequest.create().withIds(List.of()))
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody()
+			.json(expectedJsonMessage);
+
+		// Assert
+		verifyNoInteractions(assetServiceMock);
+	}
+
+	@Test
+	void deleteAssetsByOrigin() {
+
+		// Arrange
+		final var request = AssetBulkDeleteRequest.create().withFilter(AssetSearchRequest.create().withOrigin("PR3"));
+		final var result = AssetBulkDeleteResult.create().withDeleted(3).withNotFoundIds(List.of());
+
+		when(assetServiceMock.deleteAssets(MUNICIPALITY_ID, request)).thenReturn(result);
+
+		// Act
+		final var response = webTestClient.method(DELETE)
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isOk()
+			.expectBody(AssetBulkDeleteResult.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(result);
+		verify(assetServiceMock).deleteAssets(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(assetServiceMock);
+	}
+
+	@Test
+	void deleteAssetsFaultyFilter() {
+
+		// Arrange
+		final var request = AssetBulkDeleteRequest.create().withFilter(AssetSearchRequest.create().withType("PERMIT"));
+		final var expectedJsonMessage = """
+			{
+				"detail": "Filter must select a party, a bounded validTo range or an origin",
+				"status" : 400,
+				"title" : "Bad Request"
+			}""";
+
+		// Act
+		webTestClient.method(DELETE)
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus()
+			.isBadRequest()
+			.expectBody()
+			.json(expectedJsonMessage);
+
+		// Assert
+		verifyNoInteractions(assetServiceMock);
+	}
+
 	@Test
 	void deleteAssetInvalidMunicipalityId() {
 
@@ -2,6 +2,7 @@ package se.sundsvall.partyassets.api;
 
 import java.util.List;
 import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,6 +26,7 @@ import se.sundsvall.partyassets.api.model.AssetSearchRequest;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.service.AssetService;
 import se.sundsvall.partyassets.service.JsonSchemaValidationService;
+import se.sundsvall.partyassets.service.StatusReasons;
 import se.sundsvall.partyassets.service.StatusService;
 import tools.jackson.databind.JsonNode;
 
@@ -36,6 +38,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -70,6 +73,11 @@ class DraftAssetResourceTest {
 	@Autowired
 	private WebTestClient webTestClient;
 
+	@BeforeEach
+	void setUp() {
+		lenient().when(statusServiceMock.getStatusReasons(any())).thenReturn(StatusReasons.of(Map.of()));
+	}
+
 	@Test
 	void getDraftAssets() {
 		// Arrange
@@ -414,7 +422,7 @@ class DraftAssetResourceTest {
 		final var assetRequest = TestFactory.getDraftAssetUpdateRequest();
 		assetRequest.setStatusReason("LOST");
 
-		when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 		doNothing().when(jsonSchemaValidationServiceMock).validate(anyString(), anyString(), any(JsonNode.class));
 
 		// Act
@@ -446,7 +454,7 @@ class DraftAssetResourceTest {
 				"title" : "Constraint Violation"
 			}""";
 
-		when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 
 		// Act
 		webTestClient.patch()
@@ -468,7 +476,7 @@ class DraftAssetResourceTest {
 		final var id = "imNotARealUUID";
 		final var assetRequest = TestFactory.getDraftAssetUpdateRequest().withStatusReason("IRREGULARITY");
 
-		when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+		when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 		doNothing().when(jsonSchemaValidationServiceMock).validate(anyString(), anyString(), any(JsonNode.class));
 
 		// Act
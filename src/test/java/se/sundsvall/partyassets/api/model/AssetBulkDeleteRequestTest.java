@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetBulkDeleteRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetBulkDeleteRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var ids = List.of("id");
+		final var filter = AssetSearchRequest.create().withPartyId("partyId");
+
+		final var bean = AssetBulkDeleteRequest.create()
+			.withIds(ids)
+			.withFilter(filter);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getIds()).isEqualTo(ids);
+		assertThat(bean.getFilter()).isEqualTo(filter);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetBulkDeleteRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetBulkDeleteRequest()).hasAllNullFieldsOrProperties();
+	}
+}
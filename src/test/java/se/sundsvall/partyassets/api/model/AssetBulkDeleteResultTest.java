@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetBulkDeleteResultTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetBulkDeleteResult.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var deleted = 42;
+		final var notFoundIds = List.of("id");
+
+		final var bean = AssetBulkDeleteResult.create()
+			.withDeleted(deleted)
+			.withNotFoundIds(notFoundIds);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getDeleted()).isEqualTo(deleted);
+		assertThat(bean.getNotFoundIds()).isEqualTo(notFoundIds);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetBulkDeleteResult.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetBulkDeleteResult()).hasAllNullFieldsOrProperties();
+	}
+}
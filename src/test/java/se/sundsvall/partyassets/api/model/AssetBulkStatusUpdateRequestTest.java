@@ -0,0 +1,53 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetBulkStatusUpdateRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetBulkStatusUpdateRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var ids = List.of("id");
+		final var filter = AssetSearchRequest.create().withPartyId("partyId");
+		final var status = Status.BLOCKED;
+		final var statusReason = "statusReason";
+
+		final var bean = AssetBulkStatusUpdateRequest.create()
+			.withIds(ids)
+			.withFilter(filter)
+			.withStatus(status)
+			.withStatusReason(statusReason);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getIds()).isEqualTo(ids);
+		assertThat(bean.getFilter()).isEqualTo(filter);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getStatusReason()).isEqualTo(statusReason);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetBulkStatusUpdateRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetBulkStatusUpdateRequest()).hasAllNullFieldsOrProperties();
+	}
+}
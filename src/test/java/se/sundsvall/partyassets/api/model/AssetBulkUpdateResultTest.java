@@ -0,0 +1,46 @@
+package se.sundsvall.partyassets.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetBulkUpdateResultTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetBulkUpdateResult.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var outcome = BulkOutcome.UPDATED;
+
+		final var bean = AssetBulkUpdateResult.create()
+			.withId(id)
+			.withOutcome(outcome);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getOutcome()).isEqualTo(outcome);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetBulkUpdateResult.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetBulkUpdateResult()).hasAllNullFieldsOrProperties();
+	}
+}
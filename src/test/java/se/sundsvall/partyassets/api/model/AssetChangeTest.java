@@ -0,0 +1,65 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetChangeTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(AssetChange.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var cursor = 1042L;
+		final var id = "id";
+		final var type = AssetChangeType.STATUS_CHANGED;
+		final var status = Status.BLOCKED;
+		final var changed = now();
+
+		final var bean = AssetChange.create()
+			.withCursor(cursor)
+			.withId(id)
+			.withType(type)
+			.withStatus(status)
+			.withChanged(changed);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCursor()).isEqualTo(cursor);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getType()).isEqualTo(type);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getChanged()).isEqualTo(changed);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetChange.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetChange()).hasAllNullFieldsOrProperties();
+	}
+}
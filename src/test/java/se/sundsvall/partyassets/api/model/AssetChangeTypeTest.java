@@ -0,0 +1,19 @@
+package se.sundsvall.partyassets.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.CREATED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.DELETED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.EXPIRED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.REPLACED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.STATUS_CHANGED;
+import static se.sundsvall.partyassets.api.model.AssetChangeType.UPDATED;
+
+class AssetChangeTypeTest {
+
+	@Test
+	void testEnumValues() {
+		assertThat(AssetChangeType.values()).containsExactlyInAnyOrder(CREATED, UPDATED, STATUS_CHANGED, EXPIRED, REPLACED, DELETED);
+	}
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetChangesTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetChanges.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var changes = List.of(AssetChange.create().withCursor(1042L));
+		final var cursor = 1042L;
+
+		final var bean = AssetChanges.create()
+			.withChanges(changes)
+			.withCursor(cursor);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getChanges()).isEqualTo(changes);
+		assertThat(bean.getCursor()).isEqualTo(cursor);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetChanges.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetChanges()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,49 @@
+package se.sundsvall.partyassets.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetJsonParameterFilterTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetJsonParameterFilter.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var key = "key";
+		final var jsonPath = "$.firstName";
+		final var value = "value";
+
+		final var bean = AssetJsonParameterFilter.create()
+			.withKey(key)
+			.withJsonPath(jsonPath)
+			.withValue(value);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getKey()).isEqualTo(key);
+		assertThat(bean.getJsonPath()).isEqualTo(jsonPath);
+		assertThat(bean.getValue()).isEqualTo(value);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetJsonParameterFilter.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetJsonParameterFilter()).hasAllNullFieldsOrProperties();
+	}
+}
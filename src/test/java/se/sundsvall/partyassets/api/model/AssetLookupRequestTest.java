@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetLookupRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(AssetLookupRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var partyIds = List.of("partyId1", "partyId2");
+		final var assetIds = List.of("PRH-123456789");
+
+		final var bean = AssetLookupRequest.create()
+			.withPartyIds(partyIds)
+			.withAssetIds(assetIds);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getPartyIds()).isEqualTo(partyIds);
+		assertThat(bean.getAssetIds()).isEqualTo(assetIds);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetLookupRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetLookupRequest()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -1,6 +1,8 @@
 package se.sundsvall.partyassets.api.model;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import org.junit.jupiter.api.BeforeAll;
@@ -21,6 +23,7 @@ class AssetSearchRequestTest {
 	@BeforeAll
 	static void setup() {
 		registerValueGenerator(() -> LocalDate.now().plusDays(new Random().nextInt()), LocalDate.class);
+		registerValueGenerator(() -> OffsetDateTime.now().plusDays(new Random().nextInt()), OffsetDateTime.class);
 	}
 
 	@Test
@@ -36,39 +39,78 @@ class AssetSearchRequestTest {
 	@Test
 	void testBuilderMethods() {
 		final var additionalParameters = Map.of("key", "value");
+		final var additionalParametersMatchMode = ParameterMatchMode.ALL;
 		final var assetId = "assetId";
+		final var createdAfter = OffsetDateTime.now().minusDays(2);
 		final var description = "description";
 		final var issued = LocalDate.now();
+		final var issuedFrom = LocalDate.now().minusDays(10);
+		final var issuedUntil = LocalDate.now().plusDays(10);
+		final var jsonParameters = List.of(AssetJsonParameterFilter.create().withKey("key").withJsonPath("$.name").withValue("value"));
 		final var origin = "origin";
 		final var partyId = "partyId";
+		final var partyIds = List.of("partyId1", "partyId2");
+		final var sortBy = AssetSortField.VALID_TO;
+		final var sortDirection = SortDirection.DESC;
 		final var status = Status.ACTIVE;
 		final var statusReason = "statusReason";
+		final var statuses = List.of(Status.ACTIVE, Status.TEMPORARY);
 		final var type = "type";
+		final var types = List.of("type1", "type2");
+		final var updatedAfter = OffsetDateTime.now().minusDays(1);
 		final var validTo = LocalDate.now();
+		final var validToFrom = LocalDate.now().minusDays(30);
+		final var validToUntil = LocalDate.now().plusDays(30);
 
 		final var bean = AssetSearchRequest.create()
 			.withAdditionalParameters(additionalParameters)
+			.withAdditionalParametersMatchMode(additionalParametersMatchMode)
 			.withAssetId(assetId)
+			.withCreatedAfter(createdAfter)
 			.withDescription(description)
 			.withIssued(issued)
+			.withIssuedFrom(issuedFrom)
+			.withIssuedUntil(issuedUntil)
+			.withJsonParameters(jsonParameters)
 			.withOrigin(origin)
 			.withPartyId(partyId)
+			.withPartyIds(partyIds)
+			.withSortBy(sortBy)
+			.withSortDirection(sortDirection)
 			.withStatus(status)
 			.withStatusReason(statusReason)
+			.withStatuses(statuses)
 			.withType(type)
-			.withValidTo(validTo);
+			.withTypes(types)
+			.withUpdatedAfter(updatedAfter)
+			.withValidTo(validTo)
+			.withValidToFrom(validToFrom)
+			.withValidToUntil(validToUntil);
 
 		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(bean.getAdditionalParameters()).isEqualTo(additionalParameters);
+		assertThat(bean.getAdditionalParametersMatchMode()).isEqualTo(additionalParametersMatchMode);
 		assertThat(bean.getAssetId()).isEqualTo(assetId);
+		assertThat(bean.getCreatedAfter()).isEqualTo(createdAfter);
 		assertThat(bean.getDescription()).isEqualTo(description);
 		assertThat(bean.getIssued()).isEqualTo(issued);
+		assertThat(bean.getIssuedFrom()).isEqualTo(issuedFrom);
+		assertThat(bean.getIssuedUntil()).isEqualTo(issuedUntil);
+		assertThat(bean.getJsonParameters()).isEqualTo(jsonParameters);
 		assertThat(bean.getOrigin()).isEqualTo(origin);
 		assertThat(bean.getPartyId()).isEqualTo(partyId);
+		assertThat(bean.getPartyIds()).isEqualTo(partyIds);
+		assertThat(bean.getSortBy()).isEqualTo(sortBy);
+		assertThat(bean.getSortDirection()).isEqualTo(sortDirection);
 		assertThat(bean.getStatus()).isEqualTo(status);
 		assertThat(bean.getStatusReason()).isEqualTo(statusReason);
+		assertThat(bean.getStatuses()).isEqualTo(statuses);
 		assertThat(bean.getType()).isEqualTo(type);
+		assertThat(bean.getTypes()).isEqualTo(types);
+		assertThat(bean.getUpdatedAfter()).isEqualTo(updatedAfter);
 		assertThat(bean.getValidTo()).isEqualTo(validTo);
+		assertThat(bean.getValidToFrom()).isEqualTo(validToFrom);
+		assertThat(bean.getValidToUntil()).isEqualTo(validToUntil);
 	}
 
 	@Test
@@ -0,0 +1,70 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.time.LocalDate;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class AssetSummaryTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> LocalDate.now().plusDays(new Random().nextInt()), LocalDate.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(AssetSummary.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var assetId = "assetId";
+		final var type = "type";
+		final var status = Status.ACTIVE;
+		final var statusReason = "statusReason";
+		final var issued = LocalDate.of(2025, 1, 1);
+		final var validTo = LocalDate.of(2026, 1, 1);
+
+		final var bean = AssetSummary.create()
+			.withId(id)
+			.withAssetId(assetId)
+			.withType(type)
+			.withStatus(status)
+			.withStatusReason(statusReason)
+			.withIssued(issued)
+			.withValidTo(validTo);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getAssetId()).isEqualTo(assetId);
+		assertThat(bean.getType()).isEqualTo(type);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getStatusReason()).isEqualTo(statusReason);
+		assertThat(bean.getIssued()).isEqualTo(issued);
+		assertThat(bean.getValidTo()).isEqualTo(validTo);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetSummary.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetSummary()).hasAllNullFieldsOrProperties();
+	}
+}
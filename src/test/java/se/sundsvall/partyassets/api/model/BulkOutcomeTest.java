@@ -0,0 +1,16 @@
+package se.sundsvall.partyassets.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.api.model.BulkOutcome.NOT_FOUND;
+import static se.sundsvall.partyassets.api.model.BulkOutcome.UNCHANGED;
+import static se.sundsvall.partyassets.api.model.BulkOutcome.UPDATED;
+
+class BulkOutcomeTest {
+
+	@Test
+	void testEnumValues() {
+		assertThat(BulkOutcome.values()).containsExactlyInAnyOrder(UPDATED, UNCHANGED, NOT_FOUND);
+	}
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+class PartyAssetsTest {
+
+	@Test
+	void testBean() {
+		assertThat(PartyAssets.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var partyId = "partyId";
+		final var assets = List.of(Asset.create().withId("id"));
+
+		final var bean = PartyAssets.create()
+			.withPartyId(partyId)
+			.withAssets(assets);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getPartyId()).isEqualTo(partyId);
+		assertThat(bean.getAssets()).isEqualTo(assets);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(PartyAssets.create()).hasAllNullFieldsOrProperties();
+		assertThat(new PartyAssets()).hasAllNullFieldsOrProperties();
+	}
+}
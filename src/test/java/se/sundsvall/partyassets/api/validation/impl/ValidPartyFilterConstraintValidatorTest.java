@@ -0,0 +1,90 @@
+package se.sundsvall.partyassets.api.validation.impl;
+
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder;
+import jakarta.validation.ConstraintValidatorContext.ConstraintViolationBuilder.NodeBuilderCustomizableContext;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ValidPartyFilterConstraintValidatorTest {
+
+	private static final String MESSAGE = "not a valid UUID";
+
+	@Mock
+	private ConstraintValidatorContext constraintValidatorContextMock;
+
+	@Mock
+	private ConstraintViolationBuilder constraintViolationBuilderMock;
+
+	@Mock
+	private NodeBuilderCustomizableContext nodeBuilderMock;
+
+	@InjectMocks
+	private ValidPartyFilterConstraintValidator validator;
+
+	@Test
+	void validWithPartyId() {
+		assertThat(validator.isValid(AssetSearchRequest.create().withPartyId(randomUUID().toString()), constraintValidatorContextMock)).isTrue();
+
+		verifyNoInteractions(constraintValidatorContextMock);
+	}
+
+	@Test
+	void validWithPartyIds() {
+		assertThat(validator.isValid(AssetSearchRequest.create().withPartyIds(List.of(randomUUID().toString())), constraintValidatorContextMock)).isTrue();
+
+		verifyNoInteractions(constraintValidatorContextMock);
+	}
+
+	@Test
+	void validWithBoundedValidToRange() {
+		assertThat(validator.isValid(AssetSearchRequest.create().withValidToFrom(LocalDate.of(2026, 1, 1)).withValidToUntil(LocalDate.of(2026, 1, 31)), constraintValidatorContextMock)).isTrue();
+
+		verifyNoInteractions(constraintValidatorContextMock);
+	}
+
+	@Test
+	void validWithNullRequest() {
+		assertThat(validator.isValid(null, constraintValidatorContextMock)).isTrue();
+
+		verifyNoInteractions(constraintValidatorContextMock);
+	}
+
+	@ParameterizedTest
+	@MethodSource("unscopedRequests")
+	void invalidWithoutPartyOrBoundedValidToRange(final AssetSearchRequest request) {
+		when(constraintValidatorContextMock.getDefaultConstraintMessageTemplate()).thenReturn(MESSAGE);
+		when(constraintValidatorContextMock.buildConstraintViolationWithTemplate(MESSAGE)).thenReturn(constraintViolationBuilderMock);
+		when(constraintViolationBuilderMock.addPropertyNode("partyId")).thenReturn(nodeBuilderMock);
+
+		assertThat(validator.isValid(request, constraintValidatorContextMock)).isFalse();
+
+		verify(constraintValidatorContextMock).disableDefaultConstraintViolation();
+		verify(nodeBuilderMock).addConstraintViolation();
+	}
+
+	private static Stream<AssetSearchRequest> unscopedRequests() {
+		return Stream.of(
+			AssetSearchRequest.create().withPartyIds(emptyList()),
+			AssetSearchRequest.create().withValidToFrom(LocalDate.of(2026, 1, 1)),
+			AssetSearchRequest.create().withValidToUntil(LocalDate.of(2026, 1, 31)),
+			AssetSearchRequest.create().withOrigin("PR3"));
+	}
+}
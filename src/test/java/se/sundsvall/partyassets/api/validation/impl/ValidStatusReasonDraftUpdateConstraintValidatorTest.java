@@ -17,6 +17,7 @@ import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import se.sundsvall.partyassets.api.model.DraftAssetUpdateRequest;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.service.StatusReasons;
 import se.sundsvall.partyassets.service.StatusService;
 
 import static java.util.Collections.emptyList;
@@ -65,7 +66,7 @@ class ValidStatusReasonDraftUpdateConstraintValidatorTest {
 		try (final var requestContextHolderMock = Mockito.mockStatic(RequestContextHolder.class)) {
 			requestContextHolderMock.when(RequestContextHolder::getRequestAttributes).thenReturn(requestAttributesMock);
 			lenient().when(requestAttributesMock.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE, SCOPE_REQUEST)).thenReturn(attributes);
-			lenient().when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+			lenient().when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 
 			assertThat(validator.isValid(DraftAssetUpdateRequest.create().withStatus(status).withStatusReason(statusReason), constraintValidatorContextMock)).isTrue();
 
@@ -82,7 +83,7 @@ class ValidStatusReasonDraftUpdateConstraintValidatorTest {
 		try (final var requestContextHolderMock = Mockito.mockStatic(RequestContextHolder.class)) {
 			requestContextHolderMock.when(RequestContextHolder::getRequestAttributes).thenReturn(requestAttributesMock);
 			lenient().when(requestAttributesMock.getAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE, SCOPE_REQUEST)).thenReturn(attributes);
-			when(statusServiceMock.getReasonsForAllStatuses(MUNICIPALITY_ID)).thenReturn(VALID_STATUS_REASONS_FOR_STATUSES);
+			when(statusServiceMock.getStatusReasons(MUNICIPALITY_ID)).thenReturn(StatusReasons.of(VALID_STATUS_REASONS_FOR_STATUSES));
 			when(constraintValidatorContextMock.buildConstraintViolationWithTemplate(any())).thenReturn(constraintViolationBuilderMock);
 
 			assertThat(validator.isValid(DraftAssetUpdateRequest.create().withStatus(status).withStatusReason(statusReason), constraintValidatorContextMock)).isFalse();
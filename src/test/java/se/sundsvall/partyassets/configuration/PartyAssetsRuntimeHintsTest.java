@@ -0,0 +1,49 @@
+package se.sundsvall.partyassets.configuration;
+
+import generated.se.sundsvall.party.PartyType;
+import generated.se.sundsvall.relation.Relation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetEntity_;
+import se.sundsvall.partyassets.integration.jsonschema.JsonSchemaClient;
+import se.sundsvall.partyassets.integration.party.PartyClient;
+import se.sundsvall.partyassets.integration.relation.RelationClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.aot.hint.MemberCategory.ACCESS_DECLARED_FIELDS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_DECLARED_CONSTRUCTORS;
+import static org.springframework.aot.hint.MemberCategory.INVOKE_PUBLIC_METHODS;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.proxies;
+import static org.springframework.aot.hint.predicate.RuntimeHintsPredicates.reflection;
+
+class PartyAssetsRuntimeHintsTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void setUp() {
+		new PartyAssetsRuntimeHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@Test
+	void generatedModels() {
+		assertThat(reflection().onType(Relation.class).withMemberCategories(INVOKE_DECLARED_CONSTRUCTORS, ACCESS_DECLARED_FIELDS)).accepts(hints);
+		assertThat(reflection().onType(PartyType.class)).accepts(hints);
+	}
+
+	@Test
+	void metamodel() {
+		assertThat(reflection().onType(AssetEntity_.class).withMemberCategory(ACCESS_DECLARED_FIELDS)).accepts(hints);
+		assertThat(reflection().onType(AssetEntity.class)).rejects(hints);
+	}
+
+	@Test
+	void feignClients() {
+		assertThat(reflection().onType(PartyClient.class).withMemberCategory(INVOKE_PUBLIC_METHODS)).accepts(hints);
+		assertThat(proxies().forInterfaces(PartyClient.class)).accepts(hints);
+		assertThat(proxies().forInterfaces(RelationClient.class)).accepts(hints);
+		assertThat(proxies().forInterfaces(JsonSchemaClient.class)).accepts(hints);
+	}
+}
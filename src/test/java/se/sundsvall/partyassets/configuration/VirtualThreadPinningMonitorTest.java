@@ -0,0 +1,88 @@
+package se.sundsvall.partyassets.configuration;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.partyassets.configuration.VirtualThreadPinningMonitor.METRIC_NAME;
+import static se.sundsvall.partyassets.configuration.VirtualThreadPinningMonitor.UNKNOWN_FRAME;
+
+@ExtendWith(MockitoExtension.class)
+class VirtualThreadPinningMonitorTest {
+
+	@Mock
+	private RecordedEvent eventMock;
+
+	@Mock
+	private RecordedStackTrace stackTraceMock;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private VirtualThreadPinningMonitor monitor;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		monitor = new VirtualThreadPinningMonitor(meterRegistry, new VirtualThreadProperties(Duration.ofMillis(20)));
+	}
+
+	@Test
+	void recordTagsFirstNonJdkFrame() {
+		final var jdkFrame = frame("java.util.concurrent.locks.LockSupport");
+		final var driverFrame = frame("org.mariadb.jdbc.client.impl.StandardClient");
+		when(eventMock.getDuration()).thenReturn(Duration.ofMillis(50));
+		when(eventMock.getStackTrace()).thenReturn(stackTraceMock);
+		when(stackTraceMock.getFrames()).thenReturn(List.of(jdkFrame, driverFrame));
+
+		monitor.record(eventMock);
+
+		final var timer = meterRegistry.get(METRIC_NAME).tag("class", "org.mariadb.jdbc.client.impl.StandardClient").timer();
+		assertThat(timer.count()).isOne();
+		assertThat(timer.totalTime(MILLISECONDS)).isEqualTo(50);
+	}
+
+	@Test
+	void recordWithoutStackTrace() {
+		when(eventMock.getDuration()).thenReturn(Duration.ofMillis(30));
+
+		monitor.record(eventMock);
+
+		assertThat(meterRegistry.get(METRIC_NAME).tag("class", UNKNOWN_FRAME).timer().count()).isOne();
+	}
+
+	@Test
+	void lifecycle() {
+		assertThat(monitor.isRunning()).isFalse();
+
+		monitor.start();
+		assertThat(monitor.isRunning()).isTrue();
+
+		monitor.stop();
+		assertThat(monitor.isRunning()).isFalse();
+	}
+
+	private static RecordedFrame frame(final String className) {
+		final var frame = mock(RecordedFrame.class);
+		final var method = mock(RecordedMethod.class);
+		final var type = mock(RecordedClass.class);
+		when(frame.isJavaFrame()).thenReturn(true);
+		when(frame.getMethod()).thenReturn(method);
+		when(method.getType()).thenReturn(type);
+		when(type.getName()).thenReturn(className);
+		return frame;
+	}
+}
@@ -0,0 +1,113 @@
+package se.sundsvall.partyassets.integration.db;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql"
+})
+class AssetChangeRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Autowired
+	private AssetChangeRepository repository;
+
+	@Test
+	void testCreate() {
+		final var first = repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1"));
+		final var second = repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2"));
+
+		assertThat(first.getId()).isNotNull();
+		assertThat(second.getId()).isGreaterThan(first.getId());
+		assertThat(first.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
+	}
+
+	@Test
+	void testFindChangesAfterCursor() {
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1").withSequenceNumber(1L));
+		repository.saveAndFlush(createEntry("2260", "other-municipality").withSequenceNumber(2L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2").withSequenceNumber(4L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-3").withSequenceNumber(3L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "unsequenced"));
+
+		final var result = repository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 1L, Limit.of(10));
+
+		assertThat(result)
+			.extracting(AssetChangeEntity::getAssetId)
+			.containsExactly("asset-3", "asset-2");
+	}
+
+	@Test
+	void testFindChangesAfterCursorIsLimited() {
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1").withSequenceNumber(1L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2").withSequenceNumber(2L));
+
+		final var result = repository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 0L, Limit.of(1));
+
+		assertThat(result)
+			.extracting(AssetChangeEntity::getAssetId)
+			.containsExactly("asset-1");
+	}
+
+	@Test
+	void testFindUnsequencedChanges() {
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1").withSequenceNumber(1L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2"));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-3"));
+
+		assertThat(repository.findBySequenceNumberIsNullOrderById(Limit.of(10)))
+			.extracting(AssetChangeEntity::getAssetId)
+			.containsExactly("asset-2", "asset-3");
+	}
+
+	@Test
+	void testFindMaxSequenceNumber() {
+		assertThat(repository.findMaxSequenceNumber()).isZero();
+
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1").withSequenceNumber(41L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2"));
+
+		assertThat(repository.findMaxSequenceNumber()).isEqualTo(41L);
+	}
+
+	@Test
+	void testFindChangesAfterCursorForAllMunicipalities() {
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-1").withSequenceNumber(1L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "asset-2").withPartyId("party-2").withSequenceNumber(3L));
+		repository.saveAndFlush(createEntry("2260", "other-municipality").withSequenceNumber(2L));
+		repository.saveAndFlush(createEntry(MUNICIPALITY_ID, "unsequenced"));
+
+		final var result = repository.findBySequenceNumberGreaterThanOrderBySequenceNumber(1L, Limit.of(10));
+
+		assertThat(result)
+			.extracting(AssetChangeEntity::getMunicipalityId, AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId)
+			.containsExactly(tuple("2260", "other-municipality", null), tuple(MUNICIPALITY_ID, "asset-2", "party-2"));
+	}
+
+	private static AssetChangeEntity createEntry(final String municipalityId, final String assetId) {
+		return AssetChangeEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withAssetId(assetId)
+			.withChangeType(AssetChangeType.STATUS_CHANGED)
+			.withStatus(Status.BLOCKED);
+	}
+}
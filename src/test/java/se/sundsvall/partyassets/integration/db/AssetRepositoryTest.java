@@ -2,22 +2,34 @@ package se.sundsvall.partyassets.integration.db;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import se.sundsvall.partyassets.TestFactory;
+import se.sundsvall.partyassets.api.model.AssetJsonParameterFilter;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.model.AssetSortField;
+import se.sundsvall.partyassets.api.model.ParameterMatchMode;
+import se.sundsvall.partyassets.api.model.SortDirection;
 import se.sundsvall.partyassets.api.model.Status;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetEntity_;
+import se.sundsvall.partyassets.integration.db.model.AssetStatusProjection;
+import se.sundsvall.partyassets.integration.db.model.AssetSummaryProjection;
 import se.sundsvall.partyassets.integration.db.model.PartyType;
 import se.sundsvall.partyassets.integration.db.specification.AssetSpecification;
 
+import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,9 +53,12 @@ class AssetRepositoryTest {
 
 	private static final String PRIVATE_PARTY_1 = "f2ef7992-7b01-4185-a7f8-cf97dc7f438f";
 	private static final String PRIVATE_PARTY_ASSET_ID_1 = "5d0aa6a4-e7ee-4dd4-9c3d-2aaeb689a884";
+	private static final String PRIVATE_PARTY_ASSET_ID_2 = "945576d3-6e92-4118-ba33-53582d338ad3";
+	private static final String DRAFT_ASSET_ID = "d0000000-0000-0000-0000-000000000001";
 	private static final String PRIVATE_PARTY_ASSET_1 = "PRH-0000000001";
 	private static final String PRIVATE_PARTY_ASSET_2 = "PRH-0000000002";
 	private static final String PRIVATE_PARTY_ASSET_3 = "CON-0000000003";
+	private static final String ENTERPRISE_PARTY = "c5d21b57-c785-4d3c-8361-940cae999ff7";
 	private static final String ENTERPRISE_PARTY_ASSET_ID_3 = "647e3062-62dc-499f-9faa-e54cb97aa214";
 	private static final String MUNICIPALITY_ID = "2281";
 
@@ -60,6 +75,14 @@ class AssetRepositoryTest {
 		assertThat(repository.findById(entity.getId())).isPresent();
 	}
 
+	@Test
+	void testCreateGeneratesTimeOrderedIds() {
+		final var entity = repository.saveAndFlush(TestFactory.getAssetEntity(null, randomUUID().toString()));
+
+		assertThat(UUID.fromString(entity.getId()).version()).isEqualTo(7);
+		assertThat(entity.getJsonParameters()).allSatisfy(parameter -> assertThat(UUID.fromString(parameter.getId()).version()).isEqualTo(7));
+	}
+
 	@Test
 	void testExistsByAssetIdAndMunicipalityId() {
 		assertThat(repository.existsByAssetIdAndMunicipalityId(PRIVATE_PARTY_ASSET_1, MUNICIPALITY_ID)).isTrue();
@@ -93,6 +116,21 @@ class AssetRepositoryTest {
 				PartyType.PRIVATE));
 	}
 
+	@Test
+	void testFindByInIdOrderAfterId() {
+		final var specification = AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1));
+
+		final var first = repository.findBy(specification, query -> query.as(AssetStatusProjection.class).sortBy(Sort.by(AssetEntity_.ID)).limit(2).all());
+		final var rest = repository.findBy(specification.and(AssetSpecification.createAssetSpecificationIdAfter(first.getLast().getId())),
+			query -> query.as(AssetStatusProjection.class).sortBy(Sort.by(AssetEntity_.ID)).limit(2).all());
+
+		assertThat(first).hasSize(2);
+		assertThat(rest).hasSize(1);
+		assertThat(Stream.concat(first.stream(), rest.stream()).map(AssetStatusProjection::getId).toList())
+			.isSorted()
+			.doesNotHaveDuplicates();
+	}
+
 	@Test
 	void testFindAllAssetsForCustomer() {
 		final var request = AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1);
@@ -103,6 +141,159 @@ class AssetRepositoryTest {
 			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_1, PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_ASSET_3);
 	}
 
+	@Test
+	void testFindCreatedAfter() {
+		final var request = AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1).withCreatedAfter(startOf(LocalDate.of(2022, 6, 1)));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_ASSET_3);
+	}
+
+	@Test
+	void testFindUpdatedAfter() {
+		final var request = AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1).withUpdatedAfter(startOf(LocalDate.of(2023, 3, 1)));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactly(PRIVATE_PARTY_ASSET_2);
+	}
+
+	@Test
+	void testFindUpdatedAfterMatchesNeverUpdatedAssetsOnCreated() {
+		final var request = AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1).withUpdatedAfter(startOf(LocalDate.of(2022, 12, 1)));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		// PRIVATE_PARTY_ASSET_3 has never been updated but was created after the given point in time
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_1, PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_ASSET_3);
+	}
+
+	@Test
+	void testFindByIssuedRange() {
+		final var request = AssetSearchRequest.create()
+			.withPartyIds(List.of(PRIVATE_PARTY_1, ENTERPRISE_PARTY))
+			.withIssuedFrom(LocalDate.of(2023, 1, 1))
+			.withIssuedUntil(LocalDate.of(2023, 1, 31));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_ASSET_3);
+	}
+
+	@Test
+	void testFindByValidToRangeAndStatuses() {
+		final var request = AssetSearchRequest.create()
+			.withValidToFrom(LocalDate.of(2023, 6, 30))
+			.withValidToUntil(LocalDate.of(2023, 12, 31))
+			.withStatuses(List.of(Status.ACTIVE, Status.TEMPORARY));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_3, "TMP-0000000001");
+	}
+
+	@Test
+	void testFindByPartyIdsAndTypes() {
+		final var request = AssetSearchRequest.create()
+			.withPartyIds(List.of(ENTERPRISE_PARTY, "f0000000-0000-0000-0000-000000000001"))
+			.withTypes(List.of("PERMIT", "OTHER"));
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder("PRH-0000000011", "PRH-0000000012", "CON-0000000013", "TMP-0000000001");
+	}
+
+	@Test
+	void testFindSorted() {
+		final var request = AssetSearchRequest.create()
+			.withPartyId(PRIVATE_PARTY_1)
+			.withSortBy(AssetSortField.ISSUED)
+			.withSortDirection(SortDirection.DESC);
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request), AssetSpecification.createAssetSort(request));
+
+		// PRIVATE_PARTY_ASSET_2 and PRIVATE_PARTY_ASSET_3 share issued date and are ordered on id
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactly(PRIVATE_PARTY_ASSET_3, PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_ASSET_1);
+	}
+
+	@Test
+	void testFindByAdditionalParametersMatchingAny() {
+		final var request = AssetSearchRequest.create()
+			.withAdditionalParameters(Map.of("first_key", "first_value", "second_key", "second_value"));
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).hasSize(1)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactly(PRIVATE_PARTY_ASSET_1);
+	}
+
+	@Test
+	void testFindByAdditionalParametersMatchingAnyReturnsEachAssetOnce() {
+		final var request = AssetSearchRequest.create()
+			.withAdditionalParameters(Map.of("first_key", "third_value", "second_key", "second_value"));
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).hasSize(2)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_1, PRIVATE_PARTY_ASSET_2);
+	}
+
+	@Test
+	void testFindByAdditionalParametersMatchingAll() {
+		final var request = AssetSearchRequest.create()
+			.withAdditionalParameters(Map.of("first_key", "first_value", "second_key", "second_value"))
+			.withAdditionalParametersMatchMode(ParameterMatchMode.ALL);
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).hasSize(1)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactly(PRIVATE_PARTY_ASSET_1);
+	}
+
+	@Test
+	void testFindByAdditionalParametersMatchingAllWhenOnlySomeMatch() {
+		final var request = AssetSearchRequest.create()
+			.withAdditionalParameters(Map.of("first_key", "third_value", "second_key", "second_value"))
+			.withAdditionalParametersMatchMode(ParameterMatchMode.ALL);
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void testFindByJsonParameterValue() {
+		final var request = AssetSearchRequest.create()
+			.withJsonParameters(List.of(AssetJsonParameterFilter.create().withKey("first_key").withJsonPath("$.firstName").withValue("John")));
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).hasSize(1)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactly(PRIVATE_PARTY_ASSET_1);
+	}
+
+	@Test
+	void testFindByJsonParameterValueWithNonMatchingKey() {
+		final var request = AssetSearchRequest.create()
+			.withJsonParameters(List.of(AssetJsonParameterFilter.create().withKey("other_key").withJsonPath("$.firstName").withValue("John")));
+
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request));
+
+		assertThat(result).isEmpty();
+	}
+
 	@Test
 	void findByIdAndMunicipalityId() {
 		assertThat(repository.findByIdAndMunicipalityId(PRIVATE_PARTY_ASSET_ID_1, MUNICIPALITY_ID)).isPresent();
@@ -110,7 +301,7 @@ class AssetRepositoryTest {
 
 	@Test
 	void findByIdAndMunicipalityIdNotFound() {
-		assertThat(repository.findByIdAndMunicipalityId("does-not-exist", MUNICIPALITY_ID)).isNotPresent();
+		assertThat(repository.findByIdAndMunicipalityId(randomUUID().toString(), MUNICIPALITY_ID)).isNotPresent();
 	}
 
 	@Test
@@ -178,4 +369,171 @@ class AssetRepositoryTest {
 
 		assertThat(result).isEmpty();
 	}
+
+	@Test
+	void findByMunicipalityIdAndIdInAndStatusNot() {
+		final var result = repository.findByMunicipalityIdAndIdInAndStatusNot(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_ASSET_ID_2, DRAFT_ASSET_ID, randomUUID().toString()), Status.DRAFT);
+
+		assertThat(result)
+			.extracting(AssetStatusProjection::getId, AssetStatusProjection::getAssetId, AssetStatusProjection::getPartyId, AssetStatusProjection::getStatus, AssetStatusProjection::getStatusReason)
+			.containsExactly(tuple(PRIVATE_PARTY_ASSET_ID_2, PRIVATE_PARTY_ASSET_2, PRIVATE_PARTY_1, Status.BLOCKED, "Stöldanmäld"));
+	}
+
+	@Test
+	void findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc() {
+		final var result = repository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(MUNICIPALITY_ID, PRIVATE_PARTY_ASSET_2, Status.DRAFT);
+
+		assertThat(result).hasValueSatisfying(summary -> {
+			assertThat(summary.getId()).isEqualTo(PRIVATE_PARTY_ASSET_ID_2);
+			assertThat(summary.getAssetId()).isEqualTo(PRIVATE_PARTY_ASSET_2);
+			assertThat(summary.getType()).isEqualTo("PERMIT");
+			assertThat(summary.getStatus()).isEqualTo(Status.BLOCKED);
+			assertThat(summary.getStatusReason()).isEqualTo("Stöldanmäld");
+			assertThat(summary.getIssued()).isEqualTo(LocalDate.of(2023, 1, 1));
+			assertThat(summary.getValidTo()).isEqualTo(LocalDate.of(2023, 12, 31));
+		});
+	}
+
+	@Test
+	void findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDescReturnsNewest() {
+		final var newest = repository.saveAndFlush(TestFactory.getAssetEntity(null, PRIVATE_PARTY_1)
+			.withAssetId(PRIVATE_PARTY_ASSET_2)
+			.withMunicipalityId(MUNICIPALITY_ID));
+
+		final var result = repository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(MUNICIPALITY_ID, PRIVATE_PARTY_ASSET_2, Status.DRAFT);
+
+		assertThat(result).map(AssetSummaryProjection::getId).hasValue(newest.getId());
+	}
+
+	@Test
+	void findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDescExcludesStatus() {
+		assertThat(repository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(MUNICIPALITY_ID, "DFT-0000000001", Status.DRAFT)).isEmpty();
+		assertThat(repository.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc("2262", PRIVATE_PARTY_ASSET_2, Status.DRAFT)).isEmpty();
+	}
+
+	@Test
+	void updateStatusByMunicipalityIdAndIdIn() {
+		final var updated = OffsetDateTime.now().truncatedTo(MILLIS);
+
+		final var count = repository.updateStatusByMunicipalityIdAndIdIn(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_ASSET_ID_1, PRIVATE_PARTY_ASSET_ID_2), Status.BLOCKED, "LOST", updated);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(repository.findAllById(List.of(PRIVATE_PARTY_ASSET_ID_1, PRIVATE_PARTY_ASSET_ID_2)))
+			.extracting(AssetEntity::getStatus, AssetEntity::getStatusReason)
+			.containsOnly(tuple(Status.BLOCKED, "LOST"));
+		assertThat(repository.findById(ENTERPRISE_PARTY_ASSET_ID_3)).hasValueSatisfying(entity -> assertThat(entity.getStatus()).isEqualTo(Status.ACTIVE));
+	}
+
+	@Test
+	void updateStatusByMunicipalityIdAndIdInLeavesDrafts() {
+		final var count = repository.updateStatusByMunicipalityIdAndIdIn(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_ASSET_ID_1, DRAFT_ASSET_ID), Status.BLOCKED, "LOST", OffsetDateTime.now());
+
+		assertThat(count).isEqualTo(1);
+		assertThat(repository.findById(DRAFT_ASSET_ID)).hasValueSatisfying(entity -> assertThat(entity.getStatus()).isEqualTo(Status.DRAFT));
+	}
+
+	@Test
+	void updateStatusByMunicipalityIdAndIdInForOtherMunicipality() {
+		final var count = repository.updateStatusByMunicipalityIdAndIdIn("2262", List.of(PRIVATE_PARTY_ASSET_ID_1), Status.BLOCKED, "LOST", OffsetDateTime.now());
+
+		assertThat(count).isZero();
+		assertThat(repository.findById(PRIVATE_PARTY_ASSET_ID_1)).hasValueSatisfying(entity -> assertThat(entity.getStatus()).isEqualTo(Status.EXPIRED));
+	}
+
+	@Test
+	void updateStatusByIdIn() {
+		final var updated = OffsetDateTime.now().truncatedTo(MILLIS);
+
+		final var count = repository.updateStatusByIdIn(List.of(PRIVATE_PARTY_ASSET_ID_2, ENTERPRISE_PARTY_ASSET_ID_3), Status.EXPIRED, updated);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(repository.findAllById(List.of(PRIVATE_PARTY_ASSET_ID_2, ENTERPRISE_PARTY_ASSET_ID_3)))
+			.extracting(AssetEntity::getId, AssetEntity::getStatus, AssetEntity::getStatusReason)
+			.containsExactlyInAnyOrder(
+				tuple(PRIVATE_PARTY_ASSET_ID_2, Status.EXPIRED, "Stöldanmäld"),
+				tuple(ENTERPRISE_PARTY_ASSET_ID_3, Status.EXPIRED, null));
+		assertThat(repository.findAllById(List.of(PRIVATE_PARTY_ASSET_ID_2, ENTERPRISE_PARTY_ASSET_ID_3)))
+			.allSatisfy(entity -> assertThat(entity.getUpdated()).isCloseTo(updated, within(1, MILLIS)));
+	}
+
+	@Test
+	void findByMunicipalityIdAndPartyIdInAndStatusNot() {
+		final var result = repository.findByMunicipalityIdAndPartyIdInAndStatusNot(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_1, ENTERPRISE_PARTY, "f0000000-0000-0000-0000-000000000002"), Status.DRAFT);
+
+		assertThat(result)
+			.extracting(AssetEntity::getPartyId, AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(
+				tuple(PRIVATE_PARTY_1, PRIVATE_PARTY_ASSET_1),
+				tuple(PRIVATE_PARTY_1, PRIVATE_PARTY_ASSET_2),
+				tuple(PRIVATE_PARTY_1, PRIVATE_PARTY_ASSET_3),
+				tuple(ENTERPRISE_PARTY, "PRH-0000000011"),
+				tuple(ENTERPRISE_PARTY, "PRH-0000000012"),
+				tuple(ENTERPRISE_PARTY, "CON-0000000013"));
+	}
+
+	@Test
+	void findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot() {
+		final var result = repository.findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_1, ENTERPRISE_PARTY), List.of(PRIVATE_PARTY_ASSET_2, "CON-0000000013", "TMP-0000000001"),
+			Status.DRAFT);
+
+		assertThat(result)
+			.extracting(AssetEntity::getAssetId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_2, "CON-0000000013");
+	}
+
+	@Test
+	void findByMunicipalityIdAndIdIn() {
+		final var result = repository.findByMunicipalityIdAndIdIn(MUNICIPALITY_ID, List.of(PRIVATE_PARTY_ASSET_ID_2, DRAFT_ASSET_ID, randomUUID().toString()));
+
+		assertThat(result)
+			.extracting(AssetStatusProjection::getId)
+			.containsExactlyInAnyOrder(PRIVATE_PARTY_ASSET_ID_2, DRAFT_ASSET_ID);
+	}
+
+	@Test
+	void deleteWithCollectionsByMunicipalityIdAndIdIn() {
+		final var ids = List.of(PRIVATE_PARTY_ASSET_ID_1, PRIVATE_PARTY_ASSET_ID_2);
+
+		repository.deleteJsonParametersByAssetIdIn(ids);
+		final var count = repository.deleteByMunicipalityIdAndIdIn(MUNICIPALITY_ID, ids);
+
+		assertThat(count).isEqualTo(2);
+		assertThat(repository.findAllById(ids)).isEmpty();
+		assertThat(repository.findById(ENTERPRISE_PARTY_ASSET_ID_3)).isPresent();
+	}
+
+	@Test
+	void deleteByMunicipalityIdAndIdInForOtherMunicipality() {
+		final var count = repository.deleteByMunicipalityIdAndIdIn("2262", List.of(ENTERPRISE_PARTY_ASSET_ID_3));
+
+		assertThat(count).isZero();
+		assertThat(repository.findById(ENTERPRISE_PARTY_ASSET_ID_3)).isPresent();
+	}
+
+	@Test
+	void collectionsAreLoadedLazily() {
+		final var entity = repository.findById(PRIVATE_PARTY_ASSET_ID_1).orElseThrow();
+
+		assertThat(Hibernate.isInitialized(entity.getCaseReferenceIds())).isFalse();
+		assertThat(Hibernate.isInitialized(entity.getAdditionalParameters())).isFalse();
+		assertThat(Hibernate.isInitialized(entity.getJsonParameters())).isFalse();
+	}
+
+	@Test
+	void collectionsAreBatchFetchedForSearchResults() {
+		final var result = repository.findAll(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, AssetSearchRequest.create().withPartyId(PRIVATE_PARTY_1)));
+
+		assertThat(result).hasSize(3);
+		// Initializing the collection of one asset fetches the same collection for the rest of the result
+		Hibernate.initialize(result.getFirst().getAdditionalParameters());
+
+		assertThat(result).allSatisfy(entity -> {
+			assertThat(Hibernate.isInitialized(entity.getAdditionalParameters())).isTrue();
+			assertThat(Hibernate.isInitialized(entity.getCaseReferenceIds())).isFalse();
+		});
+	}
+
+	private static OffsetDateTime startOf(final LocalDate date) {
+		return date.atStartOfDay(ZoneId.systemDefault()).toOffsetDateTime();
+	}
 }
@@ -0,0 +1,75 @@
+package se.sundsvall.partyassets.integration.db;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql"
+})
+class RelationOutboxRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Autowired
+	private RelationOutboxRepository repository;
+
+	@Test
+	void testCreate() {
+		final var entity = repository.saveAndFlush(createEntry("asset-1"));
+
+		assertThat(entity.getId()).isNotBlank();
+		assertThat(entity.getAttempts()).isZero();
+		assertThat(entity.getCreated()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
+		assertThat(entity.getNextAttempt()).isEqualTo(entity.getCreated());
+	}
+
+	@Test
+	void testFindDueEntries() {
+		final var now = OffsetDateTime.now();
+		repository.saveAndFlush(createEntry("due").withNextAttempt(now.minusMinutes(1)));
+		repository.saveAndFlush(createEntry("not-due").withNextAttempt(now.plusMinutes(1)));
+		repository.saveAndFlush(createEntry("exhausted").withAttempts(10).withNextAttempt(now.minusMinutes(1)));
+
+		final var result = repository.findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(10, now, Limit.of(10));
+
+		assertThat(result)
+			.extracting(RelationOutboxEntity::getAssetId)
+			.containsExactly("due");
+	}
+
+	@Test
+	void testFindDueEntriesIsLimited() {
+		final var now = OffsetDateTime.now();
+		repository.saveAndFlush(createEntry("first").withNextAttempt(now.minusMinutes(1)));
+		repository.saveAndFlush(createEntry("second").withNextAttempt(now.minusMinutes(1)));
+
+		final var result = repository.findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(10, now, Limit.of(1));
+
+		assertThat(result).hasSize(1);
+	}
+
+	private static RelationOutboxEntity createEntry(final String assetId) {
+		return RelationOutboxEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withAssetId(assetId)
+			.withRelationType("LINK")
+			.withSourceResourceId("source-id")
+			.withSourceType("case")
+			.withSourceService("service");
+	}
+}
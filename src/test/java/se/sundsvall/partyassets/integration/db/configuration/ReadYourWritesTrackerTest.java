@@ -0,0 +1,135 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.integration.db.configuration.ReadYourWritesTracker.PURGE_THRESHOLD;
+
+class ReadYourWritesTrackerTest {
+
+	private static final String CLIENT_HEADER = "X-Sent-By";
+	private static final Duration WINDOW = Duration.ofSeconds(5);
+	private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+	@AfterEach
+	void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	void hasRecentWriteWithinWindow() {
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, Clock.fixed(NOW, ZoneOffset.UTC));
+		bindRequest("client-1");
+
+		assertThat(tracker.hasRecentWrite()).isFalse();
+
+		tracker.registerWrite();
+
+		assertThat(tracker.hasRecentWrite()).isTrue();
+	}
+
+	@Test
+	void hasRecentWriteOutsideWindow() {
+		final var clock = new MutableClock(NOW);
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, clock);
+		bindRequest("client-1");
+		tracker.registerWrite();
+
+		clock.instant = NOW.plus(WINDOW);
+		assertThat(tracker.hasRecentWrite()).isTrue();
+
+		clock.instant = NOW.plus(WINDOW).plusMillis(1);
+		assertThat(tracker.hasRecentWrite()).isFalse();
+	}
+
+	@Test
+	void hasRecentWriteIsPerClient() {
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, Clock.fixed(NOW, ZoneOffset.UTC));
+		bindRequest("client-1");
+		tracker.registerWrite();
+
+		bindRequest("client-2");
+
+		assertThat(tracker.hasRecentWrite()).isFalse();
+	}
+
+	@Test
+	void remoteAddressIsUsedWhenHeaderIsMissing() {
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, Clock.fixed(NOW, ZoneOffset.UTC));
+		bindRequest(null);
+		tracker.registerWrite();
+
+		assertThat(tracker.hasRecentWrite()).isTrue();
+		assertThat(tracker.size()).isOne();
+	}
+
+	@Test
+	void writesOutsideRequestAreNotTracked() {
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, Clock.fixed(NOW, ZoneOffset.UTC));
+
+		tracker.registerWrite();
+
+		assertThat(tracker.hasRecentWrite()).isFalse();
+		assertThat(tracker.size()).isZero();
+	}
+
+	@Test
+	void expiredWritesArePurged() {
+		final var clock = new MutableClock(NOW);
+		final var tracker = new ReadYourWritesTracker(WINDOW, CLIENT_HEADER, clock);
+
+		for (var i = 0; i < PURGE_THRESHOLD; i++) {
+			bindRequest("client-" + i);
+			tracker.registerWrite();
+		}
+		assertThat(tracker.size()).isEqualTo(PURGE_THRESHOLD);
+
+		clock.instant = NOW.plus(WINDOW).plusSeconds(1);
+		bindRequest("new-client");
+		tracker.registerWrite();
+
+		assertThat(tracker.size()).isOne();
+		assertThat(tracker.hasRecentWrite()).isTrue();
+	}
+
+	private static void bindRequest(final String client) {
+		final var request = new MockHttpServletRequest();
+		if (client != null) {
+			request.addHeader(CLIENT_HEADER, client);
+		}
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant;
+
+		private MutableClock(final Instant instant) {
+			this.instant = instant;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(final ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+}
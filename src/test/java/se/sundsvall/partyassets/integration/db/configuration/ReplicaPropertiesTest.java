@@ -0,0 +1,29 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.partyassets.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.MOCK;
+
+@SpringBootTest(classes = Application.class, webEnvironment = MOCK)
+@ActiveProfiles("junit")
+class ReplicaPropertiesTest {
+
+	@Autowired
+	private ReplicaProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.url()).isEqualTo("jdbc:mariadb://replica-host:3306/partyassets");
+		assertThat(properties.username()).isNull();
+		assertThat(properties.password()).isNull();
+		assertThat(properties.readYourWritesWindow()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(properties.clientHeader()).isEqualTo("X-Client-Id");
+	}
+}
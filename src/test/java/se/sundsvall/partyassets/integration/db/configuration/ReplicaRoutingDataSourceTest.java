@@ -0,0 +1,72 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.partyassets.integration.db.configuration.ReplicaRoutingDataSource.Target.PRIMARY;
+import static se.sundsvall.partyassets.integration.db.configuration.ReplicaRoutingDataSource.Target.REPLICA;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primaryMock;
+
+	@Mock
+	private DataSource replicaMock;
+
+	@Mock
+	private ReadYourWritesTracker trackerMock;
+
+	@AfterEach
+	void clearTransaction() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+	}
+
+	@Test
+	void readOnlyTransactionIsRoutedToReplica() {
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock, trackerMock);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(REPLICA);
+		verify(trackerMock).hasRecentWrite();
+	}
+
+	@Test
+	void readOnlyTransactionAfterRecentWriteIsRoutedToPrimary() {
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock, trackerMock);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		when(trackerMock.hasRecentWrite()).thenReturn(true);
+
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(PRIMARY);
+	}
+
+	@Test
+	void readWriteTransactionIsRoutedToPrimary() {
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock, trackerMock);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(PRIMARY);
+		verifyNoInteractions(trackerMock);
+	}
+
+	@Test
+	void noTransactionIsRoutedToPrimary() {
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock, trackerMock);
+
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(PRIMARY);
+		verifyNoInteractions(trackerMock);
+	}
+}
@@ -0,0 +1,81 @@
+package se.sundsvall.partyassets.integration.db.configuration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class WriteTrackingStatementInspectorTest {
+
+	@Mock
+	private ReadYourWritesTracker trackerMock;
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"insert into asset (id) values (?)",
+		"UPDATE asset SET status=? WHERE id=?",
+		" delete from asset where id=?",
+		"/* delete se.sundsvall.partyassets.integration.db.model.AssetEntity */ delete from asset where id=?"
+	})
+	void writeInsideTransactionIsRegisteredAfterCommit(final String sql) {
+		final var inspector = new WriteTrackingStatementInspector(trackerMock);
+		TransactionSynchronizationManager.initSynchronization();
+
+		assertThat(inspector.inspect(sql)).isEqualTo(sql);
+		assertThat(inspector.inspect(sql)).isEqualTo(sql);
+
+		verifyNoInteractions(trackerMock);
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		verify(trackerMock).registerWrite();
+	}
+
+	@Test
+	void writeInsideRolledBackTransactionIsNotRegistered() {
+		final var inspector = new WriteTrackingStatementInspector(trackerMock);
+		TransactionSynchronizationManager.initSynchronization();
+
+		inspector.inspect("insert into asset (id) values (?)");
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+		verifyNoInteractions(trackerMock);
+	}
+
+	@Test
+	void readInsideTransactionIsNotRegistered() {
+		final var inspector = new WriteTrackingStatementInspector(trackerMock);
+		TransactionSynchronizationManager.initSynchronization();
+
+		inspector.inspect("select a.id from asset a where a.party_id=?");
+
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+		verifyNoInteractions(trackerMock);
+	}
+
+	@Test
+	void writeOutsideTransactionIsRegisteredImmediately() {
+		final var inspector = new WriteTrackingStatementInspector(trackerMock);
+
+		inspector.inspect("update asset set status=? where id=?");
+
+		verify(trackerMock).registerWrite();
+	}
+}
@@ -0,0 +1,87 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class AssetChangeEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(AssetChangeEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = 1042L;
+		final var sequenceNumber = 1041L;
+		final var municipalityId = "municipalityId";
+		final var assetId = "assetId";
+		final var partyId = "partyId";
+		final var changeType = AssetChangeType.EXPIRED;
+		final var status = Status.EXPIRED;
+		final var created = now();
+
+		final var bean = AssetChangeEntity.create()
+			.withId(id)
+			.withSequenceNumber(sequenceNumber)
+			.withMunicipalityId(municipalityId)
+			.withAssetId(assetId)
+			.withPartyId(partyId)
+			.withChangeType(changeType)
+			.withStatus(status)
+			.withCreated(created);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getSequenceNumber()).isEqualTo(sequenceNumber);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getAssetId()).isEqualTo(assetId);
+		assertThat(bean.getPartyId()).isEqualTo(partyId);
+		assertThat(bean.getChangeType()).isEqualTo(changeType);
+		assertThat(bean.getStatus()).isEqualTo(status);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testPrePersist() {
+		final var bean = AssetChangeEntity.create();
+
+		bean.prePersist();
+
+		assertThat(bean.getCreated()).isCloseTo(now(), within(1, SECONDS));
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(AssetChangeEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new AssetChangeEntity()).hasAllNullFieldsOrProperties();
+	}
+}
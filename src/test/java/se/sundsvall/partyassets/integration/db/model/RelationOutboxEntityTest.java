@@ -0,0 +1,98 @@
+package se.sundsvall.partyassets.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.CoreMatchers.allOf;
+
+class RelationOutboxEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		MatcherAssert.assertThat(RelationOutboxEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = "id";
+		final var municipalityId = "municipalityId";
+		final var assetId = "assetId";
+		final var relationType = "LINK";
+		final var sourceResourceId = "sourceResourceId";
+		final var sourceType = "sourceType";
+		final var sourceService = "sourceService";
+		final var sourceNamespace = "sourceNamespace";
+		final var attempts = 3;
+		final var lastError = "lastError";
+		final var nextAttempt = now().plusMinutes(1);
+		final var created = now();
+
+		final var bean = RelationOutboxEntity.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withAssetId(assetId)
+			.withRelationType(relationType)
+			.withSourceResourceId(sourceResourceId)
+			.withSourceType(sourceType)
+			.withSourceService(sourceService)
+			.withSourceNamespace(sourceNamespace)
+			.withAttempts(attempts)
+			.withLastError(lastError)
+			.withNextAttempt(nextAttempt)
+			.withCreated(created);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getAssetId()).isEqualTo(assetId);
+		assertThat(bean.getRelationType()).isEqualTo(relationType);
+		assertThat(bean.getSourceResourceId()).isEqualTo(sourceResourceId);
+		assertThat(bean.getSourceType()).isEqualTo(sourceType);
+		assertThat(bean.getSourceService()).isEqualTo(sourceService);
+		assertThat(bean.getSourceNamespace()).isEqualTo(sourceNamespace);
+		assertThat(bean.getAttempts()).isEqualTo(attempts);
+		assertThat(bean.getLastError()).isEqualTo(lastError);
+		assertThat(bean.getNextAttempt()).isEqualTo(nextAttempt);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testPrePersist() {
+		final var bean = RelationOutboxEntity.create();
+
+		bean.prePersist();
+
+		assertThat(bean.getCreated()).isCloseTo(now(), within(1, SECONDS));
+		assertThat(bean.getNextAttempt()).isEqualTo(bean.getCreated());
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(RelationOutboxEntity.create()).hasAllNullFieldsOrPropertiesExcept("attempts");
+		assertThat(new RelationOutboxEntity()).hasAllNullFieldsOrPropertiesExcept("attempts");
+	}
+}
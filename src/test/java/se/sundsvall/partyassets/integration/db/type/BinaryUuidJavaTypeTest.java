@@ -0,0 +1,68 @@
+package se.sundsvall.partyassets.integration.db.type;
+
+import java.util.HexFormat;
+import org.hibernate.HibernateException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class BinaryUuidJavaTypeTest {
+
+	private static final String UUID = "5d0aa6a4-e7ee-4dd4-9c3d-2aaeb689a884";
+	private static final byte[] BYTES = HexFormat.of().parseHex("5d0aa6a4e7ee4dd49c3d2aaeb689a884");
+
+	private final BinaryUuidJavaType javaType = new BinaryUuidJavaType();
+
+	@Test
+	void unwrapToBytes() {
+		assertThat(javaType.unwrap(UUID, byte[].class, null)).isEqualTo(BYTES);
+	}
+
+	@Test
+	void unwrapToString() {
+		assertThat(javaType.unwrap(UUID, String.class, null)).isEqualTo(UUID);
+	}
+
+	@Test
+	void unwrapNull() {
+		assertThat(javaType.unwrap(null, byte[].class, null)).isNull();
+	}
+
+	@Test
+	void unwrapToUnknownType() {
+		assertThatExceptionOfType(HibernateException.class).isThrownBy(() -> javaType.unwrap(UUID, Long.class, null));
+	}
+
+	@Test
+	void unwrapInvalidUuid() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> javaType.unwrap("not-a-uuid", byte[].class, null));
+	}
+
+	@Test
+	void wrapFromBytes() {
+		assertThat(javaType.wrap(BYTES, null)).isEqualTo(UUID);
+	}
+
+	@Test
+	void wrapFromString() {
+		assertThat(javaType.wrap(UUID, null)).isEqualTo(UUID);
+	}
+
+	@Test
+	void wrapNull() {
+		assertThat(javaType.wrap(null, null)).isNull();
+	}
+
+	@Test
+	void wrapFromUnknownType() {
+		assertThatExceptionOfType(HibernateException.class).isThrownBy(() -> javaType.wrap(42L, null));
+	}
+
+	@Test
+	void roundTrip() {
+		final var uuid = java.util.UUID.randomUUID().toString();
+
+		assertThat(javaType.wrap(javaType.unwrap(uuid, byte[].class, null), null)).isEqualTo(uuid);
+	}
+}
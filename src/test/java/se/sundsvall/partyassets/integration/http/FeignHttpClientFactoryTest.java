@@ -0,0 +1,59 @@
+package se.sundsvall.partyassets.integration.http;
+
+import feign.hc5.ApacheHttp5Client;
+import feign.http2client.Http2Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.as;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
+
+class FeignHttpClientFactoryTest {
+
+	private static final String NAME = "party";
+
+	private SimpleMeterRegistry meterRegistry;
+	private FeignHttpClientFactory factory;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		factory = new FeignHttpClientFactory(meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		factory.destroy();
+	}
+
+	@Test
+	void createPooledClient() {
+		final var client = factory.create(NAME, new HttpClientProperties(20, Duration.ofSeconds(30), false));
+
+		assertThat(client).isInstanceOf(ApacheHttp5Client.class);
+		assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", NAME).gauge().value()).isEqualTo(20);
+		assertThat(meterRegistry.get("httpcomponents.httpclient.pool.route.max.default").tag("httpclient", NAME).gauge().value()).isEqualTo(20);
+	}
+
+	@Test
+	void createHttp2Client() {
+		final var client = factory.create(NAME, new HttpClientProperties(20, Duration.ofSeconds(30), true));
+
+		assertThat(client).isInstanceOf(Http2Client.class);
+		assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge()).isNull();
+	}
+
+	@Test
+	void destroyClosesClients() {
+		factory.create(NAME, new HttpClientProperties(20, Duration.ofSeconds(30), false));
+		factory.create(NAME, new HttpClientProperties(20, Duration.ofSeconds(30), true));
+
+		factory.destroy();
+
+		assertThat(factory).extracting("httpClients", as(LIST)).isEmpty();
+	}
+}
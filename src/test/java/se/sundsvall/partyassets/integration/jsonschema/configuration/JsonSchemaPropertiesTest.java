@@ -1,5 +1,6 @@
 package se.sundsvall.partyassets.integration.jsonschema.configuration;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,5 +21,8 @@ class JsonSchemaPropertiesTest {
 	void testProperties() {
 		assertThat(properties.connectTimeout()).isEqualTo(10);
 		assertThat(properties.readTimeout()).isEqualTo(20);
+		assertThat(properties.httpClient().maxConnections()).isEqualTo(50);
+		assertThat(properties.httpClient().keepAlive()).isEqualTo(Duration.ofSeconds(30));
+		assertThat(properties.httpClient().http2()).isFalse();
 	}
 }
@@ -0,0 +1,232 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.RequestTemplate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.oauth2.client.endpoint.OAuth2AccessTokenResponseClient;
+import org.springframework.security.oauth2.client.endpoint.OAuth2ClientCredentialsGrantRequest;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AuthorizationException;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AccessTokenResponse;
+import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache.METRIC_NAME;
+import static se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache.TRIGGER_REFRESH;
+import static se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache.TRIGGER_REQUEST;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2TokenCacheTest {
+
+	private static final String REGISTRATION_ID = "party";
+
+	@Mock
+	private OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest> tokenResponseClientMock;
+
+	@Mock
+	private ObjectProvider<OAuth2AccessTokenResponseClient<OAuth2ClientCredentialsGrantRequest>> tokenResponseClientProviderMock;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OAuth2TokenCache tokenCache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		when(tokenResponseClientProviderMock.getIfAvailable(any())).thenReturn(tokenResponseClientMock);
+
+		final var registration = ClientRegistration.withRegistrationId(REGISTRATION_ID)
+			.authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+			.clientId("client-id")
+			.clientSecret("client-secret")
+			.tokenUri("http://localhost/token")
+			.build();
+
+		tokenCache = new OAuth2TokenCache(new InMemoryClientRegistrationRepository(registration), tokenResponseClientProviderMock, meterRegistry,
+			new OAuth2TokenCacheProperties(Duration.ofMinutes(1), Duration.ofSeconds(10)));
+	}
+
+	@Test
+	void getTokenIsCached() {
+		when(tokenResponseClientMock.getTokenResponse(any())).thenReturn(createResponse("token", Duration.ofHours(1)));
+
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("token");
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("token");
+
+		verify(tokenResponseClientMock).getTokenResponse(any());
+		assertThat(fetchCount(TRIGGER_REQUEST, "success")).isOne();
+	}
+
+	@Test
+	void getTokenFetchesNewTokenWhenExpiring() {
+		when(tokenResponseClientMock.getTokenResponse(any()))
+			.thenReturn(createResponse("expiring", Duration.ofSeconds(5)))
+			.thenReturn(createResponse("token", Duration.ofHours(1)));
+
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("expiring");
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("token");
+
+		verify(tokenResponseClientMock, times(2)).getTokenResponse(any());
+	}
+
+	@Test
+	void getTokenFetchesOnceForConcurrentRequests() throws Exception {
+		final var fetchStarted = new CountDownLatch(1);
+		final var fetchMayComplete = new CountDownLatch(1);
+		when(tokenResponseClientMock.getTokenResponse(any())).thenAnswer(_ -> {
+			fetchStarted.countDown();
+			fetchMayComplete.await();
+			return createResponse("token", Duration.ofHours(1));
+		});
+
+		final var first = CompletableFuture.supplyAsync(() -> tokenCache.getToken(REGISTRATION_ID));
+		fetchStarted.await();
+		final var waitingToken = new AtomicReference<String>();
+		final var waiting = Thread.ofPlatform().start(() -> waitingToken.set(tokenCache.getToken(REGISTRATION_ID)));
+		while (waiting.getState() != Thread.State.WAITING) {
+			Thread.onSpinWait();
+		}
+		fetchMayComplete.countDown();
+		waiting.join();
+
+		assertThat(first.get()).isEqualTo("token");
+		assertThat(waitingToken).hasValue("token");
+		verify(tokenResponseClientMock).getTokenResponse(any());
+	}
+
+	@Test
+	void getTokenFailure() {
+		when(tokenResponseClientMock.getTokenResponse(any())).thenThrow(new OAuth2AuthorizationException(new OAuth2Error("invalid_client")));
+
+		assertThatExceptionOfType(OAuth2AuthorizationException.class).isThrownBy(() -> tokenCache.getToken(REGISTRATION_ID));
+
+		assertThat(fetchCount(TRIGGER_REQUEST, "failure")).isOne();
+	}
+
+	@Test
+	void getTokenForUnknownRegistration() {
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> tokenCache.getToken("unknown"))
+			.withMessage("No client registration with id unknown");
+
+		verifyNoInteractions(tokenResponseClientMock);
+	}
+
+	@Test
+	void invalidate() {
+		when(tokenResponseClientMock.getTokenResponse(any())).thenReturn(createResponse("token", Duration.ofHours(1)));
+
+		tokenCache.getToken(REGISTRATION_ID);
+		tokenCache.invalidate(REGISTRATION_ID);
+		tokenCache.getToken(REGISTRATION_ID);
+
+		verify(tokenResponseClientMock, times(2)).getTokenResponse(any());
+	}
+
+	@Test
+	void refreshReplacesTokenExpiringWithinRefreshAhead() {
+		when(tokenResponseClientMock.getTokenResponse(any()))
+			.thenReturn(createResponse("old", Duration.ofSeconds(30)))
+			.thenReturn(createResponse("new", Duration.ofHours(1)));
+
+		tokenCache.getToken(REGISTRATION_ID);
+		tokenCache.refresh();
+
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("new");
+		assertThat(fetchCount(TRIGGER_REFRESH, "success")).isOne();
+	}
+
+	@Test
+	void refreshLeavesTokenNotExpiringWithinRefreshAhead() {
+		when(tokenResponseClientMock.getTokenResponse(any())).thenReturn(createResponse("token", Duration.ofHours(1)));
+
+		tokenCache.getToken(REGISTRATION_ID);
+		tokenCache.refresh();
+
+		verify(tokenResponseClientMock).getTokenResponse(any());
+	}
+
+	@Test
+	void refreshKeepsTokenOnFailure() {
+		when(tokenResponseClientMock.getTokenResponse(any()))
+			.thenReturn(createResponse("token", Duration.ofSeconds(30)))
+			.thenThrow(new OAuth2AuthorizationException(new OAuth2Error("server_error")));
+
+		tokenCache.getToken(REGISTRATION_ID);
+		tokenCache.refresh();
+
+		assertThat(tokenCache.getToken(REGISTRATION_ID)).isEqualTo("token");
+		assertThat(fetchCount(TRIGGER_REFRESH, "failure")).isOne();
+	}
+
+	@Test
+	void requestInterceptor() {
+		when(tokenResponseClientMock.getTokenResponse(any())).thenReturn(createResponse("token", Duration.ofHours(1)));
+		final var template = new RequestTemplate();
+
+		tokenCache.requestInterceptor(REGISTRATION_ID).apply(template);
+
+		assertThat(template.headers().get(AUTHORIZATION)).containsExactly("Bearer token");
+	}
+
+	@Test
+	void errorDecoder() {
+		final var delegate = new ProblemErrorDecoder(REGISTRATION_ID);
+
+		assertThat(tokenCache.errorDecoder(REGISTRATION_ID, delegate))
+			.isInstanceOf(TokenInvalidatingErrorDecoder.class)
+			.hasFieldOrPropertyWithValue("registrationId", REGISTRATION_ID)
+			.hasFieldOrPropertyWithValue("delegate", delegate);
+	}
+
+	@Test
+	void retryer() {
+		assertThat(tokenCache.retryer()).isInstanceOf(TokenRefreshRetryer.class);
+	}
+
+	@Test
+	void lifecycle() {
+		assertThat(tokenCache.isRunning()).isFalse();
+
+		tokenCache.start();
+		assertThat(tokenCache.isRunning()).isTrue();
+
+		tokenCache.stop();
+		assertThat(tokenCache.isRunning()).isFalse();
+	}
+
+	private long fetchCount(final String trigger, final String outcome) {
+		final var timer = meterRegistry.find(METRIC_NAME)
+			.tag("client", REGISTRATION_ID)
+			.tag("trigger", trigger)
+			.tag("outcome", outcome)
+			.timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private static OAuth2AccessTokenResponse createResponse(final String tokenValue, final Duration expiresIn) {
+		return OAuth2AccessTokenResponse.withToken(tokenValue)
+			.tokenType(OAuth2AccessToken.TokenType.BEARER)
+			.expiresIn(expiresIn.toSeconds())
+			.build();
+	}
+}
@@ -0,0 +1,70 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.codec.ErrorDecoder;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenInvalidatingErrorDecoderTest {
+
+	private static final String REGISTRATION_ID = "party";
+	private static final String METHOD_KEY = "PartyClient#getLegalId";
+
+	@Mock
+	private OAuth2TokenCache tokenCacheMock;
+
+	@Mock
+	private ErrorDecoder delegateMock;
+
+	@Test
+	void decodeUnauthorized() {
+		final var response = createResponse(401);
+		final var exception = new IllegalStateException("Unauthorized");
+		when(delegateMock.decode(METHOD_KEY, response)).thenReturn(exception);
+
+		assertThat(new TokenInvalidatingErrorDecoder(tokenCacheMock, REGISTRATION_ID, delegateMock).decode(METHOD_KEY, response))
+			.isInstanceOfSatisfying(RetryableException.class, retryable -> {
+				assertThat(retryable.status()).isEqualTo(401);
+				assertThat(retryable.method()).isEqualTo(Request.HttpMethod.GET);
+				assertThat(retryable).hasMessage("Unauthorized").hasCause(exception);
+			});
+
+		verify(tokenCacheMock).invalidate(REGISTRATION_ID);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {
+		400, 403, 404, 500
+	})
+	void decodeOtherErrors(final int status) {
+		final var response = createResponse(status);
+		final var exception = new IllegalStateException();
+		when(delegateMock.decode(METHOD_KEY, response)).thenReturn(exception);
+
+		assertThat(new TokenInvalidatingErrorDecoder(tokenCacheMock, REGISTRATION_ID, delegateMock).decode(METHOD_KEY, response)).isSameAs(exception);
+
+		verifyNoInteractions(tokenCacheMock);
+	}
+
+	private static Response createResponse(final int status) {
+		return Response.builder()
+			.status(status)
+			.headers(Map.of())
+			.request(Request.create(Request.HttpMethod.GET, "http://localhost/api-party", Map.of(), null, UTF_8, null))
+			.build();
+	}
+}
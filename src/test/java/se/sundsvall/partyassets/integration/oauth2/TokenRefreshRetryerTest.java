@@ -0,0 +1,47 @@
+package se.sundsvall.partyassets.integration.oauth2;
+
+import feign.Request;
+import feign.RetryableException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenRefreshRetryerTest {
+
+	private static final Request REQUEST = Request.create(Request.HttpMethod.GET, "http://localhost/api-party", Map.of(), null, UTF_8, null);
+
+	@Test
+	void continueOrPropagateRetriesUnauthorizedOnce() {
+		final var cause = new IllegalStateException("Unauthorized");
+		final var retryer = new TokenRefreshRetryer();
+
+		assertThatCode(() -> retryer.continueOrPropagate(createException(401, cause))).doesNotThrowAnyException();
+		assertThatThrownBy(() -> retryer.continueOrPropagate(createException(401, cause))).isSameAs(cause);
+	}
+
+	@Test
+	void continueOrPropagateDoesNotRetryOtherErrors() {
+		final var exception = createException(-1, null);
+
+		assertThatThrownBy(() -> new TokenRefreshRetryer().continueOrPropagate(exception)).isSameAs(exception);
+	}
+
+	@Test
+	void cloneStartsOver() {
+		final var retryer = new TokenRefreshRetryer();
+		retryer.continueOrPropagate(createException(401, new IllegalStateException()));
+
+		final var clone = retryer.clone();
+
+		assertThat(clone).isNotSameAs(retryer);
+		assertThatCode(() -> clone.continueOrPropagate(createException(401, new IllegalStateException()))).doesNotThrowAnyException();
+	}
+
+	private static RetryableException createException(final int status, final Throwable cause) {
+		return new RetryableException(status, "message", Request.HttpMethod.GET, cause, (Long) null, REQUEST);
+	}
+}
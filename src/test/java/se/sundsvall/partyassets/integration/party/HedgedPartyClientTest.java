@@ -0,0 +1,61 @@
+package se.sundsvall.partyassets.integration.party;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.partyassets.integration.resilience.RequestHedger;
+
+import static generated.se.sundsvall.party.PartyType.PRIVATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HedgedPartyClientTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Mock
+	private PartyClient partyClientMock;
+
+	@Mock
+	private RequestHedger requestHedgerMock;
+
+	private HedgedPartyClient hedgedPartyClient;
+
+	@BeforeEach
+	void setUp() {
+		hedgedPartyClient = new HedgedPartyClient(partyClientMock, requestHedgerMock);
+	}
+
+	@Test
+	void getLegalId() {
+		final var partyId = "partyId";
+		when(requestHedgerMock.call(eq("getLegalId"), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		when(partyClientMock.getLegalId(MUNICIPALITY_ID, PRIVATE, partyId)).thenReturn(Optional.of("190101011234"));
+
+		assertThat(hedgedPartyClient.getLegalId(MUNICIPALITY_ID, PRIVATE, partyId)).hasValue("190101011234");
+	}
+
+	@Test
+	void getPartyId() {
+		final var legalId = "190101011234";
+		when(requestHedgerMock.call(eq("getPartyId"), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+		when(partyClientMock.getPartyId(MUNICIPALITY_ID, PRIVATE, legalId)).thenReturn(Optional.of("partyId"));
+
+		assertThat(hedgedPartyClient.getPartyId(MUNICIPALITY_ID, PRIVATE, legalId)).hasValue("partyId");
+	}
+
+	@Test
+	void destroy() {
+		hedgedPartyClient.destroy();
+
+		verify(requestHedgerMock).close();
+	}
+}
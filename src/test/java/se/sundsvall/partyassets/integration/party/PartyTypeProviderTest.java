@@ -22,7 +22,7 @@ import static org.mockito.Mockito.when;
 class PartyTypeProviderTest {
 
 	@Mock
-	private PartyClient partyClientMock;
+	private HedgedPartyClient partyClientMock;
 
 	@InjectMocks
 	private PartyTypeProvider partyTypeProvider;
@@ -1,6 +1,11 @@
 package se.sundsvall.partyassets.integration.party.configuration;
 
+import feign.Client;
+import feign.Feign;
+import feign.RequestInterceptor;
+import feign.Retryer;
 import feign.codec.ErrorDecoder;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -11,12 +16,16 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.oauth2.client.registration.ClientRegistration;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+import se.sundsvall.partyassets.integration.http.FeignHttpClientFactory;
+import se.sundsvall.partyassets.integration.http.HttpClientProperties;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static se.sundsvall.partyassets.integration.party.configuration.PartyConfiguration.CLIENT_ID;
@@ -25,10 +34,28 @@ import static se.sundsvall.partyassets.integration.party.configuration.PartyConf
 class PartyConfigurationTest {
 
 	@Mock
-	private ClientRegistrationRepository clientRepositoryMock;
+	private OAuth2TokenCache tokenCacheMock;
 
 	@Mock
-	private ClientRegistration clientRegistrationMock;
+	private ErrorDecoder errorDecoderMock;
+
+	@Mock
+	private RequestInterceptor requestInterceptorMock;
+
+	@Mock
+	private Retryer retryerMock;
+
+	@Mock
+	private FeignHttpClientFactory httpClientFactoryMock;
+
+	@Mock
+	private Client clientMock;
+
+	@Mock
+	private FeignBuilderCustomizer feignBuilderCustomizerMock;
+
+	@Mock
+	private Feign.Builder feignBuilderMock;
 
 	@Mock
 	private PartyProperties propertiesMock;
@@ -47,16 +74,22 @@ class PartyConfigurationTest {
 
 		final var connectTimeout = 123;
 		final var readTimeout = 321;
+		final var httpClientProperties = new HttpClientProperties(10, Duration.ofSeconds(30), false);
 
 		when(propertiesMock.connectTimeout()).thenReturn(connectTimeout);
 		when(propertiesMock.readTimeout()).thenReturn(readTimeout);
-		when(clientRepositoryMock.findByRegistrationId(CLIENT_ID)).thenReturn(clientRegistrationMock);
+		when(tokenCacheMock.errorDecoder(eq(CLIENT_ID), any())).thenReturn(errorDecoderMock);
+		when(tokenCacheMock.requestInterceptor(CLIENT_ID)).thenReturn(requestInterceptorMock);
+		when(tokenCacheMock.retryer()).thenReturn(retryerMock);
+		when(propertiesMock.httpClient()).thenReturn(httpClientProperties);
+		when(httpClientFactoryMock.create(CLIENT_ID, httpClientProperties)).thenReturn(clientMock);
+		when(feignMultiCustomizerSpy.composeCustomizersToOne()).thenReturn(feignBuilderCustomizerMock);
 
 		// Mock static FeignMultiCustomizer to enable spy and to verify that static method is being called
 		try (MockedStatic<FeignMultiCustomizer> feignMultiCustomizerMock = Mockito.mockStatic(FeignMultiCustomizer.class)) {
 			feignMultiCustomizerMock.when(FeignMultiCustomizer::create).thenReturn(feignMultiCustomizerSpy);
 
-			configuration.feignBuilderCustomizer(clientRepositoryMock, propertiesMock);
+			configuration.feignBuilderCustomizer(tokenCacheMock, httpClientFactoryMock, propertiesMock).customize(feignBuilderMock);
 
 			feignMultiCustomizerMock.verify(FeignMultiCustomizer::create);
 		}
@@ -64,11 +97,14 @@ class PartyConfigurationTest {
 		// Verifications
 		verify(propertiesMock).connectTimeout();
 		verify(propertiesMock).readTimeout();
-		verify(clientRepositoryMock).findByRegistrationId(CLIENT_ID);
-		verify(feignMultiCustomizerSpy).withErrorDecoder(errorDecoderCaptor.capture());
+		verify(tokenCacheMock).errorDecoder(eq(CLIENT_ID), errorDecoderCaptor.capture());
+		verify(feignMultiCustomizerSpy).withErrorDecoder(errorDecoderMock);
 		verify(feignMultiCustomizerSpy).withRequestTimeoutsInSeconds(connectTimeout, readTimeout);
-		verify(feignMultiCustomizerSpy).withRetryableOAuth2InterceptorForClientRegistration(clientRegistrationMock);
 		verify(feignMultiCustomizerSpy).composeCustomizersToOne();
+		verify(feignBuilderCustomizerMock).customize(feignBuilderMock);
+		verify(feignBuilderMock).requestInterceptor(requestInterceptorMock);
+		verify(feignBuilderMock).retryer(retryerMock);
+		verify(feignBuilderMock).client(clientMock);
 
 		// Assert ErrorDecoder
 		assertThat(errorDecoderCaptor.getValue())
@@ -1,5 +1,6 @@
 package se.sundsvall.partyassets.integration.party.configuration;
 
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,5 +21,13 @@ class PartyPropertiesTest {
 	void testProperties() {
 		assertThat(properties.connectTimeout()).isEqualTo(10);
 		assertThat(properties.readTimeout()).isEqualTo(20);
+		assertThat(properties.httpClient().maxConnections()).isEqualTo(20);
+		assertThat(properties.httpClient().keepAlive()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(properties.httpClient().http2()).isTrue();
+		assertThat(properties.hedging().enabled()).isTrue();
+		assertThat(properties.hedging().percentile()).isEqualTo(0.99);
+		assertThat(properties.hedging().minDelay()).isEqualTo(Duration.ofMillis(50));
+		assertThat(properties.hedging().maxDelay()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(properties.hedging().budget()).isEqualTo(0.05);
 	}
 }
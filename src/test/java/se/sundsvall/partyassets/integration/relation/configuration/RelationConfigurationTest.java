@@ -1,5 +1,11 @@
 package se.sundsvall.partyassets.integration.relation.configuration;
 
+import feign.Client;
+import feign.Feign;
+import feign.RequestInterceptor;
+import feign.Retryer;
+import feign.codec.ErrorDecoder;
+import java.time.Duration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -9,13 +15,15 @@ import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
-import org.springframework.security.oauth2.client.registration.ClientRegistration;
-import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
 import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+import se.sundsvall.partyassets.integration.http.FeignHttpClientFactory;
+import se.sundsvall.partyassets.integration.http.HttpClientProperties;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -24,10 +32,25 @@ import static se.sundsvall.partyassets.integration.relation.configuration.Relati
 @ExtendWith(MockitoExtension.class)
 class RelationConfigurationTest {
 	@Mock
-	private ClientRegistrationRepository clientRegistrationRepositoryMock;
+	private OAuth2TokenCache tokenCacheMock;
 
 	@Mock
-	private ClientRegistration clientRegistrationMock;
+	private ErrorDecoder errorDecoderMock;
+
+	@Mock
+	private RequestInterceptor requestInterceptorMock;
+
+	@Mock
+	private Retryer retryerMock;
+
+	@Mock
+	private FeignHttpClientFactory httpClientFactoryMock;
+
+	@Mock
+	private Client clientMock;
+
+	@Mock
+	private Feign.Builder feignBuilderMock;
 
 	@Spy
 	private FeignMultiCustomizer feignMultiCustomizerSpy;
@@ -40,9 +63,14 @@ class RelationConfigurationTest {
 
 	@Test
 	void testFeignBuilderCustomizer() {
+		final var httpClientProperties = new HttpClientProperties(10, Duration.ofSeconds(30), false);
 		final var configuration = new RelationConfiguration();
 
-		when(clientRegistrationRepositoryMock.findByRegistrationId(any())).thenReturn(clientRegistrationMock);
+		when(tokenCacheMock.errorDecoder(eq(CLIENT_ID), any())).thenReturn(errorDecoderMock);
+		when(tokenCacheMock.requestInterceptor(CLIENT_ID)).thenReturn(requestInterceptorMock);
+		when(tokenCacheMock.retryer()).thenReturn(retryerMock);
+		when(propertiesMock.httpClient()).thenReturn(httpClientProperties);
+		when(httpClientFactoryMock.create(CLIENT_ID, httpClientProperties)).thenReturn(clientMock);
 		when(propertiesMock.connectTimeout()).thenReturn(1);
 		when(propertiesMock.readTimeout()).thenReturn(2);
 		when(feignMultiCustomizerSpy.composeCustomizersToOne()).thenReturn(feignBuilderCustomizerMock);
@@ -50,20 +78,25 @@ class RelationConfigurationTest {
 		try (final MockedStatic<FeignMultiCustomizer> feignMultiCustomizerMock = Mockito.mockStatic(FeignMultiCustomizer.class)) {
 			feignMultiCustomizerMock.when(FeignMultiCustomizer::create).thenReturn(feignMultiCustomizerSpy);
 
-			final var customizer = configuration.feignBuilderCustomizer(clientRegistrationRepositoryMock, propertiesMock);
+			final var customizer = configuration.feignBuilderCustomizer(tokenCacheMock, httpClientFactoryMock, propertiesMock);
+			customizer.customize(feignBuilderMock);
 
-			final ArgumentCaptor<ProblemErrorDecoder> errorDecoderCaptor = ArgumentCaptor.forClass(ProblemErrorDecoder.class);
+			final ArgumentCaptor<ErrorDecoder> errorDecoderCaptor = ArgumentCaptor.forClass(ErrorDecoder.class);
 
-			verify(feignMultiCustomizerSpy).withErrorDecoder(errorDecoderCaptor.capture());
-			verify(clientRegistrationRepositoryMock).findByRegistrationId(CLIENT_ID);
-			verify(feignMultiCustomizerSpy).withRetryableOAuth2InterceptorForClientRegistration(same(clientRegistrationMock));
+			verify(tokenCacheMock).errorDecoder(eq(CLIENT_ID), errorDecoderCaptor.capture());
+			verify(feignMultiCustomizerSpy).withErrorDecoder(same(errorDecoderMock));
 			verify(propertiesMock).connectTimeout();
 			verify(propertiesMock).readTimeout();
 			verify(feignMultiCustomizerSpy).withRequestTimeoutsInSeconds(1, 2);
 			verify(feignMultiCustomizerSpy).composeCustomizersToOne();
+			verify(feignBuilderCustomizerMock).customize(feignBuilderMock);
+			verify(feignBuilderMock).requestInterceptor(same(requestInterceptorMock));
+			verify(feignBuilderMock).retryer(same(retryerMock));
+			verify(feignBuilderMock).client(same(clientMock));
 
-			assertThat(errorDecoderCaptor.getValue()).hasFieldOrPropertyWithValue("integrationName", CLIENT_ID);
-			assertThat(customizer).isSameAs(feignBuilderCustomizerMock);
+			assertThat(errorDecoderCaptor.getValue())
+				.isInstanceOf(ProblemErrorDecoder.class)
+				.hasFieldOrPropertyWithValue("integrationName", CLIENT_ID);
 		}
 	}
 }
@@ -0,0 +1,83 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final String NAME = "party";
+
+	@Mock
+	private ExecutorService executorMock;
+
+	private final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(50).build());
+	private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+	private AdaptiveConcurrencyLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new AdaptiveConcurrencyLimiter(bulkheadRegistry, circuitBreakerRegistry, new AdaptiveConcurrencyProperties(List.of(NAME), 2, 1.5, 0.2, 100), executorMock);
+	}
+
+	@Test
+	void increasedLatencyLowersBulkheadLimit() {
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(executorMock).execute(any());
+		final var bulkhead = bulkheadRegistry.bulkhead(NAME);
+		final var circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+		for (var i = 0; i < 25; i++) {
+			bulkhead.tryAcquirePermission();
+		}
+
+		circuitBreaker.onSuccess(10, MILLISECONDS);
+		for (var i = 0; i < 3; i++) {
+			circuitBreaker.onSuccess(100, MILLISECONDS);
+		}
+
+		assertThat(bulkhead.getBulkheadConfig().getMaxConcurrentCalls()).isLessThan(50);
+		assertThat(bulkhead.getMetrics().getMaxAllowedConcurrentCalls()).isEqualTo(bulkhead.getBulkheadConfig().getMaxConcurrentCalls());
+		assertThat(bulkhead.getMetrics().getMaxAllowedConcurrentCalls() - bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(25);
+	}
+
+	@Test
+	void steadyLatencyKeepsBulkheadLimit() {
+		final var bulkhead = bulkheadRegistry.bulkhead(NAME);
+		final var circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+		for (var i = 0; i < 25; i++) {
+			bulkhead.tryAcquirePermission();
+		}
+
+		for (var i = 0; i < 10; i++) {
+			circuitBreaker.onSuccess(10, MILLISECONDS);
+		}
+
+		assertThat(bulkhead.getBulkheadConfig().getMaxConcurrentCalls()).isEqualTo(50);
+		verifyNoInteractions(executorMock);
+	}
+
+	@Test
+	void destroy() {
+		limiter.destroy();
+
+		verify(executorMock).shutdownNow();
+	}
+}
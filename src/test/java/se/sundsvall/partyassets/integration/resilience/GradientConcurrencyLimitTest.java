@@ -0,0 +1,75 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimitTest {
+
+	private static final Duration NORMAL_RTT = Duration.ofMillis(10);
+	private static final Duration SLOW_RTT = Duration.ofMillis(100);
+
+	private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(2, 50, 1.5, 0.2, 100);
+
+	@Test
+	void steadyLatencyKeepsMaxLimit() {
+		for (var i = 0; i < 100; i++) {
+			assertThat(limit.update(NORMAL_RTT, 50)).isEqualTo(50);
+		}
+	}
+
+	@Test
+	void increasedLatencyLowersLimit() {
+		warmUp();
+
+		for (var i = 0; i < 20; i++) {
+			limit.update(SLOW_RTT, limit.getLimit());
+		}
+
+		assertThat(limit.getLimit()).isLessThan(20);
+	}
+
+	@Test
+	void recoveredLatencyRaisesLimit() {
+		warmUp();
+		for (var i = 0; i < 20; i++) {
+			limit.update(SLOW_RTT, limit.getLimit());
+		}
+		final var loweredLimit = limit.getLimit();
+
+		for (var i = 0; i < 10; i++) {
+			limit.update(NORMAL_RTT, limit.getLimit());
+		}
+
+		assertThat(limit.getLimit()).isGreaterThan(loweredLimit);
+	}
+
+	@Test
+	void limitNeverGoesBelowMinLimit() {
+		final var boundedLimit = new GradientConcurrencyLimit(20, 50, 1.5, 0.2, 100);
+		for (var i = 0; i < 100; i++) {
+			boundedLimit.update(NORMAL_RTT, 50);
+		}
+
+		for (var i = 0; i < 50; i++) {
+			assertThat(boundedLimit.update(SLOW_RTT, 50)).isGreaterThanOrEqualTo(20);
+		}
+		assertThat(boundedLimit.getLimit()).isEqualTo(20);
+	}
+
+	@Test
+	void fewCallsInFlightKeepsLimit() {
+		warmUp();
+
+		for (var i = 0; i < 20; i++) {
+			assertThat(limit.update(SLOW_RTT, 5)).isEqualTo(50);
+		}
+	}
+
+	private void warmUp() {
+		for (var i = 0; i < 100; i++) {
+			limit.update(NORMAL_RTT, 50);
+		}
+	}
+}
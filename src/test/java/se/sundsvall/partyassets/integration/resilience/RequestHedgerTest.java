@@ -0,0 +1,173 @@
+package se.sundsvall.partyassets.integration.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.springframework.http.HttpStatus.BAD_GATEWAY;
+import static se.sundsvall.partyassets.integration.resilience.RequestHedger.FIRED_METRIC_NAME;
+import static se.sundsvall.partyassets.integration.resilience.RequestHedger.WON_METRIC_NAME;
+
+class RequestHedgerTest {
+
+	private static final String CLIENT = "party";
+	private static final String OPERATION = "getLegalId";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch slowRequestLatch = new CountDownLatch(1);
+	private RequestHedger requestHedger;
+
+	@AfterEach
+	void tearDown() {
+		slowRequestLatch.countDown();
+		requestHedger.close();
+	}
+
+	@Test
+	void callWhenDisabled() {
+		requestHedger = new RequestHedger(CLIENT, new HedgingProperties(false, 0.95, Duration.ofMillis(10), Duration.ofMillis(10), 1), meterRegistry);
+		final var callingThread = Thread.currentThread();
+
+		assertThat(requestHedger.call(OPERATION, () -> Thread.currentThread() == callingThread)).isTrue();
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void callWithFastResponse() {
+		requestHedger = createRequestHedger(1);
+		final var requests = new AtomicInteger();
+
+		assertThat(requestHedger.call(OPERATION, () -> "response-" + requests.incrementAndGet())).isEqualTo("response-1");
+		assertThat(requests).hasValue(1);
+		assertThat(count(FIRED_METRIC_NAME)).isZero();
+	}
+
+	@Test
+	void callWithSlowResponseIsHedged() {
+		requestHedger = createRequestHedger(1);
+
+		assertThat(requestHedger.call(OPERATION, slowFirstRequest())).isEqualTo("response-2");
+		assertThat(count(FIRED_METRIC_NAME)).isOne();
+		assertThat(count(WON_METRIC_NAME)).isOne();
+	}
+
+	@Test
+	void callWithSlowResponseAndNoBudget() {
+		requestHedger = createRequestHedger(0);
+		final var requests = new AtomicInteger();
+
+		assertThat(requestHedger.call(OPERATION, () -> {
+			sleep(100);
+			return "response-" + requests.incrementAndGet();
+		})).isEqualTo("response-1");
+		assertThat(requests).hasValue(1);
+		assertThat(count(FIRED_METRIC_NAME)).isZero();
+	}
+
+	@Test
+	void callWhenHedgedRequestFails() {
+		requestHedger = createRequestHedger(1);
+		final var requests = new AtomicInteger();
+
+		assertThat(requestHedger.call(OPERATION, () -> {
+			if (requests.incrementAndGet() > 1) {
+				throw Problem.valueOf(BAD_GATEWAY, "hedge failed");
+			}
+			sleep(100);
+			return "response-1";
+		})).isEqualTo("response-1");
+		assertThat(count(FIRED_METRIC_NAME)).isOne();
+		assertThat(count(WON_METRIC_NAME)).isZero();
+	}
+
+	@Test
+	void callWhenFirstRequestFailsAfterHedgeIsSent() {
+		requestHedger = createRequestHedger(1);
+		final var requests = new AtomicInteger();
+
+		assertThat(requestHedger.call(OPERATION, () -> {
+			final var request = requests.incrementAndGet();
+			if (request == 1) {
+				sleep(50);
+				throw Problem.valueOf(BAD_GATEWAY, "first failed");
+			}
+			sleep(100);
+			return "response-" + request;
+		})).isEqualTo("response-2");
+		assertThat(count(FIRED_METRIC_NAME)).isOne();
+		assertThat(count(WON_METRIC_NAME)).isOne();
+	}
+
+	@Test
+	void callWhenAllRequestsFail() {
+		requestHedger = createRequestHedger(1);
+
+		assertThatExceptionOfType(ThrowableProblem.class)
+			.isThrownBy(() -> requestHedger.call(OPERATION, () -> {
+				sleep(50);
+				throw Problem.valueOf(BAD_GATEWAY, "failed");
+			}))
+			.withMessage("Bad Gateway: failed");
+	}
+
+	@Test
+	void hedgeDelayFollowsLatencyPercentile() {
+		requestHedger = new RequestHedger(CLIENT, new HedgingProperties(true, 0.95, Duration.ofMillis(1), Duration.ofSeconds(1), 1), meterRegistry);
+
+		assertThat(requestHedger.hedgeDelay(OPERATION)).isEqualTo(Duration.ofSeconds(1));
+
+		for (var i = 0; i < 10; i++) {
+			requestHedger.call(OPERATION, () -> {
+				sleep(30);
+				return "response";
+			});
+		}
+
+		assertThat(requestHedger.hedgeDelay(OPERATION)).isBetween(Duration.ofMillis(20), Duration.ofMillis(500));
+	}
+
+	private RequestHedger createRequestHedger(final double budget) {
+		return new RequestHedger(CLIENT, new HedgingProperties(true, 0.95, Duration.ofMillis(20), Duration.ofMillis(20), budget), meterRegistry);
+	}
+
+	private Supplier<String> slowFirstRequest() {
+		final var requests = new AtomicInteger();
+		return () -> {
+			final var request = requests.incrementAndGet();
+			if (request == 1) {
+				await(slowRequestLatch);
+			}
+			return "response-" + request;
+		};
+	}
+
+	private double count(final String name) {
+		final var counter = meterRegistry.find(name).tag("client", CLIENT).tag("operation", OPERATION).counter();
+		return counter == null ? 0 : counter.count();
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException _) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(final long millis) {
+		try {
+			MILLISECONDS.sleep(millis);
+		} catch (final InterruptedException _) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
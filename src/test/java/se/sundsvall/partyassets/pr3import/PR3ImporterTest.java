@@ -12,9 +12,10 @@ import org.springframework.core.io.Resource;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import se.sundsvall.partyassets.Application;
-import se.sundsvall.partyassets.integration.db.AssetRepository;
-import se.sundsvall.partyassets.integration.db.model.AssetEntity;
-import se.sundsvall.partyassets.integration.party.PartyClient;
+import se.sundsvall.partyassets.api.model.AssetCreateRequest;
+import se.sundsvall.partyassets.integration.db.model.PartyType;
+import se.sundsvall.partyassets.integration.party.HedgedPartyClient;
+import se.sundsvall.partyassets.service.AssetService;
 
 import static generated.se.sundsvall.party.PartyType.PRIVATE;
 import static java.util.Optional.of;
@@ -33,10 +34,10 @@ import static org.springframework.boot.test.context.SpringBootTest.WebEnvironmen
 class PR3ImporterTest {
 
 	@MockitoBean
-	private AssetRepository mockAssetRepository;
+	private AssetService mockAssetService;
 
 	@MockitoBean
-	private PartyClient mockPartyClient;
+	private HedgedPartyClient mockPartyClient;
 
 	@MockitoBean
 	private Row mockRow;
@@ -61,9 +62,8 @@ class PR3ImporterTest {
 
 		verify(mockPartyClient, times(3)).getPartyId(eq("2281"), eq(PRIVATE), any(String.class));
 		verifyNoMoreInteractions(mockPartyClient);
-		verify(mockAssetRepository, times(3)).existsByAssetIdAndMunicipalityId(any(String.class), any(String.class));
-		verify(mockAssetRepository, times(3)).save(any(AssetEntity.class));
-		verifyNoMoreInteractions(mockAssetRepository);
+		verify(mockAssetService, times(3)).importAsset(eq("2281"), any(AssetCreateRequest.class), eq(PartyType.PRIVATE));
+		verifyNoMoreInteractions(mockAssetService);
 	}
 
 	@Test
@@ -0,0 +1,68 @@
+package se.sundsvall.partyassets.scheduler;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.partyassets.scheduler.AssetChangeSequencerWorker.BATCH_SIZE;
+
+@ExtendWith(MockitoExtension.class)
+class AssetChangeSequencerWorkerTest {
+
+	@Mock
+	private AssetChangeRepository assetChangeRepositoryMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<List<AssetChangeEntity>> changesCaptor;
+
+	@InjectMocks
+	private AssetChangeSequencerWorker worker;
+
+	@Test
+	void sequenceChangesNumbersChangesAfterTheHighestNumber() {
+		final var changes = List.of(AssetChangeEntity.create().withId(7L), AssetChangeEntity.create().withId(9L));
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(assetChangeRepositoryMock.findBySequenceNumberIsNullOrderById(Limit.of(BATCH_SIZE))).thenReturn(changes);
+		when(assetChangeRepositoryMock.findMaxSequenceNumber()).thenReturn(41L);
+
+		worker.sequenceChanges();
+
+		verify(transactionTemplateMock).execute(any());
+		verify(assetChangeRepositoryMock).saveAll(changesCaptor.capture());
+		assertThat(changesCaptor.getValue())
+			.extracting(AssetChangeEntity::getId, AssetChangeEntity::getSequenceNumber)
+			.containsExactly(tuple(7L, 42L), tuple(9L, 43L));
+	}
+
+	@Test
+	void sequenceChangesContinuesWhileBatchesAreFull() {
+		final var fullBatch = LongStream.rangeClosed(1, BATCH_SIZE).mapToObj(id -> AssetChangeEntity.create().withId(id)).toList();
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(assetChangeRepositoryMock.findBySequenceNumberIsNullOrderById(Limit.of(BATCH_SIZE))).thenReturn(fullBatch).thenReturn(List.of());
+
+		worker.sequenceChanges();
+
+		verify(transactionTemplateMock, times(2)).execute(any());
+		assertThat(fullBatch).extracting(AssetChangeEntity::getSequenceNumber).doesNotContainNull().isSorted();
+	}
+}
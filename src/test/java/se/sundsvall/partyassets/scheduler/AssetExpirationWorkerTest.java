@@ -1,30 +1,69 @@
 package se.sundsvall.partyassets.scheduler;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
 import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.service.AssetSummaryCache;
+import se.sundsvall.partyassets.service.PartyAssetCache;
 
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static se.sundsvall.partyassets.scheduler.AssetExpirationWorker.CHUNK_SIZE;
 
 @ExtendWith(MockitoExtension.class)
 class AssetExpirationWorkerTest {
 
 	private static final String ASSET_ID = "some-asset-id";
+	private static final String MUNICIPALITY_ID = "2281";
 	private static final LocalDate VALID_TO = LocalDate.of(2026, 1, 1);
 
 	@Mock
 	private AssetRepository assetRepositoryMock;
 
+	@Mock
+	private AssetChangeRepository assetChangeRepositoryMock;
+
+	@Mock
+	private AssetSummaryCache assetSummaryCacheMock;
+
+	@Mock
+	private PartyAssetCache partyAssetCacheMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<List<AssetChangeEntity>> changesCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> updatedCaptor;
+
 	@InjectMocks
 	private AssetExpirationWorker worker;
 
@@ -36,32 +75,69 @@ class AssetExpirationWorkerTest {
 
 		verify(assetRepositoryMock).findByStatusInAndValidToBefore(List.of(Status.ACTIVE, Status.TEMPORARY), LocalDate.now());
 		verifyNoMoreInteractions(assetRepositoryMock);
+		verifyNoInteractions(assetChangeRepositoryMock, assetSummaryCacheMock, partyAssetCacheMock, transactionTemplateMock);
 	}
 
 	@Test
-	void expireAssets_setsStatusAndSavesEachAsset() {
-		final var asset1 = AssetEntity.create().withId("asset-1").withStatus(Status.ACTIVE).withValidTo(VALID_TO);
-		final var asset2 = AssetEntity.create().withId("asset-2").withStatus(Status.ACTIVE).withValidTo(VALID_TO);
+	void expireAssets_updatesStatusAndTimestampInBulk() {
+		final var asset1 = createAsset("asset-1");
+		final var asset2 = createAsset("asset-2");
 		when(assetRepositoryMock.findByStatusInAndValidToBefore(List.of(Status.ACTIVE, Status.TEMPORARY), LocalDate.now())).thenReturn(List.of(asset1, asset2));
+		mockTransactionTemplate();
 
 		worker.expireAssets();
 
-		assertThat(asset1.getStatus()).isEqualTo(Status.EXPIRED);
-		assertThat(asset2.getStatus()).isEqualTo(Status.EXPIRED);
-		verify(assetRepositoryMock).save(asset1);
-		verify(assetRepositoryMock).save(asset2);
+		verify(assetRepositoryMock).updateStatusByIdIn(eq(List.of("asset-1", "asset-2")), eq(Status.EXPIRED), updatedCaptor.capture());
+		assertThat(updatedCaptor.getValue()).isCloseTo(OffsetDateTime.now(), within(2, SECONDS));
+		verify(assetChangeRepositoryMock).saveAll(changesCaptor.capture());
+		assertThat(changesCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getChangeType)
+			.containsExactly(tuple("asset-1", AssetChangeType.EXPIRED), tuple("asset-2", AssetChangeType.EXPIRED));
 	}
 
 	@Test
-	void expire_setsStatusAndSaves() {
-		final var asset = AssetEntity.create()
-			.withId(ASSET_ID)
-			.withStatus(Status.ACTIVE)
-			.withValidTo(VALID_TO);
+	void expireAssets_inChunks() {
+		final var assets = IntStream.range(0, CHUNK_SIZE + 1).mapToObj(index -> createAsset("asset-" + index)).toList();
+		when(assetRepositoryMock.findByStatusInAndValidToBefore(List.of(Status.ACTIVE, Status.TEMPORARY), LocalDate.now())).thenReturn(assets);
+		mockTransactionTemplate();
 
-		worker.expire(asset);
+		worker.expireAssets();
+
+		verify(transactionTemplateMock, times(2)).execute(any());
+		verify(assetRepositoryMock).updateStatusByIdIn(eq(assets.subList(0, CHUNK_SIZE).stream().map(AssetEntity::getId).toList()), eq(Status.EXPIRED), updatedCaptor.capture());
+		verify(assetRepositoryMock).updateStatusByIdIn(eq(List.of("asset-" + CHUNK_SIZE)), eq(Status.EXPIRED), updatedCaptor.capture());
+		assertThat(updatedCaptor.getAllValues().getFirst()).isEqualTo(updatedCaptor.getAllValues().getLast());
+	}
+
+	@Test
+	void expire_updatesStatusAndRecordsChange() {
+		final var asset = createAsset(ASSET_ID);
+		final var updated = OffsetDateTime.now();
+		when(assetRepositoryMock.updateStatusByIdIn(List.of(ASSET_ID), Status.EXPIRED, updated)).thenReturn(1);
+
+		assertThat(worker.expire(List.of(asset), updated)).isOne();
 
-		assertThat(asset.getStatus()).isEqualTo(Status.EXPIRED);
-		verify(assetRepositoryMock).save(asset);
+		verify(assetRepositoryMock).updateStatusByIdIn(List.of(ASSET_ID), Status.EXPIRED, updated);
+		verify(assetChangeRepositoryMock).saveAll(changesCaptor.capture());
+		assertThat(changesCaptor.getValue())
+			.extracting(AssetChangeEntity::getMunicipalityId, AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(tuple(MUNICIPALITY_ID, ASSET_ID, "party-id-" + ASSET_ID, AssetChangeType.EXPIRED, Status.EXPIRED));
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, "asset-id-" + ASSET_ID);
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, "party-id-" + ASSET_ID);
+		verify(assetRepositoryMock, never()).save(any());
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private static AssetEntity createAsset(final String id) {
+		return AssetEntity.create()
+			.withId(id)
+			.withAssetId("asset-id-" + id)
+			.withPartyId("party-id-" + id)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withStatus(Status.ACTIVE)
+			.withValidTo(VALID_TO);
 	}
 }
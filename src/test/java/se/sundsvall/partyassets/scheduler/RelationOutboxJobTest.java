@@ -0,0 +1,26 @@
+package se.sundsvall.partyassets.scheduler;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RelationOutboxJobTest {
+
+	@Mock
+	private RelationOutboxWorker relationOutboxWorkerMock;
+
+	@InjectMocks
+	private RelationOutboxJob job;
+
+	@Test
+	void runDelegatesToWorker() {
+		job.run();
+
+		verify(relationOutboxWorkerMock).publishRelations();
+	}
+}
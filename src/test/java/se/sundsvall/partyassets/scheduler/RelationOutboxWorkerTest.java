@@ -0,0 +1,135 @@
+package se.sundsvall.partyassets.scheduler;
+
+import generated.se.sundsvall.relation.Relation;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import se.sundsvall.partyassets.integration.db.RelationOutboxRepository;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
+import se.sundsvall.partyassets.integration.relation.RelationClient;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelationOutboxWorkerTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int BATCH_SIZE = 2;
+	private static final int MAX_ATTEMPTS = 3;
+
+	@Mock
+	private RelationOutboxRepository relationOutboxRepositoryMock;
+
+	@Mock
+	private RelationClient relationClientMock;
+
+	@Captor
+	private ArgumentCaptor<Relation> relationCaptor;
+
+	private RelationOutboxWorker worker;
+
+	@BeforeEach
+	void setup() {
+		worker = new RelationOutboxWorker(relationOutboxRepositoryMock, relationClientMock,
+			new RelationOutboxProperties(BATCH_SIZE, MAX_ATTEMPTS, Duration.ofSeconds(30), Duration.ofMinutes(2)));
+	}
+
+	@Test
+	void publishRelations_withEmptyOutbox() {
+		when(relationOutboxRepositoryMock.findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(eq(MAX_ATTEMPTS), any(OffsetDateTime.class), eq(Limit.of(BATCH_SIZE))))
+			.thenReturn(List.of());
+
+		worker.publishRelations();
+
+		verify(relationOutboxRepositoryMock).findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(eq(MAX_ATTEMPTS), any(OffsetDateTime.class), eq(Limit.of(BATCH_SIZE)));
+		verifyNoMoreInteractions(relationOutboxRepositoryMock);
+		verifyNoInteractions(relationClientMock);
+	}
+
+	@Test
+	void publishRelations_fetchesBatchesUntilOutboxIsDrained() {
+		final var entry1 = createEntry("asset-1");
+		final var entry2 = createEntry("asset-2");
+		final var entry3 = createEntry("asset-3");
+		when(relationOutboxRepositoryMock.findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(eq(MAX_ATTEMPTS), any(OffsetDateTime.class), eq(Limit.of(BATCH_SIZE))))
+			.thenReturn(List.of(entry1, entry2))
+			.thenReturn(List.of(entry3));
+
+		worker.publishRelations();
+
+		verify(relationOutboxRepositoryMock, times(2)).findByAttemptsLessThanAndNextAttemptLessThanEqualOrderByCreated(eq(MAX_ATTEMPTS), any(OffsetDateTime.class), eq(Limit.of(BATCH_SIZE)));
+		verify(relationClientMock, times(3)).createRelation(eq(MUNICIPALITY_ID), relationCaptor.capture());
+		verify(relationOutboxRepositoryMock).delete(entry1);
+		verify(relationOutboxRepositoryMock).delete(entry2);
+		verify(relationOutboxRepositoryMock).delete(entry3);
+		assertThat(relationCaptor.getAllValues())
+			.extracting(relation -> relation.getTarget().getResourceId())
+			.containsExactly("asset-1", "asset-2", "asset-3");
+		verifyNoMoreInteractions(relationOutboxRepositoryMock, relationClientMock);
+	}
+
+	@Test
+	void publish_success() {
+		final var entry = createEntry("asset-1");
+
+		assertThat(worker.publish(entry)).isTrue();
+
+		verify(relationClientMock).createRelation(eq(MUNICIPALITY_ID), relationCaptor.capture());
+		verify(relationOutboxRepositoryMock).delete(entry);
+		assertThat(relationCaptor.getValue().getType()).isEqualTo("LINK");
+		assertThat(relationCaptor.getValue().getSource().getResourceId()).isEqualTo("source-id");
+		assertThat(relationCaptor.getValue().getTarget().getResourceId()).isEqualTo("asset-1");
+	}
+
+	@Test
+	void publish_failureSchedulesRetry() {
+		final var entry = createEntry("asset-1");
+		when(relationClientMock.createRelation(eq(MUNICIPALITY_ID), any())).thenThrow(new IllegalStateException("Relation service unavailable"));
+
+		assertThat(worker.publish(entry)).isFalse();
+
+		verify(relationOutboxRepositoryMock).save(entry);
+		verify(relationOutboxRepositoryMock, never()).delete(any());
+		assertThat(entry.getAttempts()).isOne();
+		assertThat(entry.getLastError()).isEqualTo("Relation service unavailable");
+		assertThat(entry.getNextAttempt()).isCloseTo(OffsetDateTime.now().plusSeconds(30), within(2, SECONDS));
+	}
+
+	@Test
+	void backoff() {
+		assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+		assertThat(worker.backoff(2)).isEqualTo(Duration.ofSeconds(60));
+		assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(120));
+		assertThat(worker.backoff(4)).isEqualTo(Duration.ofMinutes(2));
+		assertThat(worker.backoff(100)).isEqualTo(Duration.ofMinutes(2));
+	}
+
+	private static RelationOutboxEntity createEntry(final String assetId) {
+		return RelationOutboxEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withAssetId(assetId)
+			.withRelationType("LINK")
+			.withSourceResourceId("source-id")
+			.withSourceType("case")
+			.withSourceService("service")
+			.withSourceNamespace("MY_NAMESPACE");
+	}
+}
@@ -0,0 +1,99 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.partyassets.api.model.AssetChange;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.scheduler.AssetChangeSequencerWorker;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static se.sundsvall.partyassets.service.mapper.AssetChangeMapper.toAssetChangeEntity;
+
+/**
+ * Writes changes in real, concurrent transactions to verify that a reader of the change log never moves its cursor past
+ * a change that is committed after a change with a higher id.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Transactional(propagation = NOT_SUPPORTED)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql"
+})
+class AssetChangeLogCommitOrderTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Autowired
+	private AssetChangeRepository repository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private AssetChangeSequencerWorker sequencer;
+	private AssetChangeService service;
+
+	@BeforeEach
+	void setup() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		sequencer = new AssetChangeSequencerWorker(repository, transactionTemplate);
+		service = new AssetChangeService(repository, new AssetChangeProperties(10, Duration.ZERO, Duration.ofMillis(10)), Runnable::run);
+	}
+
+	@Test
+	void changeCommittedAfterNewerChangeIsNotSkipped() throws Exception {
+		final var slowWritten = new CountDownLatch(1);
+		final var slowMayCommit = new CountDownLatch(1);
+
+		// The slow transaction writes its change first, and so gets the lower id, but commits last
+		final var slow = CompletableFuture.supplyAsync(() -> transactionTemplate.execute(_ -> {
+			final var change = repository.saveAndFlush(toAssetChangeEntity(MUNICIPALITY_ID, "slow", "party", AssetChangeType.UPDATED, Status.ACTIVE));
+			slowWritten.countDown();
+			await(slowMayCommit);
+			return change;
+		}));
+		assertThat(slowWritten.await(10, SECONDS)).isTrue();
+
+		final var fast = transactionTemplate.execute(_ -> repository.saveAndFlush(toAssetChangeEntity(MUNICIPALITY_ID, "fast", "party", AssetChangeType.UPDATED, Status.ACTIVE)));
+		sequencer.sequenceChanges();
+
+		final var first = service.findChanges(MUNICIPALITY_ID, 0L);
+		assertThat(first.getChanges()).extracting(AssetChange::getId).containsExactly("fast");
+
+		slowMayCommit.countDown();
+		final var slowChange = slow.get(10, SECONDS);
+		sequencer.sequenceChanges();
+
+		final var second = service.findChanges(MUNICIPALITY_ID, first.getCursor());
+		assertThat(second.getChanges()).extracting(AssetChange::getId).containsExactly("slow");
+		assertThat(slowChange.getId()).isLessThan(fast.getId());
+		assertThat(repository.findBySequenceNumberIsNullOrderById(Limit.of(10))).isEmpty();
+	}
+
+	private static void await(final CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, SECONDS)).isTrue();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import se.sundsvall.partyassets.api.model.AssetChange;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AssetChangeServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int PAGE_SIZE = 10;
+	private static final Executor EXECUTOR = Runnable::run;
+
+	@Mock
+	private AssetChangeRepository repositoryMock;
+
+	private AssetChangeService service;
+
+	@BeforeEach
+	void setup() {
+		service = new AssetChangeService(repositoryMock, new AssetChangeProperties(PAGE_SIZE, Duration.ofSeconds(1), Duration.ofMillis(10)), EXECUTOR);
+	}
+
+	@Test
+	void getChanges() throws Exception {
+		when(repositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE)))
+			.thenReturn(List.of(createEntity(5L), createEntity(6L)));
+
+		final var result = service.getChanges(MUNICIPALITY_ID, 4L, Duration.ZERO).get(1, TimeUnit.SECONDS);
+
+		assertThat(result.getChanges()).extracting(AssetChange::getCursor).containsExactly(5L, 6L);
+		assertThat(result.getCursor()).isEqualTo(6L);
+		verify(repositoryMock).findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE));
+		verifyNoMoreInteractions(repositoryMock);
+	}
+
+	@Test
+	void getChangesWithoutWaitReturnsEmptyResult() throws Exception {
+		when(repositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE))).thenReturn(List.of());
+
+		final var result = service.getChanges(MUNICIPALITY_ID, 4L, Duration.ZERO).get(1, TimeUnit.SECONDS);
+
+		assertThat(result.getChanges()).isEmpty();
+		assertThat(result.getCursor()).isEqualTo(4L);
+		verify(repositoryMock).findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE));
+		verifyNoMoreInteractions(repositoryMock);
+	}
+
+	@Test
+	void getChangesWaitsForChanges() throws Exception {
+		when(repositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE)))
+			.thenReturn(List.of())
+			.thenReturn(List.of())
+			.thenReturn(List.of(createEntity(5L)));
+
+		final var result = service.getChanges(MUNICIPALITY_ID, 4L, Duration.ofSeconds(1)).get(2, TimeUnit.SECONDS);
+
+		assertThat(result.getChanges()).extracting(AssetChange::getCursor).containsExactly(5L);
+		verify(repositoryMock, atLeast(3)).findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE));
+	}
+
+	@Test
+	void getChangesWaitIsCappedByMaxWait() throws Exception {
+		when(repositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, Limit.of(PAGE_SIZE))).thenReturn(List.of());
+
+		final var start = System.nanoTime();
+		final var result = service.getChanges(MUNICIPALITY_ID, 4L, Duration.ofMinutes(10)).get(5, TimeUnit.SECONDS);
+
+		assertThat(result.getChanges()).isEmpty();
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+	}
+
+	private static AssetChangeEntity createEntity(final long sequenceNumber) {
+		return AssetChangeEntity.create()
+			.withId(sequenceNumber + 100)
+			.withSequenceNumber(sequenceNumber)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withAssetId("assetId-" + id)
+			.withChangeType(AssetChangeType.UPDATED)
+			.withStatus(Status.ACTIVE)
+			.withCreated(OffsetDateTime.now());
+	}
+}
@@ -1,9 +1,14 @@
 package se.sundsvall.partyassets.service;
 
-import generated.se.sundsvall.relation.Relation;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -11,36 +16,64 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.partyassets.api.model.Asset;
+import se.sundsvall.partyassets.api.model.AssetBulkDeleteRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkStatusUpdateRequest;
+import se.sundsvall.partyassets.api.model.AssetBulkUpdateResult;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.AssetLookupRequest;
 import se.sundsvall.partyassets.api.model.AssetSearchRequest;
+import se.sundsvall.partyassets.api.model.AssetSummary;
+import se.sundsvall.partyassets.api.model.BulkOutcome;
+import se.sundsvall.partyassets.api.model.PartyAssets;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
 import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.RelationOutboxRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
 import se.sundsvall.partyassets.integration.db.model.AssetEntity;
+import se.sundsvall.partyassets.integration.db.model.AssetStatusProjection;
+import se.sundsvall.partyassets.integration.db.model.AssetSummaryProjection;
 import se.sundsvall.partyassets.integration.db.model.PartyType;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
 import se.sundsvall.partyassets.integration.db.specification.AssetSpecification;
 import se.sundsvall.partyassets.integration.party.PartyTypeProvider;
-import se.sundsvall.partyassets.integration.relation.RelationClient;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.groups.Tuple.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static se.sundsvall.partyassets.TestFactory.getAssetCreateRequest;
 import static se.sundsvall.partyassets.TestFactory.getAssetEntity;
 import static se.sundsvall.partyassets.TestFactory.getAssetUpdateRequest;
 import static se.sundsvall.partyassets.api.model.Status.ACTIVE;
+import static se.sundsvall.partyassets.api.model.Status.BLOCKED;
 import static se.sundsvall.partyassets.api.model.Status.DRAFT;
 import static se.sundsvall.partyassets.api.model.Status.REPLACED;
+import static se.sundsvall.partyassets.service.AssetService.BULK_CHUNK_SIZE;
+import static se.sundsvall.partyassets.service.AssetService.BULK_FILTER_LIMIT;
 
 @ExtendWith(MockitoExtension.class)
 class AssetServiceTest {
 
 	private static final String MUNICIPALITY_ID = "2281";
+	private static final Sort SORT = Sort.by("validTo");
 
 	@Mock
 	private AssetRepository repositoryMock;
@@ -54,6 +87,12 @@ class AssetServiceTest {
 	@Mock
 	private Specification<AssetEntity> combinedSpecificationMock;
 
+	@Mock
+	private Specification<AssetEntity> idAfterSpecificationMock;
+
+	@Mock
+	private Specification<AssetEntity> keysetSpecificationMock;
+
 	@Captor
 	private ArgumentCaptor<AssetSearchRequest> searchRequestCaptor;
 
@@ -64,10 +103,34 @@ class AssetServiceTest {
 	private ArgumentCaptor<AssetEntity> entityCaptor;
 
 	@Mock
-	private RelationClient relationClientMock;
+	private RelationOutboxRepository relationOutboxRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<RelationOutboxEntity> relationOutboxCaptor;
+
+	@Mock
+	private AssetChangeRepository assetChangeRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<AssetChangeEntity> changeCaptor;
 
 	@Captor
-	private ArgumentCaptor<Relation> relationCaptor;
+	private ArgumentCaptor<List<AssetChangeEntity>> changesCaptor;
+
+	@Mock
+	private AssetSummaryCache assetSummaryCacheMock;
+
+	@Mock
+	private PartyAssetCache partyAssetCacheMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
+
+	@Captor
+	private ArgumentCaptor<TransactionDefinition> transactionDefinitionCaptor;
 
 	@InjectMocks
 	private AssetService service;
@@ -83,7 +146,8 @@ class AssetServiceTest {
 			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request)).thenReturn(specificationMock);
 			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
 			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
-			when(repositoryMock.findAll(combinedSpecificationMock)).thenReturn(List.of(entity));
+			when(AssetSpecification.createAssetSort(request)).thenReturn(SORT);
+			when(repositoryMock.findAll(combinedSpecificationMock, SORT)).thenReturn(List.of(entity));
 
 			final var result = service.getAssets(MUNICIPALITY_ID, request);
 
@@ -91,7 +155,57 @@ class AssetServiceTest {
 			assertThat(result.getFirst()).usingRecursiveComparison().ignoringFields("jsonParameters").isEqualTo(entity);
 		}
 
-		verify(repositoryMock).findAll(combinedSpecificationMock);
+		verify(repositoryMock).findAll(combinedSpecificationMock, SORT);
+		verify(transactionManagerMock).getTransaction(transactionDefinitionCaptor.capture());
+		assertThat(transactionDefinitionCaptor.getValue().isReadOnly()).isTrue();
+		verifyNoInteractions(transactionTemplateMock);
+	}
+
+	@Test
+	void getAssetsForPartyUsesCache() {
+		final var partyId = UUID.randomUUID().toString();
+		final var active = getAssetEntity(UUID.randomUUID().toString(), partyId).withStatus(ACTIVE);
+		final var blocked = getAssetEntity(UUID.randomUUID().toString(), partyId).withStatus(BLOCKED);
+		final var request = AssetSearchRequest.create().withPartyId(partyId).withStatus(ACTIVE);
+		final var partyRequest = AssetSearchRequest.create().withPartyId(partyId);
+
+		when(partyAssetCacheMock.get(eq(MUNICIPALITY_ID), eq(partyId), any())).thenAnswer(invocation -> invocation.<Supplier<List<Asset>>>getArgument(2).get());
+		mockTransactionTemplate();
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, partyRequest)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(AssetSpecification.createAssetSort(partyRequest)).thenReturn(SORT);
+			when(repositoryMock.findAll(combinedSpecificationMock, SORT)).thenReturn(List.of(active, blocked));
+
+			final var result = service.getAssets(MUNICIPALITY_ID, request);
+
+			assertThat(result).extracting(Asset::getId).containsExactly(active.getId());
+		}
+
+		verify(partyAssetCacheMock).get(eq(MUNICIPALITY_ID), eq(partyId), any());
+		verify(repositoryMock).findAll(combinedSpecificationMock, SORT);
+		// Loaded in a read-write transaction, so that the entry is read from the primary
+		verify(transactionTemplateMock).execute(any());
+		verifyNoInteractions(transactionManagerMock);
+	}
+
+	@Test
+	void getAssetsForPartyWithOtherCriteriaBypassesCache() {
+		final var request = AssetSearchRequest.create().withPartyId(UUID.randomUUID().toString()).withType("PERMIT");
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(AssetSpecification.createAssetSort(request)).thenReturn(SORT);
+			when(repositoryMock.findAll(combinedSpecificationMock, SORT)).thenReturn(List.of());
+
+			assertThat(service.getAssets(MUNICIPALITY_ID, request)).isEmpty();
+		}
+
+		verifyNoInteractions(partyAssetCacheMock);
 	}
 
 	@Test
@@ -99,11 +213,12 @@ class AssetServiceTest {
 		final var id = UUID.randomUUID().toString();
 		final var partyId = UUID.randomUUID().toString();
 		final var entity = getAssetEntity(id, partyId);
-		final var request = new AssetSearchRequest();
+		final var request = new AssetSearchRequest().withStatuses(List.of(ACTIVE));
 
 		try (final var assetSpecificationStaticMock = mockStatic(AssetSpecification.class)) {
 			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, request)).thenReturn(specificationMock);
-			when(repositoryMock.findAll(specificationMock)).thenReturn(List.of(entity));
+			when(AssetSpecification.createAssetSort(request)).thenReturn(SORT);
+			when(repositoryMock.findAll(specificationMock, SORT)).thenReturn(List.of(entity));
 
 			final var result = service.getDraftAssets(MUNICIPALITY_ID, request);
 
@@ -114,9 +229,81 @@ class AssetServiceTest {
 
 			var searchRequest = searchRequestCaptor.getValue();
 			assertThat(searchRequest.getStatus()).isEqualTo(DRAFT);
+			assertThat(searchRequest.getStatuses()).isNull();
 		}
 
-		verify(repositoryMock).findAll(specificationMock);
+		verify(repositoryMock).findAll(specificationMock, SORT);
+	}
+
+	@Test
+	void getAssetsForParties() {
+		final var partyId1 = UUID.randomUUID().toString();
+		final var partyId2 = UUID.randomUUID().toString();
+		final var partyId3 = UUID.randomUUID().toString();
+		final var entity1 = getAssetEntity(UUID.randomUUID().toString(), partyId1);
+		final var entity2 = getAssetEntity(UUID.randomUUID().toString(), partyId1);
+		final var entity3 = getAssetEntity(UUID.randomUUID().toString(), partyId3);
+		final var request = AssetLookupRequest.create().withPartyIds(List.of(partyId3, partyId1, partyId2, partyId1));
+
+		when(repositoryMock.findByMunicipalityIdAndPartyIdInAndStatusNot(eq(MUNICIPALITY_ID), any(), eq(DRAFT))).thenReturn(List.of(entity1, entity3, entity2));
+
+		final var result = service.getAssetsForParties(MUNICIPALITY_ID, request);
+
+		assertThat(result).extracting(PartyAssets::getPartyId).containsExactly(partyId3, partyId1, partyId2);
+		assertThat(result.get(0).getAssets()).extracting(Asset::getId).containsExactly(entity3.getId());
+		assertThat(result.get(1).getAssets()).extracting(Asset::getId).containsExactly(entity1.getId(), entity2.getId());
+		assertThat(result.get(2).getAssets()).isEmpty();
+
+		verify(repositoryMock).findByMunicipalityIdAndPartyIdInAndStatusNot(MUNICIPALITY_ID, Set.of(partyId1, partyId2, partyId3), DRAFT);
+		verifyNoMoreInteractions(repositoryMock);
+	}
+
+	@Test
+	void getAssetsForPartiesWithAssetIds() {
+		final var partyId = UUID.randomUUID().toString();
+		final var entity = getAssetEntity(UUID.randomUUID().toString(), partyId);
+		final var request = AssetLookupRequest.create().withPartyIds(List.of(partyId)).withAssetIds(List.of(entity.getAssetId()));
+
+		when(repositoryMock.findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot(MUNICIPALITY_ID, Set.of(partyId), Set.of(entity.getAssetId()), DRAFT)).thenReturn(List.of(entity));
+
+		final var result = service.getAssetsForParties(MUNICIPALITY_ID, request);
+
+		assertThat(result).hasSize(1);
+		assertThat(result.getFirst().getPartyId()).isEqualTo(partyId);
+		assertThat(result.getFirst().getAssets()).extracting(Asset::getId).containsExactly(entity.getId());
+		verify(repositoryMock).findByMunicipalityIdAndPartyIdInAndAssetIdInAndStatusNot(MUNICIPALITY_ID, Set.of(partyId), Set.of(entity.getAssetId()), DRAFT);
+		verifyNoMoreInteractions(repositoryMock);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void getAssetSummary() {
+		final var assetId = "PRH-123456789";
+		final var projection = new TestSummaryProjection(UUID.randomUUID().toString(), assetId, "PERMIT", ACTIVE, null, LocalDate.of(2024, 1, 1), LocalDate.of(2030, 1, 1));
+
+		when(assetSummaryCacheMock.get(eq(MUNICIPALITY_ID), eq(assetId), any())).thenAnswer(invocation -> invocation.<Supplier<Optional<AssetSummary>>>getArgument(2).get());
+		when(repositoryMock.findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(MUNICIPALITY_ID, assetId, DRAFT)).thenReturn(Optional.of(projection));
+		mockTransactionTemplate();
+
+		final var result = service.getAssetSummary(MUNICIPALITY_ID, assetId);
+
+		assertThat(result).usingRecursiveComparison().isEqualTo(projection);
+		verify(assetSummaryCacheMock).get(eq(MUNICIPALITY_ID), eq(assetId), any(Supplier.class));
+		verify(repositoryMock).findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(MUNICIPALITY_ID, assetId, DRAFT);
+		verify(transactionTemplateMock).execute(any());
+		verifyNoMoreInteractions(repositoryMock, assetSummaryCacheMock);
+	}
+
+	@Test
+	void getAssetSummaryNotFound() {
+		final var assetId = "PRH-123456789";
+
+		when(assetSummaryCacheMock.get(eq(MUNICIPALITY_ID), eq(assetId), any())).thenReturn(Optional.empty());
+
+		assertThatExceptionOfType(ThrowableProblem.class)
+			.isThrownBy(() -> service.getAssetSummary(MUNICIPALITY_ID, assetId))
+			.withMessage("Asset not found: Asset with assetId " + assetId + " not found for municipalityId " + MUNICIPALITY_ID);
+		verifyNoInteractions(repositoryMock);
 	}
 
 	@Test
@@ -156,6 +343,7 @@ class AssetServiceTest {
 		final var assetCreateRequest = getAssetCreateRequest(partyId);
 
 		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.PRIVATE);
+		mockTransactionTemplate();
 		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
 
 		final var result = service.createAsset(MUNICIPALITY_ID, assetCreateRequest, null);
@@ -164,9 +352,16 @@ class AssetServiceTest {
 		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
 		verify(repositoryMock).save(entityCaptor.capture());
 
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+
 		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.PRIVATE);
 		assertThat(result).isNotNull().isEqualTo(String.valueOf(id));
-		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationClientMock);
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getMunicipalityId, AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(MUNICIPALITY_ID, id, partyId, AssetChangeType.CREATED, assetCreateRequest.getStatus());
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, assetCreateRequest.getAssetId());
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, partyId);
+		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationOutboxRepositoryMock, assetChangeRepositoryMock);
 	}
 
 	@Test
@@ -178,6 +373,7 @@ class AssetServiceTest {
 		final var sourceReference = "LINK|1234;case;service;MY_NAMESPACE|";
 
 		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.PRIVATE);
+		mockTransactionTemplate();
 		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
 
 		final var result = service.createAsset(MUNICIPALITY_ID, assetCreateRequest, sourceReference);
@@ -185,64 +381,53 @@ class AssetServiceTest {
 		verify(partyTypeProviderMock).calculatePartyType(MUNICIPALITY_ID, partyId);
 		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
 		verify(repositoryMock).save(entityCaptor.capture());
-		verify(relationClientMock).createRelation(eq(MUNICIPALITY_ID), relationCaptor.capture());
+		verify(relationOutboxRepositoryMock).save(relationOutboxCaptor.capture());
 
 		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.PRIVATE);
 		assertThat(result).isNotNull().isEqualTo(String.valueOf(id));
-		assertThat(relationCaptor.getValue()).isNotNull();
-		assertThat(relationCaptor.getValue().getType()).isEqualTo("LINK");
-		assertThat(relationCaptor.getValue().getSource().getResourceId()).isEqualTo("1234");
-		assertThat(relationCaptor.getValue().getSource().getType()).isEqualTo("case");
-		assertThat(relationCaptor.getValue().getSource().getService()).isEqualTo("service");
-		assertThat(relationCaptor.getValue().getSource().getNamespace()).isEqualTo("MY_NAMESPACE");
-		assertThat(relationCaptor.getValue().getTarget().getResourceId()).isEqualTo(String.valueOf(id));
-		assertThat(relationCaptor.getValue().getTarget().getType()).isEqualTo("asset");
-		assertThat(relationCaptor.getValue().getTarget().getService()).isEqualTo("partyassets");
-		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationClientMock);
+		assertThat(relationOutboxCaptor.getValue()).isNotNull();
+		assertThat(relationOutboxCaptor.getValue().getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(relationOutboxCaptor.getValue().getRelationType()).isEqualTo("LINK");
+		assertThat(relationOutboxCaptor.getValue().getSourceResourceId()).isEqualTo("1234");
+		assertThat(relationOutboxCaptor.getValue().getSourceType()).isEqualTo("case");
+		assertThat(relationOutboxCaptor.getValue().getSourceService()).isEqualTo("service");
+		assertThat(relationOutboxCaptor.getValue().getSourceNamespace()).isEqualTo("MY_NAMESPACE");
+		assertThat(relationOutboxCaptor.getValue().getAssetId()).isEqualTo(String.valueOf(id));
+		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationOutboxRepositoryMock);
 	}
 
 	@Test
 	void createAssetWithSourceReferenceInInvalidFormat() {
-		final var id = UUID.randomUUID().toString();
 		final var partyId = UUID.randomUUID().toString();
-		final var entity = getAssetEntity(id, partyId);
 		final var assetCreateRequest = getAssetCreateRequest(partyId);
 		final var sourceReference = "||1234;invalid-format;service;MY_NAMESPACE";
 
-		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.PRIVATE);
-		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
-
 		assertThatExceptionOfType(ThrowableProblem.class)
 			.isThrownBy(() -> service.createAsset(MUNICIPALITY_ID, assetCreateRequest, sourceReference))
 			.withMessage("Invalid source reference: Provided source reference '||1234;invalid-format;service;MY_NAMESPACE' is invalid. Expected format: '{relationType}|{sourceResourceId};{sourceType};{sourceService};{sourceNamespace}|'");
 
-		verify(partyTypeProviderMock).calculatePartyType(MUNICIPALITY_ID, partyId);
 		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
-		verify(repositoryMock).save(entityCaptor.capture());
-		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.PRIVATE);
-		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationClientMock);
+		verify(partyTypeProviderMock, never()).calculatePartyType(any(), any());
+		verify(transactionTemplateMock, never()).execute(any());
+		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationOutboxRepositoryMock);
+		verifyNoInteractions(assetChangeRepositoryMock);
 	}
 
 	@Test
 	void createAssetWithSourceReferenceMissingType() {
-		final var id = UUID.randomUUID().toString();
 		final var partyId = UUID.randomUUID().toString();
-		final var entity = getAssetEntity(id, partyId);
 		final var assetCreateRequest = getAssetCreateRequest(partyId);
 		final var sourceReference = "|1234;case;service;MY_NAMESPACE|";
 
-		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.PRIVATE);
-		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
-
 		assertThatExceptionOfType(ThrowableProblem.class)
 			.isThrownBy(() -> service.createAsset(MUNICIPALITY_ID, assetCreateRequest, sourceReference))
 			.withMessage("Invalid source reference: Provided source reference '|1234;case;service;MY_NAMESPACE|' is invalid. Expected format: '{relationType}|{sourceResourceId};{sourceType};{sourceService};{sourceNamespace}|'");
 
-		verify(partyTypeProviderMock).calculatePartyType(MUNICIPALITY_ID, partyId);
 		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
-		verify(repositoryMock).save(entityCaptor.capture());
-		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.PRIVATE);
-		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationClientMock);
+		verify(partyTypeProviderMock, never()).calculatePartyType(any(), any());
+		verify(transactionTemplateMock, never()).execute(any());
+		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationOutboxRepositoryMock);
+		verifyNoInteractions(assetChangeRepositoryMock);
 	}
 
 	@Test
@@ -253,6 +438,7 @@ class AssetServiceTest {
 		final var assetCreateRequest = getAssetCreateRequest(partyId);
 
 		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.ENTERPRISE);
+		mockTransactionTemplate();
 		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
 
 		final var result = service.createAsset(MUNICIPALITY_ID, assetCreateRequest, null);
@@ -263,7 +449,7 @@ class AssetServiceTest {
 
 		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.ENTERPRISE);
 		assertThat(result).isNotNull().isEqualTo(String.valueOf(id));
-		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationClientMock);
+		verifyNoMoreInteractions(repositoryMock, partyTypeProviderMock, specificationMock, specificationExcludingDraftAsssetsMock, relationOutboxRepositoryMock);
 	}
 
 	@Test
@@ -280,7 +466,7 @@ class AssetServiceTest {
 		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
 		verify(partyTypeProviderMock, never()).calculatePartyType(any(), any());
 		verify(repositoryMock, never()).save(any(AssetEntity.class));
-		verify(relationClientMock, never()).createRelation(any(), any());
+		verify(relationOutboxRepositoryMock, never()).save(any());
 	}
 
 	@Test
@@ -291,6 +477,7 @@ class AssetServiceTest {
 		final var assetCreateRequest = getAssetCreateRequest(partyId).withAssetId(null);
 
 		when(partyTypeProviderMock.calculatePartyType(MUNICIPALITY_ID, partyId)).thenReturn(PartyType.PRIVATE);
+		mockTransactionTemplate();
 		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
 
 		final var result = service.createAsset(MUNICIPALITY_ID, assetCreateRequest, null);
@@ -298,20 +485,67 @@ class AssetServiceTest {
 		verify(partyTypeProviderMock).calculatePartyType(MUNICIPALITY_ID, partyId);
 		verify(repositoryMock, never()).existsByAssetIdAndMunicipalityId(any(), any());
 		verify(repositoryMock).save(any(AssetEntity.class));
-		verify(relationClientMock, never()).createRelation(any(), any());
+		verify(relationOutboxRepositoryMock, never()).save(any());
 
 		assertThat(result).isNotNull().isEqualTo(String.valueOf(id));
 	}
 
+	@Test
+	void importAsset() {
+		final var id = UUID.randomUUID().toString();
+		final var partyId = UUID.randomUUID().toString();
+		final var entity = getAssetEntity(id, partyId);
+		final var assetCreateRequest = getAssetCreateRequest(partyId);
+
+		mockTransactionTemplate();
+		when(repositoryMock.save(any(AssetEntity.class))).thenReturn(entity);
+
+		final var result = service.importAsset(MUNICIPALITY_ID, assetCreateRequest, PartyType.PRIVATE);
+
+		assertThat(result).isEqualTo(id);
+		verify(repositoryMock).existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID);
+		verify(repositoryMock).save(entityCaptor.capture());
+		assertThat(entityCaptor.getValue().getPartyType()).isEqualTo(PartyType.PRIVATE);
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getMunicipalityId, AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(MUNICIPALITY_ID, id, partyId, AssetChangeType.CREATED, assetCreateRequest.getStatus());
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, assetCreateRequest.getAssetId());
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, partyId);
+		verifyNoMoreInteractions(repositoryMock, assetChangeRepositoryMock);
+		verifyNoInteractions(partyTypeProviderMock, relationOutboxRepositoryMock);
+	}
+
+	@Test
+	void importAssetWithExistingAssetId() {
+		final var assetCreateRequest = getAssetCreateRequest(UUID.randomUUID().toString());
+
+		when(repositoryMock.existsByAssetIdAndMunicipalityId(assetCreateRequest.getAssetId(), MUNICIPALITY_ID)).thenReturn(true);
+
+		assertThatExceptionOfType(ThrowableProblem.class)
+			.isThrownBy(() -> service.importAsset(MUNICIPALITY_ID, assetCreateRequest, PartyType.PRIVATE))
+			.withMessage("Asset already exists: Asset with assetId assetId already exists");
+
+		verify(repositoryMock, never()).save(any(AssetEntity.class));
+		verifyNoInteractions(assetChangeRepositoryMock, transactionTemplateMock);
+	}
+
 	@Test
 	void deleteAsset() {
 		final var uuid = UUID.randomUUID().toString();
+		final var entity = getAssetEntity(uuid, UUID.randomUUID().toString());
 
-		when(repositoryMock.existsByIdAndMunicipalityId(uuid, MUNICIPALITY_ID)).thenReturn(true);
+		when(repositoryMock.findByIdAndMunicipalityId(uuid, MUNICIPALITY_ID)).thenReturn(Optional.of(entity));
 
 		service.deleteAsset(MUNICIPALITY_ID, uuid);
-		verify(repositoryMock).existsByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
+		verify(repositoryMock).findByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
 		verify(repositoryMock).deleteByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(uuid, entity.getPartyId(), AssetChangeType.DELETED, null);
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, entity.getAssetId());
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, entity.getPartyId());
 	}
 
 	@Test
@@ -321,8 +555,101 @@ class AssetServiceTest {
 		assertThatExceptionOfType(ThrowableProblem.class)
 			.isThrownBy(() -> service.deleteAsset(MUNICIPALITY_ID, uuid))
 			.withMessage("Asset not found: Asset with id " + uuid + " not found for municipalityId " + MUNICIPALITY_ID);
-		verify(repositoryMock).existsByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
+		verify(repositoryMock).findByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
 		verify(repositoryMock, never()).deleteByIdAndMunicipalityId(uuid, MUNICIPALITY_ID);
+		verifyNoInteractions(assetChangeRepositoryMock, assetSummaryCacheMock, partyAssetCacheMock);
+	}
+
+	@Test
+	void deleteAssetsByIds() {
+		final var existingId = UUID.randomUUID().toString();
+		final var missingId = UUID.randomUUID().toString();
+		final var request = AssetBulkDeleteRequest.create().withIds(List.of(existingId, missingId));
+
+		mockTransactionTemplate();
+		when(repositoryMock.findByMunicipalityIdAndIdIn(MUNICIPALITY_ID, request.getIds())).thenReturn(List.of(new TestStatusProjection(existingId, ACTIVE, null)));
+		when(repositoryMock.deleteByMunicipalityIdAndIdIn(MUNICIPALITY_ID, List.of(existingId))).thenReturn(1);
+
+		final var result = service.deleteAssets(MUNICIPALITY_ID, request);
+
+		assertThat(result.getDeleted()).isOne();
+		assertThat(result.getNotFoundIds()).containsExactly(missingId);
+
+		final var inOrder = inOrder(repositoryMock);
+		inOrder.verify(repositoryMock).findByMunicipalityIdAndIdIn(MUNICIPALITY_ID, request.getIds());
+		inOrder.verify(repositoryMock).deleteJsonParametersByAssetIdIn(List.of(existingId));
+		inOrder.verify(repositoryMock).deleteByMunicipalityIdAndIdIn(MUNICIPALITY_ID, List.of(existingId));
+		verifyNoMoreInteractions(repositoryMock);
+		verify(assetChangeRepositoryMock).saveAll(changesCaptor.capture());
+		assertThat(changesCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType)
+			.containsExactly(tuple(existingId, "party-" + existingId, AssetChangeType.DELETED));
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, "asset-" + existingId);
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, "party-" + existingId);
+		verifyNoMoreInteractions(assetSummaryCacheMock, partyAssetCacheMock);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deleteAssetsByFilterInChunks() {
+		final var filter = AssetSearchRequest.create().withOrigin("PR3");
+		final var request = AssetBulkDeleteRequest.create().withFilter(filter);
+		final var ids = IntStream.range(0, BULK_CHUNK_SIZE + 1).mapToObj(_ -> UUID.randomUUID().toString()).toList();
+		final var firstChunk = ids.subList(0, BULK_CHUNK_SIZE);
+		final var secondChunk = ids.subList(BULK_CHUNK_SIZE, ids.size());
+
+		mockTransactionTemplate();
+		when(repositoryMock.deleteByMunicipalityIdAndIdIn(MUNICIPALITY_ID, firstChunk)).thenReturn(firstChunk.size());
+		when(repositoryMock.deleteByMunicipalityIdAndIdIn(MUNICIPALITY_ID, secondChunk)).thenReturn(secondChunk.size());
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, filter)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(AssetSpecification.createAssetSpecificationIdAfter(firstChunk.getLast())).thenReturn(idAfterSpecificationMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(combinedSpecificationMock.and(idAfterSpecificationMock)).thenReturn(keysetSpecificationMock);
+			when(repositoryMock.findBy(eq(combinedSpecificationMock), any(Function.class))).thenReturn(firstChunk.stream()
+				.<AssetStatusProjection>map(id -> new TestStatusProjection(id, ACTIVE, null))
+				.toList());
+			when(repositoryMock.findBy(eq(keysetSpecificationMock), any(Function.class))).thenReturn(secondChunk.stream()
+				.<AssetStatusProjection>map(id -> new TestStatusProjection(id, ACTIVE, null))
+				.toList());
+
+			final var result = service.deleteAssets(MUNICIPALITY_ID, request);
+
+			assertThat(result.getDeleted()).isEqualTo(ids.size());
+			assertThat(result.getNotFoundIds()).isEmpty();
+		}
+
+		verify(transactionTemplateMock, times(2)).execute(any());
+		verify(repositoryMock).findBy(eq(combinedSpecificationMock), any(Function.class));
+		verify(repositoryMock).findBy(eq(keysetSpecificationMock), any(Function.class));
+		verify(repositoryMock).deleteJsonParametersByAssetIdIn(firstChunk);
+		verify(repositoryMock).deleteJsonParametersByAssetIdIn(secondChunk);
+		verify(assetSummaryCacheMock, times(ids.size())).evict(eq(MUNICIPALITY_ID), any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deleteAssetsByFilterWhenNothingMatches() {
+		final var filter = AssetSearchRequest.create().withOrigin("PR3");
+		final var request = AssetBulkDeleteRequest.create().withFilter(filter);
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, filter)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(repositoryMock.findBy(eq(combinedSpecificationMock), any(Function.class))).thenReturn(List.of());
+
+			final var result = service.deleteAssets(MUNICIPALITY_ID, request);
+
+			assertThat(result.getDeleted()).isZero();
+			assertThat(result.getNotFoundIds()).isEmpty();
+		}
+
+		verify(repositoryMock).findBy(eq(combinedSpecificationMock), any(Function.class));
+		verifyNoMoreInteractions(repositoryMock);
+		verifyNoInteractions(transactionTemplateMock, assetChangeRepositoryMock, assetSummaryCacheMock, partyAssetCacheMock);
 	}
 
 	@Test
@@ -338,6 +665,12 @@ class AssetServiceTest {
 
 		verify(repositoryMock).findByIdAndMunicipalityId(id, MUNICIPALITY_ID);
 		verify(repositoryMock).save(any(AssetEntity.class));
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(id, AssetChangeType.STATUS_CHANGED, BLOCKED);
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, entity.getAssetId());
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, partyId);
 	}
 
 	@Test
@@ -356,6 +689,118 @@ class AssetServiceTest {
 		verify(repositoryMock, never()).save(any());
 	}
 
+	@Test
+	void updateAssetStatusesByIds() {
+		final var changedId = UUID.randomUUID().toString();
+		final var unchangedId = UUID.randomUUID().toString();
+		final var missingId = UUID.randomUUID().toString();
+		final var request = AssetBulkStatusUpdateRequest.create()
+			.withIds(List.of(changedId, unchangedId, missingId))
+			.withStatus(BLOCKED)
+			.withStatusReason("LOST");
+
+		when(repositoryMock.findByMunicipalityIdAndIdInAndStatusNot(MUNICIPALITY_ID, request.getIds(), DRAFT)).thenReturn(List.of(
+			new TestStatusProjection(changedId, ACTIVE, null),
+			new TestStatusProjection(unchangedId, BLOCKED, "LOST")));
+		mockTransactionTemplate();
+
+		final var result = service.updateAssetStatuses(MUNICIPALITY_ID, request);
+
+		assertThat(result)
+			.extracting(AssetBulkUpdateResult::getId, AssetBulkUpdateResult::getOutcome)
+			.containsExactly(
+				tuple(changedId, BulkOutcome.UPDATED),
+				tuple(unchangedId, BulkOutcome.UNCHANGED),
+				tuple(missingId, BulkOutcome.NOT_FOUND));
+
+		verify(repositoryMock).findByMunicipalityIdAndIdInAndStatusNot(MUNICIPALITY_ID, request.getIds(), DRAFT);
+		verify(repositoryMock).updateStatusByMunicipalityIdAndIdIn(eq(MUNICIPALITY_ID), eq(List.of(changedId)), eq(BLOCKED), eq("LOST"), any(OffsetDateTime.class));
+		verify(assetChangeRepositoryMock).saveAll(changesCaptor.capture());
+		assertThat(changesCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(tuple(changedId, "party-" + changedId, AssetChangeType.STATUS_CHANGED, BLOCKED));
+		verify(assetSummaryCacheMock).evict(MUNICIPALITY_ID, "asset-" + changedId);
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, "party-" + changedId);
+		verify(transactionTemplateMock).execute(any());
+		verifyNoMoreInteractions(repositoryMock, assetChangeRepositoryMock, assetSummaryCacheMock, partyAssetCacheMock);
+	}
+
+	@Test
+	void updateAssetStatusesByIdsWhenNothingChanges() {
+		final var id = UUID.randomUUID().toString();
+		final var request = AssetBulkStatusUpdateRequest.create()
+			.withIds(List.of(id))
+			.withStatus(ACTIVE);
+
+		when(repositoryMock.findByMunicipalityIdAndIdInAndStatusNot(MUNICIPALITY_ID, request.getIds(), DRAFT)).thenReturn(List.of(new TestStatusProjection(id, ACTIVE, null)));
+
+		final var result = service.updateAssetStatuses(MUNICIPALITY_ID, request);
+
+		assertThat(result)
+			.extracting(AssetBulkUpdateResult::getId, AssetBulkUpdateResult::getOutcome)
+			.containsExactly(tuple(id, BulkOutcome.UNCHANGED));
+
+		verify(repositoryMock).findByMunicipalityIdAndIdInAndStatusNot(MUNICIPALITY_ID, request.getIds(), DRAFT);
+		verifyNoMoreInteractions(repositoryMock);
+		verifyNoInteractions(assetChangeRepositoryMock, transactionTemplateMock);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void updateAssetStatusesByFilter() {
+		final var filter = AssetSearchRequest.create().withPartyId(UUID.randomUUID().toString());
+		final var request = AssetBulkStatusUpdateRequest.create()
+			.withFilter(filter)
+			.withStatus(BLOCKED)
+			.withStatusReason("LOST");
+		final var ids = IntStream.range(0, BULK_CHUNK_SIZE + 1).mapToObj(_ -> UUID.randomUUID().toString()).toList();
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, filter)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(repositoryMock.findBy(eq(combinedSpecificationMock), any(Function.class))).thenReturn(ids.stream()
+				.<AssetStatusProjection>map(id -> new TestStatusProjection(id, ACTIVE, null))
+				.toList());
+			mockTransactionTemplate();
+
+			final var result = service.updateAssetStatuses(MUNICIPALITY_ID, request);
+
+			assertThat(result).hasSize(ids.size())
+				.extracting(AssetBulkUpdateResult::getOutcome)
+				.containsOnly(BulkOutcome.UPDATED);
+		}
+
+		verify(repositoryMock).updateStatusByMunicipalityIdAndIdIn(eq(MUNICIPALITY_ID), eq(ids.subList(0, BULK_CHUNK_SIZE)), eq(BLOCKED), eq("LOST"), any(OffsetDateTime.class));
+		verify(repositoryMock).updateStatusByMunicipalityIdAndIdIn(eq(MUNICIPALITY_ID), eq(ids.subList(BULK_CHUNK_SIZE, ids.size())), eq(BLOCKED), eq("LOST"), any(OffsetDateTime.class));
+		verify(transactionTemplateMock, times(2)).execute(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void updateAssetStatusesByFilterSelectingTooManyAssets() {
+		final var filter = AssetSearchRequest.create().withPartyId(UUID.randomUUID().toString());
+		final var request = AssetBulkStatusUpdateRequest.create()
+			.withFilter(filter)
+			.withStatus(BLOCKED);
+
+		try (final var _ = mockStatic(AssetSpecification.class)) {
+			when(AssetSpecification.createAssetSpecification(MUNICIPALITY_ID, filter)).thenReturn(specificationMock);
+			when(AssetSpecification.createAssetSpecificationExcludingDraftAsssets()).thenReturn(specificationExcludingDraftAsssetsMock);
+			when(specificationMock.and(specificationExcludingDraftAsssetsMock)).thenReturn(combinedSpecificationMock);
+			when(repositoryMock.findBy(eq(combinedSpecificationMock), any(Function.class))).thenReturn(IntStream.rangeClosed(0, BULK_FILTER_LIMIT)
+				.<AssetStatusProjection>mapToObj(_ -> new TestStatusProjection(UUID.randomUUID().toString(), ACTIVE, null))
+				.toList());
+
+			assertThatExceptionOfType(ThrowableProblem.class)
+				.isThrownBy(() -> service.updateAssetStatuses(MUNICIPALITY_ID, request))
+				.withMessage("Too many assets selected: The filter selects more than " + BULK_FILTER_LIMIT + " assets, narrow it down or update the assets in several requests");
+		}
+
+		verify(repositoryMock, never()).updateStatusByMunicipalityIdAndIdIn(any(), any(), any(), any(), any());
+		verifyNoInteractions(assetChangeRepositoryMock, transactionTemplateMock);
+	}
+
 	@Test
 	void copyAssetSetsOriginalToReplacedAndCreatesDraft() {
 		final var originalId = UUID.randomUUID().toString();
@@ -377,6 +822,11 @@ class AssetServiceTest {
 		assertThat(savedEntity.getStatus()).isEqualTo(DRAFT);
 		assertThat(savedEntity.getReplacesId()).isEqualTo(originalId);
 		assertThat(result).isEqualTo(newId);
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getPartyId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(newId, partyId, AssetChangeType.CREATED, DRAFT);
+		verify(partyAssetCacheMock).evict(MUNICIPALITY_ID, partyId);
 	}
 
 	@Test
@@ -414,6 +864,14 @@ class AssetServiceTest {
 		verify(repositoryMock, org.mockito.Mockito.times(2)).save(entityCaptor.capture());
 		assertThat(entityCaptor.getAllValues()).anySatisfy(e -> assertThat(e.getStatus()).isEqualTo(REPLACED));
 		assertThat(entityCaptor.getAllValues()).anySatisfy(e -> assertThat(e.getStatus()).isEqualTo(ACTIVE));
+		verify(assetChangeRepositoryMock, times(2)).save(changeCaptor.capture());
+		assertThat(changeCaptor.getAllValues())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(
+				tuple(originalId, AssetChangeType.REPLACED, REPLACED),
+				tuple(draftId, AssetChangeType.STATUS_CHANGED, ACTIVE));
+		verify(assetSummaryCacheMock, times(2)).evict(MUNICIPALITY_ID, original.getAssetId());
+		verify(partyAssetCacheMock, times(2)).evict(MUNICIPALITY_ID, partyId);
 	}
 
 	@Test
@@ -487,6 +945,10 @@ class AssetServiceTest {
 
 		verify(repositoryMock).findByIdAndMunicipalityId(id, MUNICIPALITY_ID);
 		verify(repositoryMock).save(any(AssetEntity.class));
+		verify(assetChangeRepositoryMock).save(changeCaptor.capture());
+		assertThat(changeCaptor.getValue())
+			.extracting(AssetChangeEntity::getAssetId, AssetChangeEntity::getChangeType, AssetChangeEntity::getStatus)
+			.containsExactly(id, AssetChangeType.UPDATED, DRAFT);
 	}
 
 	@Test
@@ -504,4 +966,78 @@ class AssetServiceTest {
 		verify(repositoryMock).findByIdAndMunicipalityId(id, MUNICIPALITY_ID);
 		verify(repositoryMock, never()).save(any());
 	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private record TestSummaryProjection(String id, String assetId, String type, Status status, String statusReason, LocalDate issued, LocalDate validTo) implements AssetSummaryProjection {
+
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public String getAssetId() {
+			return assetId;
+		}
+
+		@Override
+		public String getType() {
+			return type;
+		}
+
+		@Override
+		public Status getStatus() {
+			return status;
+		}
+
+		@Override
+		public String getStatusReason() {
+			return statusReason;
+		}
+
+		@Override
+		public LocalDate getIssued() {
+			return issued;
+		}
+
+		@Override
+		public LocalDate getValidTo() {
+			return validTo;
+		}
+	}
+
+	private record TestStatusProjection(String id, String assetId, String partyId, Status status, String statusReason) implements AssetStatusProjection {
+
+		private TestStatusProjection(final String id, final Status status, final String statusReason) {
+			this(id, "asset-" + id, "party-" + id, status, statusReason);
+		}
+
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public String getAssetId() {
+			return assetId;
+		}
+
+		@Override
+		public String getPartyId() {
+			return partyId;
+		}
+
+		@Override
+		public Status getStatus() {
+			return status;
+		}
+
+		@Override
+		public String getStatusReason() {
+			return statusReason;
+		}
+	}
 }
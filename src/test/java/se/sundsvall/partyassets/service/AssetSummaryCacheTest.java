@@ -0,0 +1,109 @@
+package se.sundsvall.partyassets.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.partyassets.api.model.AssetSummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.service.AssetSummaryCache.CACHE_NAME;
+
+class AssetSummaryCacheTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String ASSET_ID = "PRH-123456789";
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<Optional<AssetSummary>> loader = () -> {
+		loads.incrementAndGet();
+		return Optional.of(AssetSummary.create().withAssetId(ASSET_ID));
+	};
+
+	private SimpleMeterRegistry meterRegistry;
+	private AssetSummaryCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new AssetSummaryCache(new AssetSummaryCacheProperties(Duration.ofMinutes(1), 100), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void getCachesLoadedValue() {
+		assertThat(cache.get(MUNICIPALITY_ID, ASSET_ID, loader)).hasValueSatisfying(summary -> assertThat(summary.getAssetId()).isEqualTo(ASSET_ID));
+		assertThat(cache.get(MUNICIPALITY_ID, ASSET_ID, loader)).isPresent();
+
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.find("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void getCachesEmptyResult() {
+		final Supplier<Optional<AssetSummary>> emptyLoader = () -> {
+			loads.incrementAndGet();
+			return Optional.empty();
+		};
+
+		assertThat(cache.get(MUNICIPALITY_ID, ASSET_ID, emptyLoader)).isEmpty();
+		assertThat(cache.get(MUNICIPALITY_ID, ASSET_ID, emptyLoader)).isEmpty();
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void getIsKeyedOnMunicipality() {
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+		cache.get("2262", ASSET_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evict() {
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		cache.evict(MUNICIPALITY_ID, ASSET_ID);
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictWithNullAssetId() {
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		cache.evict(MUNICIPALITY_ID, null);
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictWithinTransactionEvictsAgainAfterCompletion() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(MUNICIPALITY_ID, ASSET_ID);
+		// Loaded by a concurrent lookup before the transaction is committed
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		cache.get(MUNICIPALITY_ID, ASSET_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+}
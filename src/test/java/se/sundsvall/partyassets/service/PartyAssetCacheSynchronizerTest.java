@@ -0,0 +1,145 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartyAssetCacheSynchronizerTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int PAGE_SIZE = 2;
+
+	@Mock
+	private AssetChangeRepository repositoryMock;
+
+	@Mock
+	private PartyAssetCache cacheMock;
+
+	private PartyAssetCacheSynchronizer synchronizer;
+
+	@BeforeEach
+	void setUp() {
+		synchronizer = new PartyAssetCacheSynchronizer(repositoryMock, cacheMock, new PartyAssetCacheProperties(Duration.ofMinutes(5), 100, Duration.ofSeconds(2), PAGE_SIZE));
+	}
+
+	@Test
+	void synchronizeInitializesCursor() {
+		when(repositoryMock.findMaxSequenceNumber()).thenReturn(10L);
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(10L, Limit.of(PAGE_SIZE))).thenReturn(List.of());
+
+		synchronizer.synchronize();
+
+		assertThat(synchronizer.getCursor()).isEqualTo(10L);
+		verify(cacheMock).evictAll();
+		verifyNoMoreInteractions(cacheMock);
+	}
+
+	@Test
+	void synchronizeInitializesCursorWithEmptyLog() {
+		when(repositoryMock.findMaxSequenceNumber()).thenReturn(0L);
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenReturn(List.of());
+
+		synchronizer.synchronize();
+
+		assertThat(synchronizer.getCursor()).isZero();
+	}
+
+	@Test
+	void synchronizeEvictsChangedPartiesAndMovesCursor() {
+		initialize();
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenReturn(List.of(createChange(7L, 1L, "party-1")));
+
+		synchronizer.synchronize();
+
+		verify(cacheMock).evict(MUNICIPALITY_ID, "party-1");
+		// The cursor follows the sequence number, not the id
+		assertThat(synchronizer.getCursor()).isEqualTo(1L);
+	}
+
+	@Test
+	void synchronizeReadsFullPagesUntilDone() {
+		initialize();
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenReturn(List.of(createChange(1L, "party-1"), createChange(2L, "party-2")));
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(2L, Limit.of(PAGE_SIZE))).thenReturn(List.of(createChange(3L, "party-3")));
+
+		synchronizer.synchronize();
+
+		final var inOrder = inOrder(cacheMock);
+		inOrder.verify(cacheMock).evict(MUNICIPALITY_ID, "party-1");
+		inOrder.verify(cacheMock).evict(MUNICIPALITY_ID, "party-2");
+		inOrder.verify(cacheMock).evict(MUNICIPALITY_ID, "party-3");
+		assertThat(synchronizer.getCursor()).isEqualTo(3L);
+	}
+
+	@Test
+	void synchronizeEvictsAllForChangeWithoutParty() {
+		initialize();
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenReturn(List.of(createChange(1L, null)));
+
+		synchronizer.synchronize();
+
+		verify(cacheMock).evictAll();
+		verifyNoMoreInteractions(cacheMock);
+		assertThat(synchronizer.getCursor()).isEqualTo(1L);
+	}
+
+	@Test
+	void synchronizeKeepsCursorWhenReadFails() {
+		initialize();
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenThrow(new IllegalStateException("Database unavailable"));
+
+		synchronizer.synchronize();
+
+		assertThat(synchronizer.getCursor()).isZero();
+		verifyNoInteractions(cacheMock);
+	}
+
+	@Test
+	void startAndStop() {
+		synchronizer.start();
+		assertThat(synchronizer.isRunning()).isTrue();
+
+		synchronizer.stop();
+		assertThat(synchronizer.isRunning()).isFalse();
+	}
+
+	private void initialize() {
+		when(repositoryMock.findMaxSequenceNumber()).thenReturn(0L);
+		when(repositoryMock.findBySequenceNumberGreaterThanOrderBySequenceNumber(0L, Limit.of(PAGE_SIZE))).thenReturn(List.of());
+		synchronizer.synchronize();
+		clearInvocations(cacheMock);
+	}
+
+	private static AssetChangeEntity createChange(final long sequenceNumber, final String partyId) {
+		return createChange(sequenceNumber, sequenceNumber, partyId);
+	}
+
+	private static AssetChangeEntity createChange(final long id, final long sequenceNumber, final String partyId) {
+		return AssetChangeEntity.create()
+			.withId(id)
+			.withSequenceNumber(sequenceNumber)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withAssetId("asset-" + id)
+			.withPartyId(partyId)
+			.withChangeType(AssetChangeType.UPDATED)
+			.withCreated(OffsetDateTime.now());
+	}
+}
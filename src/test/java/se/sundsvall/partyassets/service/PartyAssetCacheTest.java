@@ -0,0 +1,108 @@
+package se.sundsvall.partyassets.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.partyassets.api.model.Asset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.partyassets.service.PartyAssetCache.CACHE_NAME;
+
+class PartyAssetCacheTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String PARTY_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+	private final AtomicInteger loads = new AtomicInteger();
+	private final Supplier<List<Asset>> loader = () -> {
+		loads.incrementAndGet();
+		return List.of(Asset.create().withPartyId(PARTY_ID));
+	};
+
+	private SimpleMeterRegistry meterRegistry;
+	private PartyAssetCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new PartyAssetCache(new PartyAssetCacheProperties(Duration.ofMinutes(1), 100, Duration.ofSeconds(2), 1000), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void getCachesLoadedValue() {
+		assertThat(cache.get(MUNICIPALITY_ID, PARTY_ID, loader)).extracting(Asset::getPartyId).containsExactly(PARTY_ID);
+		assertThat(cache.get(MUNICIPALITY_ID, PARTY_ID, loader)).hasSize(1);
+
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.find("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void getIsKeyedOnMunicipality() {
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+		cache.get("2262", PARTY_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evict() {
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		cache.evict(MUNICIPALITY_ID, PARTY_ID);
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void evictWithNullPartyId() {
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		cache.evict(MUNICIPALITY_ID, null);
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void evictAll() {
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+		cache.get("2262", PARTY_ID, loader);
+
+		cache.evictAll();
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+		cache.get("2262", PARTY_ID, loader);
+
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void evictWithinTransactionEvictsAgainAfterCompletion() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		cache.evict(MUNICIPALITY_ID, PARTY_ID);
+		// Loaded by a concurrent search before the transaction is committed
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+		TransactionSynchronizationManager.getSynchronizations().forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		cache.get(MUNICIPALITY_ID, PARTY_ID, loader);
+
+		assertThat(loads).hasValue(2);
+	}
+}
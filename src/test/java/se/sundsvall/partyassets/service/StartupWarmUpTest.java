@@ -0,0 +1,100 @@
+package se.sundsvall.partyassets.service;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import se.sundsvall.partyassets.integration.db.AssetChangeRepository;
+import se.sundsvall.partyassets.integration.db.AssetRepository;
+import se.sundsvall.partyassets.integration.db.StatusRepository;
+import se.sundsvall.partyassets.integration.oauth2.OAuth2TokenCache;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.partyassets.api.model.Status.DRAFT;
+import static se.sundsvall.partyassets.service.StartupWarmUp.WARM_UP_ID;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmUpTest {
+
+	private static final List<String> REGISTRATION_IDS = List.of("party", "relation");
+
+	@Mock
+	private StatusRepository statusRepositoryMock;
+
+	@Mock
+	private StatusService statusServiceMock;
+
+	@Mock
+	private AssetRepository assetRepositoryMock;
+
+	@Mock
+	private AssetChangeRepository assetChangeRepositoryMock;
+
+	@Mock
+	private OAuth2TokenCache tokenCacheMock;
+
+	@Test
+	void warmUp() {
+		when(statusRepositoryMock.findDistinctMunicipalityIds()).thenReturn(List.of("2281", "2260"));
+
+		createWarmUp(Duration.ofMinutes(1)).warmUp();
+
+		verify(statusServiceMock).getStatusReasons("2281");
+		verify(statusServiceMock).getStatusReasons("2260");
+		REGISTRATION_IDS.forEach(registrationId -> verify(tokenCacheMock).getToken(registrationId));
+		verify(assetRepositoryMock).findAll(any(Specification.class), any(Sort.class));
+		verify(assetRepositoryMock).findByMunicipalityIdAndPartyIdInAndStatusNot(WARM_UP_ID, List.of(WARM_UP_ID), DRAFT);
+		verify(assetRepositoryMock).findFirstByMunicipalityIdAndAssetIdAndStatusNotOrderByCreatedDesc(WARM_UP_ID, WARM_UP_ID, DRAFT);
+		verify(assetChangeRepositoryMock).findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(WARM_UP_ID, Long.MAX_VALUE, Limit.of(1));
+	}
+
+	@Test
+	void warmUpContinuesAfterFailingStep() {
+		when(statusRepositoryMock.findDistinctMunicipalityIds()).thenThrow(new IllegalStateException("database unavailable"));
+		when(tokenCacheMock.getToken("party")).thenThrow(new IllegalStateException("token endpoint unavailable"));
+
+		createWarmUp(Duration.ofMinutes(1)).warmUp();
+
+		verifyNoInteractions(statusServiceMock);
+		verify(tokenCacheMock).getToken("relation");
+		verify(assetRepositoryMock).findByMunicipalityIdAndPartyIdInAndStatusNot(eq(WARM_UP_ID), anyList(), eq(DRAFT));
+	}
+
+	@Test
+	void warmUpSkipsStepsAfterTimeout() {
+		createWarmUp(Duration.ZERO).warmUp();
+
+		verifyNoInteractions(statusRepositoryMock, statusServiceMock, tokenCacheMock, assetRepositoryMock, assetChangeRepositoryMock);
+	}
+
+	private StartupWarmUp createWarmUp(final Duration timeout) {
+		final var clientRegistrationRepository = new InMemoryClientRegistrationRepository(REGISTRATION_IDS.stream()
+			.map(StartupWarmUpTest::createRegistration)
+			.toList());
+
+		return new StartupWarmUp(statusRepositoryMock, statusServiceMock, assetRepositoryMock, assetChangeRepositoryMock, clientRegistrationRepository, tokenCacheMock,
+			new StartupWarmUpProperties(true, timeout));
+	}
+
+	private static ClientRegistration createRegistration(final String registrationId) {
+		return ClientRegistration.withRegistrationId(registrationId)
+			.authorizationGrantType(AuthorizationGrantType.CLIENT_CREDENTIALS)
+			.clientId("client-id")
+			.clientSecret("client-secret")
+			.tokenUri("http://localhost/token")
+			.build();
+	}
+}
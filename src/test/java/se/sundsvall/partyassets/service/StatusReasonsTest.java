@@ -0,0 +1,58 @@
+package se.sundsvall.partyassets.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.partyassets.api.model.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StatusReasonsTest {
+
+	@Test
+	void lookups() {
+		final var statusReasons = StatusReasons.of(Map.of(Status.BLOCKED, List.of("IRREGULARITY", "LOST")));
+
+		assertThat(statusReasons.hasReasons(Status.BLOCKED)).isTrue();
+		assertThat(statusReasons.hasReasons(Status.ACTIVE)).isFalse();
+		assertThat(statusReasons.isValidReason(Status.BLOCKED, "LOST")).isTrue();
+		assertThat(statusReasons.isValidReason(Status.BLOCKED, "STOLEN")).isFalse();
+		assertThat(statusReasons.isValidReason(Status.ACTIVE, "LOST")).isFalse();
+		assertThat(statusReasons.isValidReason(null, null)).isFalse();
+		assertThat(statusReasons.getReasons(Status.BLOCKED)).containsExactly("IRREGULARITY", "LOST");
+		assertThat(statusReasons.getReasons(Status.ACTIVE)).isEmpty();
+	}
+
+	@Test
+	void reasonsKeepOrderInMessages() {
+		final var statusReasons = StatusReasons.of(Map.of(Status.BLOCKED, List.of("LOST", "IRREGULARITY")));
+
+		assertThat(statusReasons.getReasons(Status.BLOCKED)).hasToString("[LOST, IRREGULARITY]");
+		assertThat(statusReasons.getReasons(Status.ACTIVE)).hasToString("[]");
+	}
+
+	@Test
+	void snapshotIsImmutable() {
+		final var reasons = new ArrayList<>(List.of("LOST"));
+		final var statusReasons = StatusReasons.of(Map.of(Status.BLOCKED, reasons));
+
+		reasons.add("STOLEN");
+
+		assertThat(statusReasons.getReasons(Status.BLOCKED)).containsExactly("LOST");
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> statusReasons.getReasons(Status.BLOCKED).add("STOLEN"));
+	}
+
+	@Test
+	void nullReasons() {
+		final var reasons = new HashMap<Status, List<String>>();
+		reasons.put(Status.EXPIRED, null);
+
+		final var statusReasons = StatusReasons.of(reasons);
+
+		assertThat(statusReasons.hasReasons(Status.EXPIRED)).isTrue();
+		assertThat(statusReasons.getReasons(Status.EXPIRED)).isEmpty();
+	}
+}
@@ -19,6 +19,7 @@ import se.sundsvall.partyassets.integration.db.model.StatusEntityId;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.groups.Tuple.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -58,6 +59,60 @@ class StatusServiceTest {
 			.containsExactly(tuple(status, reasons));
 	}
 
+	@Test
+	void getStatusReasonsIsBuiltOnce() {
+		// Arrange
+		when(repositoryMock.findAllByMunicipalityId(MUNICIPALITY_ID)).thenReturn(List.of(StatusEntity.create().withMunicipalityId(MUNICIPALITY_ID).withName(Status.BLOCKED.name()).withReasons(List.of("LOST"))));
+
+		// Act
+		final var first = service.getStatusReasons(MUNICIPALITY_ID);
+		final var second = service.getStatusReasons(MUNICIPALITY_ID);
+
+		// Assert
+		verify(repositoryMock).findAllByMunicipalityId(MUNICIPALITY_ID);
+		verifyNoMoreInteractions(repositoryMock);
+		assertThat(second).isSameAs(first);
+		assertThat(first.isValidReason(Status.BLOCKED, "LOST")).isTrue();
+		assertThat(first.hasReasons(Status.ACTIVE)).isFalse();
+	}
+
+	@Test
+	void getStatusReasonsIsRebuiltAfterCreate() {
+		// Arrange
+		when(repositoryMock.findAllByMunicipalityId(MUNICIPALITY_ID))
+			.thenReturn(List.of())
+			.thenReturn(List.of(StatusEntity.create().withMunicipalityId(MUNICIPALITY_ID).withName(Status.BLOCKED.name()).withReasons(List.of("LOST"))));
+
+		// Act
+		final var before = service.getStatusReasons(MUNICIPALITY_ID);
+		service.createReasons(MUNICIPALITY_ID, Status.BLOCKED, List.of("LOST"));
+		final var after = service.getStatusReasons(MUNICIPALITY_ID);
+
+		// Assert
+		verify(repositoryMock, times(2)).findAllByMunicipalityId(MUNICIPALITY_ID);
+		assertThat(before.hasReasons(Status.BLOCKED)).isFalse();
+		assertThat(after.isValidReason(Status.BLOCKED, "LOST")).isTrue();
+	}
+
+	@Test
+	void getStatusReasonsIsRebuiltAfterDelete() {
+		// Arrange
+		when(repositoryMock.findAllByMunicipalityId(MUNICIPALITY_ID))
+			.thenReturn(List.of(StatusEntity.create().withMunicipalityId(MUNICIPALITY_ID).withName(Status.BLOCKED.name()).withReasons(List.of("LOST"))))
+			.thenReturn(List.of());
+		when(repositoryMock.existsByNameAndMunicipalityId(Status.BLOCKED.name(), MUNICIPALITY_ID)).thenReturn(true);
+
+		// Act
+		final var before = service.getStatusReasons(MUNICIPALITY_ID);
+		service.deleteReasons(MUNICIPALITY_ID, Status.BLOCKED);
+		final var after = service.getStatusReasons(MUNICIPALITY_ID);
+
+		// Assert
+		verify(repositoryMock, times(2)).findAllByMunicipalityId(MUNICIPALITY_ID);
+		assertThat(before.hasReasons(Status.BLOCKED)).isTrue();
+		assertThat(after.hasReasons(Status.BLOCKED)).isFalse();
+	}
+
 	@Test
 	void getExistingReasons() {
 		// Arrange
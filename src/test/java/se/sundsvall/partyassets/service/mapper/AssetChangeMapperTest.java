@@ -0,0 +1,67 @@
+package se.sundsvall.partyassets.service.mapper;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.partyassets.api.model.AssetChange;
+import se.sundsvall.partyassets.api.model.AssetChangeType;
+import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.model.AssetChangeEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AssetChangeMapperTest {
+
+	@Test
+	void toAssetChangeEntity() {
+		final var entity = AssetChangeMapper.toAssetChangeEntity("2281", "assetId", "partyId", AssetChangeType.CREATED, Status.ACTIVE);
+
+		assertThat(entity.getId()).isNull();
+		assertThat(entity.getMunicipalityId()).isEqualTo("2281");
+		assertThat(entity.getAssetId()).isEqualTo("assetId");
+		assertThat(entity.getPartyId()).isEqualTo("partyId");
+		assertThat(entity.getChangeType()).isEqualTo(AssetChangeType.CREATED);
+		assertThat(entity.getStatus()).isEqualTo(Status.ACTIVE);
+		assertThat(entity.getCreated()).isNull();
+	}
+
+	@Test
+	void toAssetChange() {
+		final var entity = createEntity(1042L);
+
+		final var change = AssetChangeMapper.toAssetChange(entity);
+
+		assertThat(change.getCursor()).isEqualTo(entity.getSequenceNumber());
+		assertThat(change.getId()).isEqualTo(entity.getAssetId());
+		assertThat(change.getType()).isEqualTo(entity.getChangeType());
+		assertThat(change.getStatus()).isEqualTo(entity.getStatus());
+		assertThat(change.getChanged()).isEqualTo(entity.getCreated());
+	}
+
+	@Test
+	void toAssetChanges() {
+		final var changes = AssetChangeMapper.toAssetChanges(List.of(createEntity(5L), createEntity(7L)), 4L);
+
+		assertThat(changes.getChanges()).extracting(AssetChange::getCursor).containsExactly(5L, 7L);
+		assertThat(changes.getCursor()).isEqualTo(7L);
+	}
+
+	@Test
+	void toAssetChangesWithoutChangesKeepsCursor() {
+		final var changes = AssetChangeMapper.toAssetChanges(List.of(), 4L);
+
+		assertThat(changes.getChanges()).isEmpty();
+		assertThat(changes.getCursor()).isEqualTo(4L);
+	}
+
+	private static AssetChangeEntity createEntity(final long sequenceNumber) {
+		return AssetChangeEntity.create()
+			.withId(sequenceNumber + 100)
+			.withSequenceNumber(sequenceNumber)
+			.withMunicipalityId("2281")
+			.withAssetId("assetId-" + sequenceNumber)
+			.withChangeType(AssetChangeType.STATUS_CHANGED)
+			.withStatus(Status.BLOCKED)
+			.withCreated(OffsetDateTime.now());
+	}
+}
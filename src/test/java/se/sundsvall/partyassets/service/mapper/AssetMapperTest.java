@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import se.sundsvall.partyassets.TestFactory;
 import se.sundsvall.partyassets.api.model.DraftAssetUpdateRequest;
 import se.sundsvall.partyassets.api.model.Status;
+import se.sundsvall.partyassets.integration.db.model.AssetSummaryProjection;
 import se.sundsvall.partyassets.integration.db.model.PartyType;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -35,6 +36,30 @@ class AssetMapperTest {
 		assertThat(assetParam.getValue()).hasToString(entityParam.getValue());
 	}
 
+	@Test
+	void toAssetWritesStoredJsonAsIs() {
+
+		final var storedValue = "{\"firstName\":\"John\", \"lastName\":\"Doe\"}";
+		final var entity = TestFactory.getAssetEntity(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+		entity.getJsonParameters().getFirst().setValue(storedValue);
+
+		final var asset = AssetMapper.toAsset(entity);
+
+		assertThat(asset.getJsonParameters()).hasSize(1);
+		assertThat(asset.getJsonParameters().getFirst().getValue()).hasToString(storedValue);
+	}
+
+	@Test
+	void toAssetSummary() {
+
+		final var projection = new TestSummaryProjection(UUID.randomUUID().toString(), "PRH-123456789", "PERMIT", Status.BLOCKED, "statusReason", LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+
+		final var summary = AssetMapper.toAssetSummary(projection);
+
+		assertThat(summary).hasNoNullFieldsOrProperties();
+		assertThat(summary).usingRecursiveComparison().isEqualTo(projection);
+	}
+
 	@Test
 	void toEntity() {
 
@@ -229,4 +254,42 @@ class AssetMapperTest {
 		assertThat(entity.getId()).isEqualTo(original.getId());
 		assertThat(entity.getMunicipalityId()).isEqualTo(original.getMunicipalityId());
 	}
+
+	private record TestSummaryProjection(String id, String assetId, String type, Status status, String statusReason, LocalDate issued, LocalDate validTo) implements AssetSummaryProjection {
+
+		@Override
+		public String getId() {
+			return id;
+		}
+
+		@Override
+		public String getAssetId() {
+			return assetId;
+		}
+
+		@Override
+		public String getType() {
+			return type;
+		}
+
+		@Override
+		public Status getStatus() {
+			return status;
+		}
+
+		@Override
+		public String getStatusReason() {
+			return statusReason;
+		}
+
+		@Override
+		public LocalDate getIssued() {
+			return issued;
+		}
+
+		@Override
+		public LocalDate getValidTo() {
+			return validTo;
+		}
+	}
 }
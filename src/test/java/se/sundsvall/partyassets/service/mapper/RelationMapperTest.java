@@ -3,48 +3,61 @@ package se.sundsvall.partyassets.service.mapper;
 import org.junit.jupiter.api.Test;
 import se.sundsvall.dept44.support.Relation;
 import se.sundsvall.dept44.support.Relation.ResourceIdentifier;
+import se.sundsvall.partyassets.integration.db.model.RelationOutboxEntity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class RelationMapperTest {
 
 	@Test
-	void toRelation() {
+	void toRelationOutboxEntity() {
 		// Arrange
-		final var type = "LINK";
+		final var municipalityId = "2281";
 		final var assetId = "asset-123";
-		final var sourceId = "source-id";
-		final var sourceType = "case";
-		final var sourceService = "caseservice";
-		final var sourceNamespace = "MY_NAMESPACE";
-		final var relation = Relation.create(type,
-			ResourceIdentifier.create(sourceId, sourceType, sourceService, sourceNamespace),
+		final var relation = Relation.create("LINK",
+			ResourceIdentifier.create("source-id", "case", "caseservice", "MY_NAMESPACE"),
 			ResourceIdentifier.create("target-id", "asset", "partyassets", null));
 
 		// Act
-		final var result = RelationMapper.toRelation(type, relation, assetId);
+		final var result = RelationMapper.toRelationOutboxEntity(municipalityId, relation, assetId);
 
 		// Assert
 		assertThat(result).isNotNull();
-		assertThat(result.getType()).isEqualTo(type);
-		assertThat(result.getSource().getResourceId()).isEqualTo(sourceId);
-		assertThat(result.getSource().getType()).isEqualTo(sourceType);
-		assertThat(result.getSource().getService()).isEqualTo(sourceService);
-		assertThat(result.getSource().getNamespace()).isEqualTo(sourceNamespace);
-		assertThat(result.getTarget().getResourceId()).isEqualTo(assetId);
-		assertThat(result.getTarget().getType()).isEqualTo("asset");
-		assertThat(result.getTarget().getService()).isEqualTo("partyassets");
+		assertThat(result.getId()).isNull();
+		assertThat(result.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(result.getAssetId()).isEqualTo(assetId);
+		assertThat(result.getRelationType()).isEqualTo("LINK");
+		assertThat(result.getSourceResourceId()).isEqualTo("source-id");
+		assertThat(result.getSourceType()).isEqualTo("case");
+		assertThat(result.getSourceService()).isEqualTo("caseservice");
+		assertThat(result.getSourceNamespace()).isEqualTo("MY_NAMESPACE");
+		assertThat(result.getAttempts()).isZero();
 	}
 
 	@Test
-	void toRelationWithNullSource() {
+	void toRelationFromOutboxEntity() {
 		// Arrange
-		final var relation = new Relation().withType("LINK");
+		final var entity = RelationOutboxEntity.create()
+			.withMunicipalityId("2281")
+			.withAssetId("asset-123")
+			.withRelationType("LINK")
+			.withSourceResourceId("source-id")
+			.withSourceType("case")
+			.withSourceService("caseservice")
+			.withSourceNamespace("MY_NAMESPACE");
 
 		// Act
-		final var result = RelationMapper.toRelation("LINK", relation, "asset-123");
+		final var result = RelationMapper.toRelation(entity);
 
 		// Assert
-		assertThat(result).isNull();
+		assertThat(result).isNotNull();
+		assertThat(result.getType()).isEqualTo("LINK");
+		assertThat(result.getSource().getResourceId()).isEqualTo("source-id");
+		assertThat(result.getSource().getType()).isEqualTo("case");
+		assertThat(result.getSource().getService()).isEqualTo("caseservice");
+		assertThat(result.getSource().getNamespace()).isEqualTo("MY_NAMESPACE");
+		assertThat(result.getTarget().getResourceId()).isEqualTo("asset-123");
+		assertThat(result.getTarget().getType()).isEqualTo("asset");
+		assertThat(result.getTarget().getService()).isEqualTo("partyassets");
 	}
 }
@@ -47,6 +47,23 @@ class StatusMapperTest {
 				tuple(Status.EXPIRED, expiredReasons));
 	}
 
+	@Test
+	void toStatusReasons() {
+		// Arrange
+		final var entities = List.of(
+			StatusEntity.create().withName(Status.BLOCKED.name()).withReasons(List.of("B1", "B2")),
+			StatusEntity.create().withName(Status.EXPIRED.name()).withReasons(List.of()));
+
+		// Act
+		final var statusReasons = StatusMapper.toStatusReasons(entities);
+
+		// Assert
+		assertThat(statusReasons.getReasons(Status.BLOCKED)).containsExactly("B1", "B2");
+		assertThat(statusReasons.hasReasons(Status.EXPIRED)).isTrue();
+		assertThat(statusReasons.getReasons(Status.EXPIRED)).isEmpty();
+		assertThat(statusReasons.hasReasons(Status.ACTIVE)).isFalse();
+	}
+
 	@ParameterizedTest
 	@MethodSource("toEntityArgumentProvider")
 	void toEntity(final List<String> reasons, final List<String> expectedReasons) {
@@ -1,6 +1,6 @@
 
     create table additional_parameter (
-        asset_id varchar(255) not null,
+        asset_id binary(16) not null,
         parameter_key varchar(255) not null,
         parameter_value varchar(255) not null,
         primary key (asset_id, parameter_key)
@@ -11,9 +11,9 @@
         valid_to date,
         created datetime(6),
         updated datetime(6),
+        id binary(16) not null,
         asset_id varchar(255),
         description varchar(255),
-        id varchar(255) not null,
         municipality_id varchar(255),
         origin varchar(255),
         party_id varchar(255) not null,
@@ -25,20 +25,48 @@
         primary key (id)
     ) engine=InnoDB;
 
-    create table asset_json_parameter (
+    create table asset_change (
+        id bigint not null auto_increment,
+        created datetime(6),
+        sequence_number bigint,
         asset_id varchar(255) not null,
-        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        party_id varchar(255),
+        change_type enum ('CREATED','DELETED','EXPIRED','REPLACED','STATUS_CHANGED','UPDATED') not null,
+        status enum ('ACTIVE','BLOCKED','DRAFT','EXPIRED','REPLACED','TEMPORARY'),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table asset_json_parameter (
+        asset_id binary(16) not null,
+        id binary(16) not null,
         parameter_key varchar(255),
         schema_id varchar(255) not null,
-        parameter_value longtext,
+        parameter_value json,
         primary key (id)
     ) engine=InnoDB;
 
     create table case_reference_id (
-        asset_id varchar(255) not null,
+        asset_id binary(16) not null,
         case_reference_id varchar(255) not null
     ) engine=InnoDB;
 
+    create table relation_outbox (
+        attempts integer not null,
+        created datetime(6),
+        next_attempt datetime(6) not null,
+        asset_id varchar(255) not null,
+        id varchar(255) not null,
+        last_error varchar(255),
+        municipality_id varchar(255) not null,
+        relation_type varchar(255) not null,
+        source_namespace varchar(255),
+        source_resource_id varchar(255),
+        source_service varchar(255),
+        source_type varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
     create table status (
         created datetime(6),
         updated datetime(6),
@@ -56,15 +84,45 @@
     create index idx_additional_parameter_asset_id 
        on additional_parameter (asset_id);
 
+    create index idx_additional_parameter_key_value_asset_id 
+       on additional_parameter (parameter_key, parameter_value, asset_id);
+
     create index idx_asset_municipality_id 
        on asset (municipality_id);
 
+    create index idx_asset_municipality_id_asset_id 
+       on asset (municipality_id, asset_id);
+
+    create index idx_asset_municipality_id_party_id 
+       on asset (municipality_id, party_id);
+
+    create index idx_asset_municipality_id_updated_created 
+       on asset (municipality_id, updated, created);
+
+    create index idx_asset_municipality_id_valid_to 
+       on asset (municipality_id, valid_to);
+
+    create index idx_asset_change_municipality_id_id 
+       on asset_change (municipality_id, id);
+
+    create index idx_asset_change_municipality_id_sequence_number 
+       on asset_change (municipality_id, sequence_number);
+
+    create index idx_asset_json_parameter_asset_id_parameter_key 
+       on asset_json_parameter (asset_id, parameter_key);
+
     create index idx_case_reference_id_asset_id 
        on case_reference_id (asset_id);
 
+    create index idx_relation_outbox_next_attempt 
+       on relation_outbox (next_attempt);
+
     create index idx_status_reason_status_name 
        on status_reason (status_name, municipality_id);
 
+    alter table if exists asset_change 
+       add constraint idx_asset_change_sequence_number unique (sequence_number);
+
     alter table if exists additional_parameter 
        add constraint fk_additional_parameter_asset_id 
        foreign key (asset_id) 
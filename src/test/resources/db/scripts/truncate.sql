@@ -2,7 +2,9 @@ SET FOREIGN_KEY_CHECKS = 0;
 TRUNCATE table additional_parameter;
 TRUNCATE table case_reference_id;
 TRUNCATE table asset;
+TRUNCATE table asset_change;
 TRUNCATE table asset_json_parameter;
+TRUNCATE table relation_outbox;
 TRUNCATE table status;
 TRUNCATE table status_reason;
 SET FOREIGN_KEY_CHECKS = 1;